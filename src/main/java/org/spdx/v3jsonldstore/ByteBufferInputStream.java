@@ -0,0 +1,120 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Input stream reading directly from a byte buffer, typically a memory mapped region of a file
+ *
+ */
+class ByteBufferInputStream extends InputStream {
+
+	/**
+	 * Largest region which can be mapped into a single buffer
+	 */
+	static final long MAX_MAPPED_REGION = Integer.MAX_VALUE;
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * @param buffer buffer to read from - the stream reads from the buffer's position to its limit
+	 */
+	ByteBufferInputStream(ByteBuffer buffer) {
+		Objects.requireNonNull(buffer, "Buffer must not be null");
+		this.buffer = buffer.slice();
+	}
+
+	/**
+	 * Map the entire contents of a file channel into memory
+	 * @param channel channel to map
+	 * @return buffers for consecutive regions of the channel, each no larger than <code>MAX_MAPPED_REGION</code>
+	 * @throws IOException on errors mapping the channel
+	 */
+	static List<ByteBuffer> map(FileChannel channel) throws IOException {
+		long size = channel.size();
+		List<ByteBuffer> retval = new ArrayList<>();
+		long position = 0;
+		while (position < size) {
+			long regionSize = Math.min(MAX_MAPPED_REGION, size - position);
+			retval.add(channel.map(MapMode.READ_ONLY, position, regionSize));
+			position += regionSize;
+		}
+		return retval;
+	}
+
+	/**
+	 * @param channel channel to map
+	 * @return an input stream reading the memory mapped contents of the channel
+	 * @throws IOException on errors mapping the channel
+	 */
+	static InputStream mappedInputStream(FileChannel channel) throws IOException {
+		return mappedInputStream(map(channel));
+	}
+
+	/**
+	 * @param regions buffers for consecutive regions of a channel returned by <code>map</code>
+	 * @return an input stream reading the regions in order
+	 */
+	static InputStream mappedInputStream(List<ByteBuffer> regions) {
+		if (regions.size() == 1) {
+			return new ByteBufferInputStream(regions.get(0));
+		}
+		List<InputStream> streams = new ArrayList<>();
+		for (ByteBuffer region:regions) {
+			streams.add(new ByteBufferInputStream(region));
+		}
+		return new SequenceInputStream(Collections.enumeration(streams));
+	}
+
+	@Override
+	public int read() throws IOException {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		int count = Math.min(len, buffer.remaining());
+		buffer.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+		int count = (int)Math.min(n, buffer.remaining());
+		// cast to Buffer so that the Java 8 method is called when compiled on a later JDK
+		((Buffer)buffer).position(buffer.position() + count);
+		return count;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return buffer.remaining();
+	}
+}
@@ -0,0 +1,177 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Table of property values referring to graph IDs which have not yet been deserialized
+ *
+ * Used when deserializing a graph one node at a time where a node may refer to an <code>spdxId</code>
+ * or blank node ID which appears later in the graph.  The reference is recorded against the target ID and
+ * the property value is stored once the target is deserialized or at the end of the input.
+ *
+ * @author Gary O'Neall
+ *
+ */
+class DeferredReferences {
+
+	/**
+	 * Placeholder returned in place of a stored value for a reference to a graph ID which has not been seen yet
+	 */
+	static final class UnresolvedReference {
+		private final String jsonId;
+
+		UnresolvedReference(String jsonId) {
+			this.jsonId = jsonId;
+		}
+
+		/**
+		 * @return the ID as it appears in the JSON-LD graph
+		 */
+		String getJsonId() {
+			return jsonId;
+		}
+	}
+
+	/**
+	 * A property value waiting on a graph ID
+	 */
+	static final class PendingReference {
+		private final String subjectUri;
+		private final PropertyDescriptor property;
+		private final boolean collection;
+		private final String specVersion;
+
+		PendingReference(String subjectUri, PropertyDescriptor property, boolean collection, String specVersion) {
+			this.subjectUri = subjectUri;
+			this.property = property;
+			this.collection = collection;
+			this.specVersion = specVersion;
+		}
+
+		/**
+		 * @return object URI of the object containing the property
+		 */
+		String getSubjectUri() {
+			return subjectUri;
+		}
+
+		/**
+		 * @return the property referring to the graph ID
+		 */
+		PropertyDescriptor getProperty() {
+			return property;
+		}
+
+		/**
+		 * @return true if the value is a member of a collection
+		 */
+		boolean isCollection() {
+			return collection;
+		}
+
+		/**
+		 * @return spec version of the object containing the property
+		 */
+		String getSpecVersion() {
+			return specVersion;
+		}
+
+		/**
+		 * Stores the value in the model store for this pending reference
+		 * @param modelStore store containing the subject
+		 * @param value value to store
+		 * @throws InvalidSPDXAnalysisException on errors updating the model store
+		 */
+		void store(IModelStore modelStore, Object value) throws InvalidSPDXAnalysisException {
+			if (collection) {
+				modelStore.addValueToCollection(subjectUri, property, value);
+			} else {
+				modelStore.setValue(subjectUri, property, value);
+			}
+		}
+	}
+
+	/**
+	 * Converts a graph ID which was never found in the graph to a value to store
+	 */
+	@FunctionalInterface
+	interface UnresolvedReferenceConverter {
+		/**
+		 * @param jsonId ID as it appears in the JSON-LD graph
+		 * @param specVersion spec version of the object containing the reference
+		 * @return value to store
+		 * @throws InvalidSPDXAnalysisException if the ID can not be converted
+		 */
+		Object convert(String jsonId, String specVersion) throws InvalidSPDXAnalysisException;
+	}
+
+	private final Map<String, List<PendingReference>> pending = new HashMap<>();
+	private int size = 0;
+
+	/**
+	 * Record a property value which refers to a graph ID not yet deserialized
+	 * @param jsonId ID of the referenced object as it appears in the JSON-LD graph
+	 * @param reference the property value waiting on the jsonId
+	 */
+	void defer(String jsonId, PendingReference reference) {
+		pending.computeIfAbsent(jsonId, id -> new ArrayList<>()).add(reference);
+		size++;
+	}
+
+	/**
+	 * Store all property values waiting on the jsonId now that the object has been created
+	 * @param jsonId ID of the object as it appears in the JSON-LD graph
+	 * @param target typed value for the created object
+	 * @param modelStore store to update
+	 * @throws InvalidSPDXAnalysisException on errors updating the model store
+	 */
+	void resolve(String jsonId, TypedValue target, IModelStore modelStore) throws InvalidSPDXAnalysisException {
+		List<PendingReference> references = pending.remove(jsonId);
+		if (Objects.nonNull(references)) {
+			for (PendingReference reference:references) {
+				reference.store(modelStore, target);
+			}
+			size -= references.size();
+		}
+	}
+
+	/**
+	 * Store all remaining property values - called once the end of the input has been reached
+	 * @param converter converts the graph IDs which were never found to the values to store
+	 * @param modelStore store to update
+	 * @throws InvalidSPDXAnalysisException on errors converting the IDs or updating the model store
+	 */
+	void resolveRemaining(UnresolvedReferenceConverter converter, IModelStore modelStore) throws InvalidSPDXAnalysisException {
+		Iterator<Entry<String, List<PendingReference>>> iter = pending.entrySet().iterator();
+		while (iter.hasNext()) {
+			Entry<String, List<PendingReference>> entry = iter.next();
+			for (PendingReference reference:entry.getValue()) {
+				reference.store(modelStore, converter.convert(entry.getKey(), reference.getSpecVersion()));
+			}
+			size -= entry.getValue().size();
+			iter.remove();
+		}
+	}
+
+	/**
+	 * @return number of property values waiting to be resolved
+	 */
+	int size() {
+		return size;
+	}
+}
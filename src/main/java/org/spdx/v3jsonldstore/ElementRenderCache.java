@@ -0,0 +1,268 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Least recently used cache of the converted JSON trees of <code>@graph</code> entries, used to avoid
+ * converting unchanged elements again when a store is serialized repeatedly
+ *
+ * The text of each tree is also kept for every output format it has been encoded in (e.g. pretty or compact
+ * and the indentation level) so unchanged elements are not encoded again.
+ *
+ * A cached tree is reused only if the modification stamps of the graph entry and of every object inlined into
+ * the tree are unchanged, and every reference to another object resolves to the same serialized ID as when the
+ * tree was converted.
+ *
+ * Cached trees are shared between serializations and must not be modified.
+ *
+ */
+final class ElementRenderCache {
+
+	/**
+	 * Stamp recorded for an object whose modification stamp is not known, e.g. an object read from the preserved
+	 * state of a snapshot - never equal to a stamp from the stamp source, so a tree depending on it is never reused
+	 */
+	static final long UNKNOWN_STAMP = -1;
+
+	/**
+	 * Objects and references a converted tree depends on
+	 */
+	static final class Dependencies {
+		private final Map<String, Long> stamps = new HashMap<>();
+		private final Map<String, String> serializedIds = new HashMap<>();
+
+		/**
+		 * Record an object inlined into the tree - must be called before the object's properties are read
+		 * @param objectUri object URI
+		 * @param stamp modification stamp of the object
+		 * @return true if the object was not already recorded
+		 */
+		boolean addObject(String objectUri, long stamp) {
+			return Objects.isNull(stamps.putIfAbsent(objectUri, stamp));
+		}
+
+		/**
+		 * Record the lookup of the serialized ID of a referenced object
+		 * @param objectUri object URI of the referenced object
+		 * @param serializedId serialized ID found for the object or null if the object has no serialized ID
+		 */
+		void addSerializedId(String objectUri, @Nullable String serializedId) {
+			serializedIds.put(objectUri, serializedId);
+		}
+	}
+
+	/**
+	 * A converted tree with the settings and dependencies it was converted with and its encoded text by output format
+	 */
+	private static final class CachedTree {
+		private final String serializedId;
+		private final boolean documentOnly;
+		private final boolean pretty;
+		private final String specVersion;
+		private final Dependencies dependencies;
+		private final JsonNode tree;
+		private final Map<String, SerializableString> encoded = new ConcurrentHashMap<>();
+
+		private CachedTree(String serializedId, boolean documentOnly, boolean pretty, String specVersion,
+				Dependencies dependencies, JsonNode tree) {
+			this.serializedId = serializedId;
+			this.documentOnly = documentOnly;
+			this.pretty = pretty;
+			this.specVersion = specVersion;
+			this.dependencies = dependencies;
+			this.tree = tree;
+		}
+	}
+
+	private final int maxEntries;
+	private final ToLongFunction<String> stampSource;
+	private final LinkedHashMap<String, CachedTree> trees;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * @param maxEntries maximum number of converted trees to keep
+	 * @param stampSource provides the current modification stamp of an object URI - the stamp must change whenever the object is modified
+	 */
+	ElementRenderCache(int maxEntries, ToLongFunction<String> stampSource) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("Maximum number of cached elements must be positive");
+		}
+		Objects.requireNonNull(stampSource, "Stamp source must not be null");
+		this.maxEntries = maxEntries;
+		this.stampSource = stampSource;
+		this.trees = new LinkedHashMap<String, CachedTree>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<String, CachedTree> eldest) {
+				return size() > ElementRenderCache.this.maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * @return maximum number of converted trees kept
+	 */
+	int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * @param objectUri object URI
+	 * @return the current modification stamp of the object
+	 */
+	long getStamp(String objectUri) {
+		return stampSource.applyAsLong(objectUri);
+	}
+
+	/**
+	 * @param objectUri object URI of the graph entry
+	 * @param serializedId ID used in the serialization of the graph entry
+	 * @param documentOnly if true, only the SPDX document properties are serialized
+	 * @param pretty pretty setting of the serializer
+	 * @param specVersion spec version of the serializer
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the current serialization
+	 * @return the cached tree if it is still valid, otherwise null
+	 */
+	@Nullable JsonNode get(String objectUri, String serializedId, boolean documentOnly, boolean pretty,
+			String specVersion, Map<String, String> idToSerializedId) {
+		return get(objectUri, serializedId, documentOnly, pretty, specVersion, idToSerializedId, stampSource);
+	}
+
+	/**
+	 * @param objectUri object URI of the graph entry
+	 * @param serializedId ID used in the serialization of the graph entry
+	 * @param documentOnly if true, only the SPDX document properties are serialized
+	 * @param pretty pretty setting of the serializer
+	 * @param specVersion spec version of the serializer
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the current serialization
+	 * @param currentStamps provides the stamps of the objects as seen by the current serialization
+	 * @return the cached tree if it is still valid, otherwise null
+	 */
+	@Nullable JsonNode get(String objectUri, String serializedId, boolean documentOnly, boolean pretty,
+			String specVersion, Map<String, String> idToSerializedId, ToLongFunction<String> currentStamps) {
+		CachedTree cached;
+		synchronized (trees) {
+			cached = trees.get(objectUri);
+		}
+		if (Objects.nonNull(cached) && cached.serializedId.equals(serializedId) &&
+				cached.documentOnly == documentOnly && cached.pretty == pretty &&
+				cached.specVersion.equals(specVersion) && isCurrent(cached.dependencies, idToSerializedId, currentStamps)) {
+			hits.incrementAndGet();
+			return cached.tree;
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * @param dependencies dependencies of a cached tree
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the current serialization
+	 * @param currentStamps provides the stamps of the objects as seen by the current serialization
+	 * @return true if none of the dependencies have changed
+	 */
+	private boolean isCurrent(Dependencies dependencies, Map<String, String> idToSerializedId, ToLongFunction<String> currentStamps) {
+		for (Entry<String, Long> stamp:dependencies.stamps.entrySet()) {
+			if (currentStamps.applyAsLong(stamp.getKey()) != stamp.getValue()) {
+				return false;
+			}
+		}
+		for (Entry<String, String> serializedId:dependencies.serializedIds.entrySet()) {
+			if (!Objects.equals(idToSerializedId.get(serializedId.getKey()), serializedId.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param objectUri object URI of the graph entry
+	 * @param serializedId ID used in the serialization of the graph entry
+	 * @param documentOnly if true, only the SPDX document properties are serialized
+	 * @param pretty pretty setting of the serializer
+	 * @param specVersion spec version of the serializer
+	 * @param dependencies objects and references the tree depends on, including the graph entry itself
+	 * @param tree converted tree
+	 */
+	void put(String objectUri, String serializedId, boolean documentOnly, boolean pretty, String specVersion,
+			Dependencies dependencies, JsonNode tree) {
+		CachedTree cached = new CachedTree(serializedId, documentOnly, pretty, specVersion, dependencies, tree);
+		synchronized (trees) {
+			trees.put(objectUri, cached);
+		}
+	}
+
+	/**
+	 * @param objectUri object URI of the graph entry
+	 * @param tree tree returned by <code>get</code> or passed to <code>put</code> for the graph entry
+	 * @param format key identifying the output format of the text
+	 * @return the text of the tree encoded in the format or null if the tree is not cached or has not been encoded in the format
+	 */
+	@Nullable SerializableString getEncoded(String objectUri, JsonNode tree, String format) {
+		CachedTree cached;
+		synchronized (trees) {
+			cached = trees.get(objectUri);
+		}
+		// the identity check ignores text of a tree which has since been replaced
+		return Objects.nonNull(cached) && cached.tree == tree ? cached.encoded.get(format) : null;
+	}
+
+	/**
+	 * Keep the encoded text of a cached tree - ignored if the tree is no longer cached
+	 * @param objectUri object URI of the graph entry
+	 * @param tree tree returned by <code>get</code> or passed to <code>put</code> for the graph entry
+	 * @param format key identifying the output format of the text
+	 * @param text text of the tree encoded in the format
+	 */
+	void putEncoded(String objectUri, JsonNode tree, String format, SerializableString text) {
+		CachedTree cached;
+		synchronized (trees) {
+			cached = trees.get(objectUri);
+		}
+		if (Objects.nonNull(cached) && cached.tree == tree) {
+			cached.encoded.put(format, text);
+		}
+	}
+
+	/**
+	 * @return number of converted trees currently cached
+	 */
+	int size() {
+		synchronized (trees) {
+			return trees.size();
+		}
+	}
+
+	/**
+	 * @return number of lookups which returned a cached tree
+	 */
+	long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of lookups which required the graph entry to be converted
+	 */
+	long getMisses() {
+		return misses.get();
+	}
+}
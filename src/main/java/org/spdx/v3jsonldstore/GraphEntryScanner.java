@@ -0,0 +1,191 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Finds the byte ranges of the objects in the top level <code>@graph</code> array of a JSON LD document without
+ * parsing them, allowing the objects to be parsed concurrently
+ *
+ * The scan only tracks nesting depth and string boundaries (including escapes) so it is much faster than a full
+ * parse.  Any structure the scan does not recognize results in an empty result so the caller can fall back to
+ * the sequential parser, which reports the error.
+ *
+ */
+final class GraphEntryScanner {
+
+	private static final byte[] GRAPH_KEY = "@graph".getBytes(StandardCharsets.UTF_8);
+
+	private GraphEntryScanner() {
+		// static methods only
+	}
+
+	/**
+	 * @param buffer buffer containing a complete JSON LD document from its position to its limit
+	 * @return slices of the buffer for each object in the top level <code>@graph</code> array, in document order,
+	 * or empty if the document does not have a top level <code>@graph</code> array of objects
+	 */
+	static Optional<List<ByteBuffer>> scan(ByteBuffer buffer) {
+		List<ByteBuffer> entries = new ArrayList<>();
+		int depth = 0;
+		int graphDepth = -1;		// depth of the graph array once found
+		int entryStart = -1;
+		int stringStart = -1;		// start of the string being scanned, -1 if not in a string
+		boolean pendingGraphKey = false;	// true if the last depth 1 key was @graph and its value has not started
+		int limit = buffer.limit();
+		for (int i = buffer.position(); i < limit; i++) {
+			byte b = buffer.get(i);
+			if (stringStart >= 0) {
+				if (b == '\\') {
+					i++;	// skip the escaped character
+				} else if (b == '"') {
+					if (depth == 1 && graphDepth < 0) {
+						pendingGraphKey = isGraphKey(buffer, stringStart, i);
+					} else if (depth == graphDepth) {
+						return Optional.empty();	// string in the graph array
+					}
+					stringStart = -1;
+				}
+				continue;
+			}
+			switch (b) {
+				case ' ':
+				case '\t':
+				case '\r':
+				case '\n':
+				case ':':
+					break;
+				case '"':
+					stringStart = i + 1;
+					break;
+				case '{':
+				case '[':
+					depth++;
+					if (pendingGraphKey) {
+						if (b != '[') {
+							return Optional.empty();
+						}
+						graphDepth = depth;
+						pendingGraphKey = false;
+					} else if (graphDepth > 0 && depth == graphDepth + 1) {
+						if (b != '{') {
+							return Optional.empty();
+						}
+						entryStart = i;
+					}
+					break;
+				case '}':
+				case ']':
+					if (graphDepth > 0 && depth == graphDepth + 1) {
+						entries.add(slice(buffer, entryStart, i + 1));
+					} else if (depth == graphDepth) {
+						return Optional.of(entries);
+					}
+					depth--;
+					if (depth < 0) {
+						return Optional.empty();
+					}
+					break;
+				default:
+					// commas and literal values
+					if (depth == graphDepth && b != ',') {
+						return Optional.empty();	// literal in the graph array
+					}
+					pendingGraphKey = false;
+			}
+		}
+		return Optional.empty();	// no graph or unterminated graph
+	}
+
+	/**
+	 * @param buffer buffer containing the string
+	 * @param start index of the first character of the string
+	 * @param end index of the closing quote of the string
+	 * @return true if the string is <code>@graph</code>
+	 */
+	private static boolean isGraphKey(ByteBuffer buffer, int start, int end) {
+		if (end - start != GRAPH_KEY.length) {
+			return false;
+		}
+		for (int i = 0; i < GRAPH_KEY.length; i++) {
+			if (buffer.get(start + i) != GRAPH_KEY[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param buffer buffer to slice
+	 * @param start start index of the slice
+	 * @param end end index (exclusive) of the slice
+	 * @return a buffer sharing the content between start and end
+	 */
+	private static ByteBuffer slice(ByteBuffer buffer, int start, int end) {
+		ByteBuffer retval = buffer.duplicate();
+		// cast to Buffer so that the Java 8 methods are called when compiled on a later JDK
+		((Buffer)retval).limit(end);
+		((Buffer)retval).position(start);
+		return retval.slice();
+	}
+
+	/**
+	 * Parse the graph entries in partitions run concurrently on the executor
+	 * @param entries graph entries found by <code>scan</code>
+	 * @param mapper mapper used to parse each entry
+	 * @param executor executor to run the partitions on
+	 * @return a graph array containing the parsed entries in the same order as the entries
+	 * @throws InvalidSPDXAnalysisException on errors parsing an entry
+	 */
+	static ArrayNode parseEntries(List<ByteBuffer> entries, ObjectMapper mapper, Executor executor) throws InvalidSPDXAnalysisException {
+		JsonNode[] parsed = new JsonNode[entries.size()];
+		int numPartitions = Math.max(1, Math.min(entries.size(),
+				Runtime.getRuntime().availableProcessors() * JsonLDDeserializer.PARTITIONS_PER_PROCESSOR));
+		int partitionSize = (entries.size() + numPartitions - 1) / numPartitions;
+		List<CompletableFuture<Void>> partitions = new ArrayList<>();
+		for (int start = 0; start < entries.size(); start += partitionSize) {
+			int partitionStart = start;
+			int partitionEnd = Math.min(start + partitionSize, entries.size());
+			partitions.add(CompletableFuture.runAsync(() -> {
+				for (int i = partitionStart; i < partitionEnd; i++) {
+					try {
+						parsed[i] = mapper.readTree(new ByteBufferInputStream(entries.get(i)));
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+			}, executor));
+		}
+		try {
+			CompletableFuture.allOf(partitions.toArray(new CompletableFuture<?>[partitions.size()])).join();
+		} catch (CompletionException e) {
+			throw new InvalidSPDXAnalysisException("Error parsing graph", e.getCause());
+		}
+		ArrayNode retval = mapper.createArrayNode();
+		for (JsonNode node:parsed) {
+			retval.add(node);
+		}
+		return retval;
+	}
+}
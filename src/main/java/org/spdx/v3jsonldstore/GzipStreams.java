@@ -0,0 +1,67 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Detection and decompression of gzip compressed input
+ *
+ */
+final class GzipStreams {
+
+	/**
+	 * Size of the buffer used when decompressing input
+	 */
+	static final int DECOMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+	private static final int GZIP_MAGIC_0 = 0x1f;
+	private static final int GZIP_MAGIC_1 = 0x8b;
+
+	private GzipStreams() {
+		// static methods only
+	}
+
+	/**
+	 * @param stream input stream which may be gzip compressed
+	 * @return a stream decompressing the input if it starts with the gzip magic bytes, otherwise a stream with the original content
+	 * @throws IOException on errors reading the stream
+	 */
+	static InputStream decompressIfGzip(InputStream stream) throws IOException {
+		PushbackInputStream pushback = new PushbackInputStream(stream, 2);
+		byte[] magic = new byte[2];
+		int count = 0;
+		while (count < magic.length) {
+			int read = pushback.read(magic, count, magic.length - count);
+			if (read < 0) {
+				break;
+			}
+			count += read;
+		}
+		if (count > 0) {
+			pushback.unread(magic, 0, count);
+		}
+		if (count == magic.length && (magic[0] & 0xFF) == GZIP_MAGIC_0 && (magic[1] & 0xFF) == GZIP_MAGIC_1) {
+			return new GZIPInputStream(pushback, DECOMPRESSION_BUFFER_SIZE);
+		}
+		return pushback;
+	}
+
+	/**
+	 * @param buffer buffer containing the start of the input from its position
+	 * @return true if the buffer starts with the gzip magic bytes
+	 */
+	static boolean isGzip(ByteBuffer buffer) {
+		int position = buffer.position();
+		return buffer.remaining() >= 2 && (buffer.get(position) & 0xFF) == GZIP_MAGIC_0 &&
+				(buffer.get(position + 1) & 0xFF) == GZIP_MAGIC_1;
+	}
+}
@@ -0,0 +1,33 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.util.List;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.storage.IModelStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Model store which can write the property values of many objects in a single operation
+ *
+ * When the base store of a <code>JsonLDStore</code> implements this interface, deserialization writes the
+ * properties through <code>writeProperties</code> rather than one <code>setValue</code> or
+ * <code>addValueToCollection</code> call per value.  This is intended for stores where each call is expensive,
+ * such as stores backed by a database or a remote service.
+ *
+ */
+public interface IBulkWriteModelStore extends IModelStore {
+
+	/**
+	 * Write the property values in the batches - the result must be the same as calling <code>writeTo</code> for
+	 * each batch in order, i.e. <code>setValue</code> for the non-collection values of a batch followed by
+	 * <code>addValueToCollection</code> for its collection values
+	 * @param batches property values to write - each object must already exist in the store
+	 * @throws InvalidSPDXAnalysisException on errors writing to the store
+	 */
+	void writeProperties(List<PropertyBatch> batches) throws InvalidSPDXAnalysisException;
+}
@@ -4,6 +4,7 @@
  */
 package org.spdx.v3jsonldstore;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,23 +17,29 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.SimpleUriValue;
 import org.spdx.core.TypedValue;
-import org.spdx.library.ListedLicenses;
 import org.spdx.library.ModelCopyManager;
 import org.spdx.library.SpdxModelFactory;
 import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.PropertyDescriptor;
-import org.spdx.storage.listedlicense.SpdxListedLicenseModelStore;
+import org.spdx.v3jsonldstore.JsonLDSchema.FieldPlan;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import net.jimblackler.jsonschemafriend.GenerationException;
@@ -73,10 +80,31 @@ public class JsonLDDeserializer {
 		NON_PROPERTY_FIELD_NAMES = Collections.unmodifiableSet(nonPropertyFieldNames);
 	}
 	
+	/**
+	 * Number of partitions per available processor when deserializing properties in parallel
+	 */
+	static final int PARTITIONS_PER_PROCESSOR = 4;
+	
+	/**
+	 * Number of graph nodes whose properties are accumulated before being written to the model store when
+	 * deserializing the properties of nodes whose top level objects have already been created
+	 */
+	static final int BULK_WRITE_NODES = 256;
+	
 	private IModelStore modelStore;
 	private ModelCopyManager copyManager;
 	private ConcurrentMap<String, String> jsonAnonToStoreAnon = new ConcurrentHashMap<>();
-	private ConcurrentMap<String, JsonLDSchema> versionToSchema = new ConcurrentHashMap<>();
+	private ListedLicenseCache listedLicenseCache = new ListedLicenseCache();
+	private Executor executor = null;
+	private AnonymousIdSource anonymousIdSource = () -> modelStore.getNextId(IdType.Anonymous);
+
+	/**
+	 * Provides the IDs of the anonymous objects created for inlined objects without a JSON ID
+	 */
+	@FunctionalInterface
+	interface AnonymousIdSource {
+		String nextId() throws InvalidSPDXAnalysisException;
+	}
 
 	/**
 	 * @param modelStore Model store to deserialize the JSON text into
@@ -86,56 +114,612 @@ public class JsonLDDeserializer {
 		this.copyManager = new ModelCopyManager();
 	}
 
+	/**
+	 * A property removed from an object while objects it refers to are recreated with a different spec version
+	 */
+	private static final class DetachedProperty {
+		private final String objectUri;
+		private final PropertyDescriptor property;
+		private final boolean collection;
+		private final List<Object> values;
+		
+		private DetachedProperty(String objectUri, PropertyDescriptor property, boolean collection, List<Object> values) {
+			this.objectUri = objectUri;
+			this.property = property;
+			this.collection = collection;
+			this.values = values;
+		}
+	}
+
+	/**
+	 * State for deserializing the nodes of a single graph in one pass
+	 * 
+	 * Each top level object is created and its properties stored as the node is accepted.  References to
+	 * IDs which have not yet been accepted are stored once the referenced node is accepted or, if never accepted,
+	 * at the end of the graph.  Nodes referring to a creation info which has not yet been accepted are created
+	 * with the latest spec version.  If the creation info turns out to have a different spec version, those objects
+	 * are recreated with the spec version of the creation info once it is accepted.
+	 */
+	private class GraphDeserialization {
+		private final Map<String, String> creationInfoIdToSpecVersion = new HashMap<>();
+		private final Map<String, TypedValue> graphIdToTypedValue;
+		private final Map<String, List<TypedValue>> awaitingCreationInfo = new HashMap<>();	// objects created before their creation info was accepted
+		private final List<TypedValue> nonAnonGraphItems = new ArrayList<>();
+		private final Set<String> anonGraphItems = new HashSet<>();
+		private final DeferredReferences deferredReferences;
+		private final boolean overwrite;
+		private final boolean retainExisting;
+		private final String latestSpecVersion = SpdxModelFactory.getLatestSpecVersion();
+		
+		/**
+		 * @param overwrite if false, throw an exception if an element in the graph already exists in the modelStore
+		 * @param createOnly if true, only create the top level objects - the properties are deserialized separately once all nodes are accepted
+		 * @param retainExisting if true, top level objects which already exist in the modelStore are not created again
+		 */
+		GraphDeserialization(boolean overwrite, boolean createOnly, boolean retainExisting) {
+			this.overwrite = overwrite;
+			this.retainExisting = retainExisting;
+			this.graphIdToTypedValue = createOnly ? new ConcurrentHashMap<>() : new HashMap<>();
+			this.deferredReferences = createOnly ? null : new DeferredReferences();
+		}
+		
+		/**
+		 * Deserialize a graph node
+		 * @param graphNode node in the <code>@graph</code>
+		 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+		 */
+		void accept(JsonNode graphNode) throws InvalidSPDXAnalysisException {
+			String id = graphNode.has(SPDX_ID_PROP) ? graphNode.get(SPDX_ID_PROP).asText() : 
+				graphNode.has("@id") ? graphNode.get("@id").asText() : null;
+			Optional<String> type = typeNodeToType(graphNode.get("type"));
+			if (Objects.nonNull(id) && type.isPresent()) {
+				String awaitedCreationInfoId = null;
+				String specVersion;
+				if (SpdxConstantsV3.CORE_CREATION_INFO.equals(type.get())) {
+					if (graphNode.has(SPEC_VERSION_PROP)) {
+						creationInfoIdToSpecVersion.put(id, graphNode.get(SPEC_VERSION_PROP).asText());
+						// before the creation info properties are stored, since they may refer to the recreated objects
+						changeSpecVersion(id, graphNode.get(SPEC_VERSION_PROP).asText());
+					} else {
+						logger.warn("Unable to obtain spec version for a creation info: {}", id);
+					}
+				}
+				if (!graphNode.has(SPEC_VERSION_PROP) && graphNode.has("creationInfo") && graphNode.get("creationInfo").isTextual() &&
+						!creationInfoIdToSpecVersion.containsKey(graphNode.get("creationInfo").asText())) {
+					awaitedCreationInfoId = graphNode.get("creationInfo").asText();
+					specVersion = latestSpecVersion;
+				} else {
+					specVersion = getSpecVersionFromNode(graphNode, creationInfoIdToSpecVersion, latestSpecVersion);
+				}
+				if (!overwrite && !id.startsWith("_:") && modelStore.exists(id)) {
+					throw new InvalidSPDXAnalysisException("The SPDX element ID would be overwritten: "+id);
+				}
+				TypedValue tv = createTypedValueFromNode(id, type.get(), specVersion);
+				if (!retainExisting || !modelStore.exists(tv.getObjectUri())) {
+					modelStore.create(tv);
+				}
+				graphIdToTypedValue.put(id, tv);
+				if (!modelStore.isAnon(id)) {
+					nonAnonGraphItems.add(tv);
+				}
+				if (modelStore.isAnon(tv.getObjectUri())) {
+					anonGraphItems.add(tv.getObjectUri());
+				}
+				if (Objects.nonNull(awaitedCreationInfoId)) {
+					awaitingCreationInfo.computeIfAbsent(awaitedCreationInfoId, ciId -> new ArrayList<>()).add(tv);
+				}
+				if (Objects.nonNull(deferredReferences)) {
+					deferredReferences.resolve(id, tv, modelStore);
+				}
+			} else if (Objects.isNull(id)) {
+				logger.warn("Missing ID for one of the SPDX objects in the graph");
+			}
+			if (Objects.nonNull(deferredReferences)) {
+				try {
+					deserializeCoreObject(graphNode, latestSpecVersion, creationInfoIdToSpecVersion,
+							graphIdToTypedValue, deferredReferences);
+				} catch (GenerationException e) {
+					throw new InvalidSPDXAnalysisException("Unable to open schema file");
+				}
+			}
+		}
+		
+		/**
+		 * Recreate the objects created before the creation info was accepted if the spec version of the creation
+		 * info differs from the spec version they were created with
+		 * 
+		 * The properties of the objects, and the properties of any object already deserialized referring to them,
+		 * are removed before the objects are recreated and stored again afterwards, so the order of collection
+		 * values is unchanged.  This reads every object deserialized so far, but only happens when a document
+		 * refers to a creation info for an older spec version before the creation info appears in the graph.
+		 * @param creationInfoId ID of the creation info
+		 * @param specVersion spec version of the creation info
+		 * @throws InvalidSPDXAnalysisException on errors updating the modelStore
+		 */
+		private void changeSpecVersion(String creationInfoId, String specVersion) throws InvalidSPDXAnalysisException {
+			List<TypedValue> awaiting = awaitingCreationInfo.remove(creationInfoId);
+			if (Objects.isNull(awaiting) || latestSpecVersion.equals(specVersion)) {
+				return;
+			}
+			Map<String, TypedValue> changed = new HashMap<>();
+			for (TypedValue tv:awaiting) {
+				collectChangedObjects(tv, specVersion, changed);
+			}
+			List<DetachedProperty> detached = new ArrayList<>();
+			Set<String> visited = new HashSet<>();
+			for (TypedValue tv:nonAnonGraphItems) {
+				detachReferences(tv.getObjectUri(), changed, visited, detached);
+			}
+			for (String anonUri:anonGraphItems) {
+				detachReferences(anonUri, changed, visited, detached);
+			}
+			for (TypedValue tv:changed.values()) {
+				modelStore.delete(tv.getObjectUri());
+				modelStore.create(tv);
+			}
+			for (DetachedProperty property:detached) {
+				for (Object value:property.values) {
+					Object newValue = value instanceof TypedValue ? 
+							changed.getOrDefault(((TypedValue)value).getObjectUri(), (TypedValue)value) : value;
+					if (property.collection) {
+						modelStore.addValueToCollection(property.objectUri, property.property, newValue);
+					} else {
+						modelStore.setValue(property.objectUri, property.property, newValue);
+					}
+				}
+			}
+			graphIdToTypedValue.replaceAll((id, tv) -> changed.getOrDefault(tv.getObjectUri(), tv));
+			nonAnonGraphItems.replaceAll(tv -> changed.getOrDefault(tv.getObjectUri(), tv));
+		}
+		
+		/**
+		 * @param tv object created with the wrong spec version
+		 * @param specVersion spec version to recreate the object with
+		 * @param changed updated with the typed values to recreate the object and any anonymous objects inlined in it with
+		 * @throws InvalidSPDXAnalysisException on errors reading from the modelStore
+		 */
+		private void collectChangedObjects(TypedValue tv, String specVersion, Map<String, TypedValue> changed) throws InvalidSPDXAnalysisException {
+			changed.put(tv.getObjectUri(), new TypedValue(tv.getObjectUri(), tv.getType(), specVersion));
+			for (Object value:getAllValues(tv.getObjectUri())) {
+				if (value instanceof TypedValue) {
+					TypedValue valueTv = (TypedValue)value;
+					if (modelStore.isAnon(valueTv.getObjectUri()) && !anonGraphItems.contains(valueTv.getObjectUri()) &&
+							!changed.containsKey(valueTv.getObjectUri())) {
+						collectChangedObjects(valueTv, specVersion, changed);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Remove the properties of an object and its inlined anonymous objects which refer to objects being recreated
+		 * @param objectUri object URI
+		 * @param changed map of the object URIs of the objects being recreated to their new typed values
+		 * @param visited object URIs already visited
+		 * @param detached updated with the removed properties
+		 * @throws InvalidSPDXAnalysisException on errors updating the modelStore
+		 */
+		private void detachReferences(String objectUri, Map<String, TypedValue> changed, Set<String> visited,
+				List<DetachedProperty> detached) throws InvalidSPDXAnalysisException {
+			if (!visited.add(objectUri)) {
+				return;
+			}
+			boolean objectChanged = changed.containsKey(objectUri);
+			for (PropertyDescriptor property:new ArrayList<>(modelStore.getPropertyValueDescriptors(objectUri))) {
+				boolean collection = modelStore.isCollectionProperty(objectUri, property);
+				List<Object> values = new ArrayList<>();
+				if (collection) {
+					modelStore.listValues(objectUri, property).forEachRemaining(values::add);
+				} else {
+					modelStore.getValue(objectUri, property).ifPresent(values::add);
+				}
+				boolean refersToChanged = false;
+				for (Object value:values) {
+					if (value instanceof TypedValue) {
+						String valueUri = ((TypedValue)value).getObjectUri();
+						refersToChanged |= changed.containsKey(valueUri);
+						if (modelStore.isAnon(valueUri) && !anonGraphItems.contains(valueUri)) {
+							detachReferences(valueUri, changed, visited, detached);
+						}
+					}
+				}
+				if (objectChanged || refersToChanged) {
+					detached.add(new DetachedProperty(objectUri, property, collection, values));
+					modelStore.removeProperty(objectUri, property);
+				}
+			}
+		}
+		
+		/**
+		 * Store any remaining references - called once all nodes in the graph have been accepted
+		 * @return list of non-anonomous typed value Elements found in the graph nodes
+		 * @throws InvalidSPDXAnalysisException on invalid SPDX data
+		 */
+		List<TypedValue> finish() throws InvalidSPDXAnalysisException {
+			for (String creationInfoId:awaitingCreationInfo.keySet()) {
+				logger.warn("Missing creation info {} - using spec version {}", creationInfoId, latestSpecVersion);
+			}
+			awaitingCreationInfo.clear();
+			if (Objects.nonNull(deferredReferences)) {
+				// Anything left over was not in the graph - treat as external or listed license references
+				deferredReferences.resolveRemaining((jsonId, specVersion) -> 
+					jsonStringToSpdxObject(jsonId, specVersion, graphIdToTypedValue), modelStore);
+			}
+			return nonAnonGraphItems;
+		}
+	}
+
 	/**
 	 * Deserializes the JSON-LD graph into the modelStore
+	 * 
+	 * The graph is deserialized in a single pass unless an executor is set, in which case the top level objects
+	 * are created in a first pass and the properties are deserialized in parallel in a second pass
 	 * @param graph Graph to deserialize
 	 * @return list of non-anonomous typed value Elements found in the graph nodes
 	 * @throws InvalidSPDXAnalysisException 
 	 */
 	public List<TypedValue> deserializeGraph(JsonNode graph) throws InvalidSPDXAnalysisException {
-		List<TypedValue> nonAnonGraphItems = new ArrayList<>();
+		return deserializeGraph(graph, false);
+	}
+	
+	/**
+	 * Deserializes a graph of changed elements into the modelStore, replacing any existing elements with the same IDs
+	 * 
+	 * The properties of an existing element are removed before the properties in the graph are stored and the
+	 * anonymous objects inlined in the existing element are deleted.  An existing element of a different type is
+	 * deleted.  Creation information is shared by many elements and is retained - a creation information in the
+	 * graph with the same property values as one already in the modelStore is replaced by the existing one so that
+	 * applying changes repeatedly does not accumulate copies.  Elements not in the graph are not changed.
+	 * @param graph graph of changed elements
+	 * @return list of non-anonomous typed value Elements found in the graph nodes
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data
+	 */
+	public List<TypedValue> deserializeGraphChanges(JsonNode graph) throws InvalidSPDXAnalysisException {
 		if (!graph.isArray()) {
-			logger.error("Invalid type for deserializeGraph - must be an array");
-			throw new InvalidSPDXAnalysisException("Invalid type for deserializeGraph - must be an array");
+			logger.error("Invalid type for deserializeGraphChanges - must be an array");
+			throw new InvalidSPDXAnalysisException("Invalid type for deserializeGraphChanges - must be an array");
 		}
-		Map<String, String> creationInfoIdToSpecVersion = findCreationInfos(graph);
-		
-		// Second pass - create the top level objects in the graph
-		Map<String, TypedValue> graphIdToTypedValue = new HashMap<>();
 		for (Iterator<JsonNode> iter = graph.elements(); iter.hasNext(); ) {
 			JsonNode graphNode = iter.next();
-			String id = graphNode.has(SPDX_ID_PROP) ? graphNode.get(SPDX_ID_PROP).asText() : graphNode.get("@id").asText();
-			if (Objects.nonNull(id)) {
+			JsonNode idNode = graphNode.has(SPDX_ID_PROP) ? graphNode.get(SPDX_ID_PROP) : graphNode.get("@id");
+			if (Objects.isNull(idNode) || idNode.asText().startsWith("_:")) {
+				continue;
+			}
+			String id = idNode.asText();
+			Optional<TypedValue> existing = modelStore.getTypedValue(id);
+			if (existing.isPresent()) {
+				List<String> inlinedAnonUris = new ArrayList<>();
+				collectInlinedAnonUris(id, inlinedAnonUris);
+				for (PropertyDescriptor property:new ArrayList<>(modelStore.getPropertyValueDescriptors(id))) {
+					modelStore.removeProperty(id, property);
+				}
 				Optional<String> type = typeNodeToType(graphNode.get("type"));
-				if (type.isPresent()) {
-					// create the object so that it can be referenced during deserialization
-					String specVersion = getSpecVersionFromNode(graphNode, creationInfoIdToSpecVersion, 
-							SpdxModelFactory.getLatestSpecVersion());
-					TypedValue tv = createTypedValueFromNode(id, type.get(), specVersion);
-					modelStore.create(tv);
-					graphIdToTypedValue.put(id, tv);
-					if (!modelStore.isAnon(id)) {
-						nonAnonGraphItems.add(tv);
+				if (!type.isPresent() || !type.get().equals(existing.get().getType())) {
+					modelStore.delete(id);
+				}
+				for (String inlinedAnonUri:inlinedAnonUris) {
+					if (modelStore.exists(inlinedAnonUri)) {
+						modelStore.delete(inlinedAnonUri);
 					}
 				}
+			}
+		}
+		Set<String> existingCreationInfoUris = new HashSet<>();
+		modelStore.getAllItems(null, SpdxConstantsV3.CORE_CREATION_INFO)
+				.forEach(tv -> existingCreationInfoUris.add(tv.getObjectUri()));
+		List<TypedValue> nonAnonGraphItems = deserializeGraph(graph, true);
+		mergeCreationInfos(existingCreationInfoUris, nonAnonGraphItems);
+		return nonAnonGraphItems;
+	}
+	
+	/**
+	 * @param objectUri object URI
+	 * @return all property values of the object
+	 * @throws InvalidSPDXAnalysisException on errors reading from the modelStore
+	 */
+	private List<Object> getAllValues(String objectUri) throws InvalidSPDXAnalysisException {
+		List<Object> values = new ArrayList<>();
+		for (PropertyDescriptor property:modelStore.getPropertyValueDescriptors(objectUri)) {
+			if (modelStore.isCollectionProperty(objectUri, property)) {
+				modelStore.listValues(objectUri, property).forEachRemaining(values::add);
 			} else {
-				logger.warn("Missing ID for one of the SPDX objects in the graph");
+				modelStore.getValue(objectUri, property).ifPresent(values::add);
 			}
 		}
-		
-		// 3rd pass - deserialize the properties
+		return values;
+	}
+	
+	/**
+	 * @param objectUri object URI
+	 * @param inlinedAnonUris list to add URIs of the anonymous objects referenced by the object, other than creation
+	 * information which is shared by other elements
+	 * @throws InvalidSPDXAnalysisException on errors reading from the modelStore
+	 */
+	private void collectInlinedAnonUris(String objectUri, List<String> inlinedAnonUris) throws InvalidSPDXAnalysisException {
+		for (Object value:getAllValues(objectUri)) {
+			if (value instanceof TypedValue && !SpdxConstantsV3.CORE_CREATION_INFO.equals(((TypedValue)value).getType())) {
+				String valueUri = ((TypedValue)value).getObjectUri();
+				if (modelStore.isAnon(valueUri) && !inlinedAnonUris.contains(valueUri)) {
+					inlinedAnonUris.add(valueUri);
+					collectInlinedAnonUris(valueUri, inlinedAnonUris);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param objectUri object URI
+	 * @return property values of the object keyed by property - collection values are compared without regard to order
+	 * @throws InvalidSPDXAnalysisException on errors reading from the modelStore
+	 */
+	private Map<PropertyDescriptor, Object> getComparableValues(String objectUri) throws InvalidSPDXAnalysisException {
+		Map<PropertyDescriptor, Object> retval = new HashMap<>();
+		for (PropertyDescriptor property:modelStore.getPropertyValueDescriptors(objectUri)) {
+			if (modelStore.isCollectionProperty(objectUri, property)) {
+				Set<Object> values = new HashSet<>();
+				modelStore.listValues(objectUri, property).forEachRemaining(values::add);
+				retval.put(property, values);
+			} else {
+				modelStore.getValue(objectUri, property).ifPresent(value -> retval.put(property, value));
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * Replace each creation information created while deserializing changes with an existing creation information
+	 * having the same property values and delete it
+	 * @param existingCreationInfoUris URIs of the creation information in the modelStore before the changes were deserialized
+	 * @param nonAnonGraphItems elements deserialized from the changes
+	 * @throws InvalidSPDXAnalysisException on errors updating the modelStore
+	 */
+	private void mergeCreationInfos(Set<String> existingCreationInfoUris, List<TypedValue> nonAnonGraphItems) throws InvalidSPDXAnalysisException {
+		List<TypedValue> createdCreationInfos = new ArrayList<>();
+		List<TypedValue> existingCreationInfos = new ArrayList<>();
+		modelStore.getAllItems(null, SpdxConstantsV3.CORE_CREATION_INFO).forEach(tv -> {
+			if (existingCreationInfoUris.contains(tv.getObjectUri())) {
+				existingCreationInfos.add(tv);
+			} else {
+				createdCreationInfos.add(tv);
+			}
+		});
+		if (createdCreationInfos.isEmpty() || existingCreationInfos.isEmpty()) {
+			return;
+		}
+		Map<Map<PropertyDescriptor, Object>, TypedValue> existingByValues = new HashMap<>();
+		for (TypedValue existing:existingCreationInfos) {
+			existingByValues.putIfAbsent(getComparableValues(existing.getObjectUri()), existing);
+		}
+		Map<TypedValue, TypedValue> replacements = new HashMap<>();
+		for (TypedValue created:createdCreationInfos) {
+			TypedValue existing = existingByValues.get(getComparableValues(created.getObjectUri()));
+			if (Objects.nonNull(existing) && existing.getSpecVersion().equals(created.getSpecVersion())) {
+				replacements.put(created, existing);
+			}
+		}
+		if (replacements.isEmpty()) {
+			return;
+		}
+		Set<String> visited = new HashSet<>();
+		for (TypedValue tv:nonAnonGraphItems) {
+			replaceReferences(tv.getObjectUri(), replacements, visited);
+		}
+		for (TypedValue created:replacements.keySet()) {
+			for (PropertyDescriptor property:new ArrayList<>(modelStore.getPropertyValueDescriptors(created.getObjectUri()))) {
+				modelStore.removeProperty(created.getObjectUri(), property);
+			}
+			modelStore.delete(created.getObjectUri());
+		}
+	}
+	
+	/**
+	 * Replace references held by an object and the anonymous objects inlined in it
+	 * @param objectUri object URI
+	 * @param replacements map of referenced objects to their replacements
+	 * @param visited URIs of objects already updated
+	 * @throws InvalidSPDXAnalysisException on errors updating the modelStore
+	 */
+	private void replaceReferences(String objectUri, Map<TypedValue, TypedValue> replacements, Set<String> visited) throws InvalidSPDXAnalysisException {
+		if (!visited.add(objectUri) || !modelStore.exists(objectUri)) {
+			return;
+		}
+		for (PropertyDescriptor property:new ArrayList<>(modelStore.getPropertyValueDescriptors(objectUri))) {
+			List<Object> values = new ArrayList<>();
+			boolean collection = modelStore.isCollectionProperty(objectUri, property);
+			if (collection) {
+				modelStore.listValues(objectUri, property).forEachRemaining(values::add);
+			} else {
+				modelStore.getValue(objectUri, property).ifPresent(values::add);
+			}
+			for (Object value:values) {
+				if (!(value instanceof TypedValue)) {
+					continue;
+				}
+				TypedValue replacement = replacements.get(value);
+				if (Objects.nonNull(replacement)) {
+					if (collection) {
+						modelStore.removeValueFromCollection(objectUri, property, value);
+						modelStore.addValueToCollection(objectUri, property, replacement);
+					} else {
+						modelStore.setValue(objectUri, property, replacement);
+					}
+				} else if (modelStore.isAnon(((TypedValue)value).getObjectUri())) {
+					replaceReferences(((TypedValue)value).getObjectUri(), replacements, visited);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param graph Graph to deserialize
+	 * @param retainExisting if true, top level objects which already exist in the modelStore are not created again
+	 * @return list of non-anonomous typed value Elements found in the graph nodes
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data
+	 */
+	private List<TypedValue> deserializeGraph(JsonNode graph, boolean retainExisting) throws InvalidSPDXAnalysisException {
+		if (!graph.isArray()) {
+			logger.error("Invalid type for deserializeGraph - must be an array");
+			throw new InvalidSPDXAnalysisException("Invalid type for deserializeGraph - must be an array");
+		}
+		boolean parallel = Objects.nonNull(executor);
+		GraphDeserialization graphDeserialization = new GraphDeserialization(true, parallel, retainExisting);
 		for (Iterator<JsonNode> iter = graph.elements(); iter.hasNext(); ) {
+			graphDeserialization.accept(iter.next());
+		}
+		List<TypedValue> nonAnonGraphItems = graphDeserialization.finish();
+		if (parallel) {
+			deserializePropertiesInParallel(graph, graphDeserialization.creationInfoIdToSpecVersion, 
+					graphDeserialization.graphIdToTypedValue);
+		}
+		return nonAnonGraphItems;
+	}
+
+	/**
+	 * Deserialize the properties for graph nodes whose top level objects have already been created
+	 * @param graphNodes graph nodes to deserialize
+	 * @param creationInfoIdToSpecVersion Map of creation info IDs to spec versions
+	 * @param graphIdToTypedValue map of top level Object URIs and IDs stored in the graph
+	 * @throws InvalidSPDXAnalysisException on errors converting to SPDX
+	 */
+	private void deserializeProperties(Iterator<JsonNode> graphNodes, Map<String, String> creationInfoIdToSpecVersion,
+			Map<String, TypedValue> graphIdToTypedValue) throws InvalidSPDXAnalysisException {
+		String latestSpecVersion = SpdxModelFactory.getLatestSpecVersion();
+		List<PropertyBatch> batches = new ArrayList<>();
+		int pendingNodes = 0;
+		while (graphNodes.hasNext()) {
 			try {
-				deserializeCoreObject(iter.next(), SpdxModelFactory.getLatestSpecVersion(), 
-						creationInfoIdToSpecVersion, graphIdToTypedValue);
+				deserializeCoreObject(graphNodes.next(), latestSpecVersion, 
+						creationInfoIdToSpecVersion, graphIdToTypedValue, null, batches);
 			} catch (GenerationException e) {
 				throw new InvalidSPDXAnalysisException("Unable to open schema file");
 			}
+			if (++pendingNodes >= BULK_WRITE_NODES) {
+				writeProperties(batches);
+				pendingNodes = 0;
+			}
+		}
+		writeProperties(batches);
+	}
+	
+	/**
+	 * Write the accumulated property values to the model store - in a single call if the model store supports
+	 * bulk writes, otherwise one value at a time
+	 * @param batches property values to write - cleared once written
+	 * @throws InvalidSPDXAnalysisException on errors writing to the model store
+	 */
+	private void writeProperties(List<PropertyBatch> batches) throws InvalidSPDXAnalysisException {
+		batches.removeIf(PropertyBatch::isEmpty);
+		if (batches.isEmpty()) {
+			return;
+		}
+		if (modelStore instanceof IBulkWriteModelStore) {
+			((IBulkWriteModelStore)modelStore).writeProperties(batches);
+		} else {
+			for (PropertyBatch batch:batches) {
+				batch.writeTo(modelStore);
+			}
+		}
+		batches.clear();
+	}
+	
+	/**
+	 * Deserialize the properties for the graph nodes in partitions run concurrently on the executor
+	 * 
+	 * The properties of each node are independent once all top level objects in the graph have been created
+	 * @param graph graph of SPDX objects whose top level objects have already been created
+	 * @param creationInfoIdToSpecVersion Map of creation info IDs to spec versions
+	 * @param graphIdToTypedValue thread safe map of top level Object URIs and IDs stored in the graph
+	 * @throws InvalidSPDXAnalysisException on errors converting to SPDX
+	 */
+	private void deserializePropertiesInParallel(JsonNode graph, Map<String, String> creationInfoIdToSpecVersion,
+			Map<String, TypedValue> graphIdToTypedValue) throws InvalidSPDXAnalysisException {
+		List<JsonNode> graphNodes = new ArrayList<>(graph.size());
+		graph.elements().forEachRemaining(graphNodes::add);
+		int numPartitions = Math.max(1, Math.min(graphNodes.size(), 
+				Runtime.getRuntime().availableProcessors() * PARTITIONS_PER_PROCESSOR));
+		int partitionSize = (graphNodes.size() + numPartitions - 1) / numPartitions;
+		List<CompletableFuture<Void>> partitions = new ArrayList<>();
+		for (int start = 0; start < graphNodes.size(); start += partitionSize) {
+			List<JsonNode> partition = graphNodes.subList(start, Math.min(start + partitionSize, graphNodes.size()));
+			partitions.add(CompletableFuture.runAsync(() -> {
+				try {
+					deserializeProperties(partition.iterator(), creationInfoIdToSpecVersion, graphIdToTypedValue);
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new CompletionException(e);
+				}
+			}, executor));
+		}
+		try {
+			CompletableFuture.allOf(partitions.toArray(new CompletableFuture<?>[partitions.size()])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof InvalidSPDXAnalysisException) {
+				throw (InvalidSPDXAnalysisException)e.getCause();
+			} else {
+				throw new InvalidSPDXAnalysisException("Error deserializing graph", e.getCause());
+			}
 		}
-		return nonAnonGraphItems;
 	}
 	
 
+	/**
+	 * Deserializes a JSON-LD graph one node at a time from a token stream into the modelStore
+	 * 
+	 * Each node in the graph is read, stored and discarded before the next node is read.  References to IDs
+	 * which appear later in the graph are recorded and stored once the referenced node is read, so the memory used
+	 * is proportional to the number of unresolved references rather than the size of the graph.
+	 * 
+	 * Elements referencing a creation info appearing later in the graph are created with the latest spec version
+	 * and recreated when the creation info is read if the creation info has a different spec version.
+	 * @param parser parser positioned at the start of the <code>@graph</code> array
+	 * @param overwrite if false, throw an exception if an element in the graph already exists in the modelStore
+	 * @return list of non-anonomous typed value Elements found in the graph nodes
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+	 * @throws IOException on errors reading from the parser
+	 */
+	public List<TypedValue> deserializeGraph(JsonParser parser, boolean overwrite) throws InvalidSPDXAnalysisException, IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			logger.error("Invalid type for deserializeGraph - must be an array");
+			throw new InvalidSPDXAnalysisException("Invalid type for deserializeGraph - must be an array");
+		}
+		GraphDeserialization graphDeserialization = new GraphDeserialization(overwrite, false, false);
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if (token != JsonToken.START_OBJECT) {
+				throw new InvalidSPDXAnalysisException("Invalid JSON-LD graph - expected an object but found "+token);
+			}
+			graphDeserialization.accept(parser.readValueAsTree());
+		}
+		return graphDeserialization.finish();
+	}
+
+	/**
+	 * Deserializes the JSON Lines form of a graph one node at a time from a token stream into the modelStore
+	 * 
+	 * Each line contains a single <code>@graph</code> entry, optionally preceded by a header line containing
+	 * the <code>@context</code>.  The nodes are deserialized in the same way as <code>deserializeGraph(parser, overwrite)</code>.
+	 * @param parser parser positioned before the first line
+	 * @param overwrite if false, throw an exception if an element in the graph already exists in the modelStore
+	 * @return list of non-anonomous typed value Elements found in the graph nodes
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+	 * @throws IOException on errors reading from the parser
+	 */
+	public List<TypedValue> deserializeGraphLines(JsonParser parser, boolean overwrite) throws InvalidSPDXAnalysisException, IOException {
+		GraphDeserialization graphDeserialization = new GraphDeserialization(overwrite, false, false);
+		boolean firstLine = true;
+		JsonToken token;
+		while (Objects.nonNull(token = parser.nextToken())) {
+			if (token != JsonToken.START_OBJECT) {
+				throw new InvalidSPDXAnalysisException("Invalid JSON Lines graph - expected an object but found "+token);
+			}
+			JsonNode graphNode = parser.readValueAsTree();
+			if (!(firstLine && JsonLDLinesConverter.isHeader(graphNode))) {
+				graphDeserialization.accept(graphNode);
+			}
+			firstLine = false;
+		}
+		return graphDeserialization.finish();
+	}
+
 	/**
 	 * @param id from the JSON-LD file
 	 * @param type SPDX type
@@ -143,39 +727,27 @@ public class JsonLDDeserializer {
 	 * @return a TypedValue based on the id, type, and specVersion
 	 * @throws InvalidSPDXAnalysisException on model errors
 	 */
-	private TypedValue createTypedValueFromNode(String id, String type,
+	TypedValue createTypedValueFromNode(String id, String type,
 			String specVersion) throws InvalidSPDXAnalysisException {
-		String storeId;
-		if (id.startsWith("_:")) {
-			if (!jsonAnonToStoreAnon.containsKey(id)) {
-				jsonAnonToStoreAnon.put(id, modelStore.getNextId(IdType.Anonymous));
-			}
-			storeId = jsonAnonToStoreAnon.get(id);
-		} else {
-			storeId = id;
-		}
+		String storeId = id.startsWith("_:") ? toStoreAnonId(id) : id;
 		return new TypedValue(storeId, type, specVersion);
 	}
-
+	
 	/**
-	 * @param graph Graph of SPDX elements
-	 * @return creationInfo JSON IDs and spec versions
+	 * @param jsonAnonId blank node ID used in the JSON-LD graph
+	 * @return the anonymous ID in the model store for the blank node ID - created if it does not already exist
+	 * @throws InvalidSPDXAnalysisException on errors obtaining a new anonymous ID
 	 */
-	private Map<String, String> findCreationInfos(JsonNode graph) {
-		Map<String, String> retval = new HashMap<>();
-		for (Iterator<JsonNode> iter = graph.elements(); iter.hasNext(); ) {
-			JsonNode graphNode = iter.next();
-			Optional<String> type = typeNodeToType(graphNode.get("type"));
-			if (type.isPresent() && SpdxConstantsV3.CORE_CREATION_INFO.equals(type.get())) {
-				String id = graphNode.has(SPDX_ID_PROP) ? graphNode.get(SPDX_ID_PROP).asText() : graphNode.get("@id").asText();
-				if (graphNode.has(SPEC_VERSION_PROP) && Objects.nonNull(id)) {
-					retval.put(id, graphNode.get(SPEC_VERSION_PROP).asText());
-				} else {
-					logger.warn("Unable to obtain spec version for a creation info: {}", Objects.isNull(id) ? "[no ID]" : id);
-				}
+	private String toStoreAnonId(String jsonAnonId) throws InvalidSPDXAnalysisException {
+		String storeId = jsonAnonToStoreAnon.get(jsonAnonId);
+		if (Objects.isNull(storeId)) {
+			String newStoreId = modelStore.getNextId(IdType.Anonymous);
+			storeId = jsonAnonToStoreAnon.putIfAbsent(jsonAnonId, newStoreId);
+			if (Objects.isNull(storeId)) {
+				storeId = newStoreId;
 			}
 		}
-		return retval;
+		return storeId;
 	}
 
 	/**
@@ -216,34 +788,74 @@ public class JsonLDDeserializer {
 	 * @param defaultSpecVersion version of the spec to use if no creation information is available
 	 * @param creationInfoIdToSpecVersion Map of creation info IDs to spec versions
 	 * @param graphIdToTypedValue map of top level Object URIs and IDs stored in the graph
+	 * @param deferredReferences if not null, references to IDs not yet in the graphIdToTypedValue are recorded here rather than treated as external
+	 * @return TypedValue of the core object
+	 * @throws InvalidSPDXAnalysisException on errors converting to SPDX
+	 * @throws GenerationException on errors creating the schema
+	 */
+	private TypedValue deserializeCoreObject(JsonNode node, String defaultSpecVersion,
+			Map<String, String> creationInfoIdToSpecVersion, Map<String, TypedValue> graphIdToTypedValue,
+			@Nullable DeferredReferences deferredReferences) throws InvalidSPDXAnalysisException, GenerationException {
+		List<PropertyBatch> batches = new ArrayList<>();
+		TypedValue retval = deserializeCoreObject(node, defaultSpecVersion, creationInfoIdToSpecVersion, 
+				graphIdToTypedValue, deferredReferences, batches);
+		writeProperties(batches);
+		return retval;
+	}
+	
+	/**
+	 * Deserialize a core object, creating the object and any inlined objects in the modelStore and accumulating
+	 * their property values to be written later
+	 * @param node Node containing an SPDX core object
+	 * @param defaultSpecVersion version of the spec to use if no creation information is available
+	 * @param creationInfoIdToSpecVersion Map of creation info IDs to spec versions
+	 * @param graphIdToTypedValue map of top level Object URIs and IDs stored in the graph
+	 * @param deferredReferences if not null, references to IDs not yet in the graphIdToTypedValue are recorded here rather than treated as external
+	 * @param batches updated with the property values of the core object and any inlined objects
 	 * @return TypedValue of the core object
 	 * @throws InvalidSPDXAnalysisException on errors converting to SPDX
 	 * @throws GenerationException on errors creating the schema
 	 */
-	private synchronized TypedValue deserializeCoreObject(JsonNode node, String defaultSpecVersion,
-			Map<String, String> creationInfoIdToSpecVersion, Map<String, TypedValue> graphIdToTypedValue) throws InvalidSPDXAnalysisException, GenerationException {
+	private TypedValue deserializeCoreObject(JsonNode node, String defaultSpecVersion,
+			Map<String, String> creationInfoIdToSpecVersion, Map<String, TypedValue> graphIdToTypedValue,
+			@Nullable DeferredReferences deferredReferences, List<PropertyBatch> batches) throws InvalidSPDXAnalysisException, GenerationException {
 		TypedValue tv = getOrCreateCoreObject(node, graphIdToTypedValue, defaultSpecVersion, creationInfoIdToSpecVersion);
+		PropertyBatch batch = new PropertyBatch(tv.getObjectUri());
+		batches.add(batch);
+		JsonLDSchema schema;
+		try {
+			schema = getOrCreateSchema(tv.getSpecVersion());
+		} catch (GenerationException e) {
+			throw new InvalidSPDXAnalysisException("Unable to convrt a JSON field name to a property", e);
+		}
 		for (Iterator<Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
 			Entry<String, JsonNode> field = fields.next();
 			if (!NON_PROPERTY_FIELD_NAMES.contains(field.getKey())) {
-				PropertyDescriptor property;
-				try {
-					Optional<PropertyDescriptor> optDesc = jsonFieledNameToProperty(field.getKey(), tv.getSpecVersion());
-					if (!optDesc.isPresent()) {
-						throw new InvalidSPDXAnalysisException("No property descriptor for field "+field.getKey());
-					}
-					property = optDesc.get();
-				} catch (GenerationException e) {
-					throw new InvalidSPDXAnalysisException("Unable to convrt a JSON field name to a property", e);
+				FieldPlan plan = schema.getFieldPlan(field.getKey());
+				if (!plan.getProperty().isPresent()) {
+					throw new InvalidSPDXAnalysisException("No property descriptor for field "+field.getKey());
 				}
+				PropertyDescriptor property = plan.getProperty().get();
 				if (field.getValue().isArray()) {
 					for (Iterator<JsonNode> elements = field.getValue().elements(); elements.hasNext(); ) {
-						modelStore.addValueToCollection(tv.getObjectUri(), property, toStoredObject(field.getKey(), elements.next(), tv.getSpecVersion(),
-								creationInfoIdToSpecVersion, graphIdToTypedValue));
+						Object value = toStoredObject(plan, elements.next(), tv.getSpecVersion(),
+								creationInfoIdToSpecVersion, graphIdToTypedValue, deferredReferences, batches);
+						if (value instanceof DeferredReferences.UnresolvedReference) {
+							deferredReferences.defer(((DeferredReferences.UnresolvedReference)value).getJsonId(),
+									new DeferredReferences.PendingReference(tv.getObjectUri(), property, true, tv.getSpecVersion()));
+						} else {
+							batch.addValueToCollection(property, value);
+						}
 					}
 				} else {
-					modelStore.setValue(tv.getObjectUri(), property, toStoredObject(field.getKey(), field.getValue(), tv.getSpecVersion(), 
-							creationInfoIdToSpecVersion, graphIdToTypedValue));
+					Object value = toStoredObject(plan, field.getValue(), tv.getSpecVersion(), 
+							creationInfoIdToSpecVersion, graphIdToTypedValue, deferredReferences, batches);
+					if (value instanceof DeferredReferences.UnresolvedReference) {
+						deferredReferences.defer(((DeferredReferences.UnresolvedReference)value).getJsonId(),
+								new DeferredReferences.PendingReference(tv.getObjectUri(), property, false, tv.getSpecVersion()));
+					} else {
+						batch.setValue(property, value);
+					}
 				}
 			}
 		}
@@ -269,76 +881,90 @@ public class JsonLDDeserializer {
 		} else {
 			jsonNodeId = node.has(SPDX_ID_PROP) ? node.get(SPDX_ID_PROP).asText() : null;
 		}
-		if (graphIdToTypedValue.containsKey(jsonNodeId)) {
-			return graphIdToTypedValue.get(jsonNodeId);
-		} else {
-			// Need to create the object
-			String id;
-			Optional<String> type;
-			String specVersion;
-			if (Objects.isNull(jsonNodeId)) {
-				id = modelStore.getNextId(IdType.Anonymous);
-			} else if (jsonNodeId.startsWith("_:")) {
-				if (!jsonAnonToStoreAnon.containsKey(jsonNodeId)) {
-					jsonAnonToStoreAnon.put(jsonNodeId, modelStore.getNextId(IdType.Anonymous));
+		if (Objects.isNull(jsonNodeId)) {
+			return createCoreObject(node, anonymousIdSource.nextId(), defaultSpecVersion, creationInfoIdToSpecVersion);
+		}
+		TypedValue existing = graphIdToTypedValue.get(jsonNodeId);
+		if (Objects.nonNull(existing)) {
+			return existing;
+		}
+		// The same blank node may be inlined in graph nodes deserialized by different partitions - computeIfAbsent
+		// on the concurrent map used for parallel deserialization ensures only one of them creates the object
+		try {
+			return graphIdToTypedValue.computeIfAbsent(jsonNodeId, nodeId -> {
+				try {
+					String id = nodeId.startsWith("_:") ? toStoreAnonId(nodeId) : nodeId;
+					return createCoreObject(node, id, defaultSpecVersion, creationInfoIdToSpecVersion);
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new CompletionException(e);
 				}
-				id = jsonAnonToStoreAnon.get(jsonNodeId);
-			} else {
-				id = jsonNodeId;
-			}
-			type = typeNodeToType(node.get("type"));
-			if (!type.isPresent()) {
-				logger.error("Missing type for core object {}", node);
-				throw new InvalidSPDXAnalysisException("Missing type for core object " + node);
-			}
-			specVersion = getSpecVersionFromNode(node, creationInfoIdToSpecVersion, defaultSpecVersion);
-			TypedValue tv = new TypedValue(id, type.get(), specVersion);
-			modelStore.create(tv);
-			graphIdToTypedValue.put(id, tv);
-			return tv;
+			});
+		} catch (CompletionException e) {
+			throw (InvalidSPDXAnalysisException)e.getCause();
 		}
 	}
+	
+	/**
+	 * Create a core object in the modelStore
+	 * @param node JSON Node for the core object
+	 * @param id ID of the object in the modelStore
+	 * @param defaultSpecVersion version of the spec to use if no creation information is available
+	 * @param creationInfoIdToSpecVersion Map of creation info IDs to spec versions
+	 * @return TypedValue for the created object
+	 * @throws InvalidSPDXAnalysisException on model exceptions
+	 */
+	private TypedValue createCoreObject(JsonNode node, String id, String defaultSpecVersion,
+			Map<String, String> creationInfoIdToSpecVersion) throws InvalidSPDXAnalysisException {
+		Optional<String> type = typeNodeToType(node.get("type"));
+		if (!type.isPresent()) {
+			logger.error("Missing type for core object {}", node);
+			throw new InvalidSPDXAnalysisException("Missing type for core object " + node);
+		}
+		String specVersion = getSpecVersionFromNode(node, creationInfoIdToSpecVersion, defaultSpecVersion);
+		TypedValue tv = new TypedValue(id, type.get(), specVersion);
+		modelStore.create(tv);
+		return tv;
+	}
 
 	/**
-	 * @param propertyName the name of the property in the JSON schema
+	 * @param plan plan for converting values of the JSON field
 	 * @param value JSON node containing an object to store in the modelStore
 	 * @param specVersion version of the spec to use if no creation information is available
 	 * @param creationInfoIdToSpecVersion Map of creation info IDs to spec versions
 	 * @param graphIdToTypedValue map of top level Object URIs and IDs stored in the graph
-	 * @return an object suitable for storing in the model store
+	 * @param deferredReferences if not null, references to IDs not yet in the graphIdToTypedValue are returned as unresolved references
+	 * @param batches updated with the property values of any inlined objects
+	 * @return an object suitable for storing in the model store or an <code>UnresolvedReference</code>
 	 * @throws InvalidSPDXAnalysisException on invalid SPDX data
 	 * @throws GenerationException on errors obtaining the schema
 	 */
-	private Object toStoredObject(String propertyName, JsonNode value, String specVersion,
-			Map<String, String> creationInfoIdToSpecVersion, Map<String, TypedValue> graphIdToTypedValue) throws InvalidSPDXAnalysisException, GenerationException {
-		Optional<String> propertyType = getOrCreateSchema(specVersion).getPropertyType(propertyName);
+	private Object toStoredObject(FieldPlan plan, JsonNode value, String specVersion,
+			Map<String, String> creationInfoIdToSpecVersion, Map<String, TypedValue> graphIdToTypedValue,
+			@Nullable DeferredReferences deferredReferences, List<PropertyBatch> batches) throws InvalidSPDXAnalysisException, GenerationException {
 		switch (value.getNodeType()) {
 			case ARRAY:
 				throw new InvalidSPDXAnalysisException("Can not convert a JSON array to a stored object");
 			case BOOLEAN: {
-				if (!propertyType.isPresent() || JsonLDSchema.BOOLEAN_TYPES.contains(propertyType.get())) {
-					return value.asBoolean();
-				} else if (JsonLDSchema.STRING_TYPES.contains(propertyType.get())) {
-					return value.asText();
-				} else {
-					throw new InvalidSPDXAnalysisException("Type mismatch.  Expecting "+propertyType+" but was a JSON Boolean");
+				switch (plan.getLiteralType()) {
+					case UNTYPED:
+					case BOOLEAN: return value.asBoolean();
+					case STRING: return value.asText();
+					default: throw new InvalidSPDXAnalysisException("Type mismatch.  Expecting "+plan.getPropertyType()+" but was a JSON Boolean");
 				}
 			}
 			case NULL: throw new InvalidSPDXAnalysisException("Can not convert a JSON NULL to a stored object");
 			case NUMBER: {
-				if (!propertyType.isPresent() || JsonLDSchema.INTEGER_TYPES.contains(propertyType.get())) {
-					return value.asInt();
-				} else if (JsonLDSchema.DOUBLE_TYPES.contains(propertyType.get())) {
-					return value.asDouble();
-				} else if (JsonLDSchema.STRING_TYPES.contains(propertyType.get())) {
-					return value.asText();
-				} else {
-					throw new InvalidSPDXAnalysisException("Type mismatch.  Expecting "+propertyType+" but was a JSON Boolean");
+				switch (plan.getLiteralType()) {
+					case UNTYPED:
+					case INTEGER: return value.asInt();
+					case DOUBLE: return value.asDouble();
+					case STRING: return value.asText();
+					default: throw new InvalidSPDXAnalysisException("Type mismatch.  Expecting "+plan.getPropertyType()+" but was a JSON Boolean");
 				}
 			}
-			case OBJECT: return deserializeCoreObject(value, specVersion, creationInfoIdToSpecVersion, graphIdToTypedValue);
+			case OBJECT: return deserializeCoreObject(value, specVersion, creationInfoIdToSpecVersion, graphIdToTypedValue, deferredReferences, batches);
 			case STRING:
-				return jsonStringToStoredValue(propertyName, value, specVersion, graphIdToTypedValue);
+				return jsonStringToStoredValue(plan, value, specVersion, graphIdToTypedValue, deferredReferences);
 			case BINARY:
 			case MISSING:
 			case POJO:
@@ -347,42 +973,37 @@ public class JsonLDDeserializer {
 	}
 
 	/**
-	 * @param propertyName name of property in the JSON schema
+	 * @param plan plan for converting values of the JSON field
 	 * @param jsonValue string value
 	 * @param graphIdToTypedValue map of top level Object URIs and IDs stored in the graph
+	 * @param deferredReferences if not null, references to IDs not yet in the graphIdToTypedValue are returned as unresolved references
 	 * @return appropriate SPDX object based on the type associated with the propertyName
 	 * @throws InvalidSPDXAnalysisException on invalid SPDX data
 	 * @throws GenerationException on error getting JSON schemas
 	 */
-	private Object jsonStringToStoredValue(String propertyName, JsonNode jsonValue, String specVersion, 
-			Map<String, TypedValue> graphIdToTypedValue) throws InvalidSPDXAnalysisException, GenerationException {
+	private Object jsonStringToStoredValue(FieldPlan plan, JsonNode jsonValue, String specVersion, 
+			Map<String, TypedValue> graphIdToTypedValue, @Nullable DeferredReferences deferredReferences) throws InvalidSPDXAnalysisException, GenerationException {
 		// A JSON string can represent an Element, another object (like CreatingInfo), an enumeration, an
 		// individual value URL, an external URI
-		JsonLDSchema schema = getOrCreateSchema(specVersion);
-		if (schema.isSpdxObject(propertyName)) {
-			return jsonStringToSpdxObject(jsonValue, specVersion, graphIdToTypedValue);
-		} else if (schema.isEnum(propertyName)) {
-			// we can assume that the @vocab points to the prefix for the enumerations
-			Optional<String> vocab = schema.getVocab(propertyName);
-			if (!vocab.isPresent()) {
-				throw new InvalidSPDXAnalysisException("Missing vocabulary for enum property "+propertyName);
+		if (plan.isSpdxObject()) {
+			if (Objects.nonNull(deferredReferences) && !graphIdToTypedValue.containsKey(jsonValue.asText())) {
+				// may be a forward reference to an object later in the graph
+				return new DeferredReferences.UnresolvedReference(jsonValue.asText());
 			}
-			return new SimpleUriValue(vocab.get() + jsonValue.asText());
+			return jsonStringToSpdxObject(jsonValue.asText(), specVersion, graphIdToTypedValue);
+		} else if (plan.getEnumVocab().isPresent()) {
+			// we can assume that the @vocab points to the prefix for the enumerations
+			return new SimpleUriValue(plan.getEnumVocab().get() + jsonValue.asText());
 		} else {
-			Optional<String> propertyType = schema.getPropertyType(propertyName);
-			if (!propertyType.isPresent()) {
-				logger.warn("Missing property type for value {}.  Defaulting to a string type", jsonValue);
-				return jsonValue.asText();
-			} else if (JsonLDSchema.STRING_TYPES.contains(propertyType.get())) {
-				return jsonValue.asText();
-			} else if (JsonLDSchema.DOUBLE_TYPES.contains(propertyType.get())) {
-				return Double.parseDouble(jsonValue.asText());
-			} else if (JsonLDSchema.INTEGER_TYPES.contains(propertyType.get())) {
-				return Integer.parseInt(jsonValue.asText());
-			} else if (JsonLDSchema.BOOLEAN_TYPES.contains(propertyType.get())) {
-				return Boolean.parseBoolean(jsonValue.asText());
-			} else {
-				throw new InvalidSPDXAnalysisException("Unknown type: "+propertyType.get()+" for property "+propertyName);
+			switch (plan.getLiteralType()) {
+				case UNTYPED:
+					logger.warn("Missing property type for value {}.  Defaulting to a string type", jsonValue);
+					return jsonValue.asText();
+				case STRING: return jsonValue.asText();
+				case DOUBLE: return Double.parseDouble(jsonValue.asText());
+				case INTEGER: return Integer.parseInt(jsonValue.asText());
+				case BOOLEAN: return Boolean.parseBoolean(jsonValue.asText());
+				default: throw new InvalidSPDXAnalysisException("Unknown type: "+plan.getPropertyType().get()+" for property "+plan.getFieldName());
 			}
 		}
 	}
@@ -394,70 +1015,38 @@ public class JsonLDDeserializer {
 	 * @return SPDX object based on the type associated with the propertyName
 	 * @throws InvalidSPDXAnalysisException on invalid SPDX data
 	 */
-	private Object jsonStringToSpdxObject(JsonNode jsonValue,
+	private Object jsonStringToSpdxObject(String jsonValue,
 			String specVersion, Map<String, TypedValue> graphIdToTypedValue) throws InvalidSPDXAnalysisException {
-		if (graphIdToTypedValue.containsKey(jsonValue.asText())) {
-			return graphIdToTypedValue.get(jsonValue.asText());
-		} else if (jsonValue.asText().startsWith(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE)) {
-			String licenseOrExceptionId = SpdxListedLicenseModelStore.objectUriToLicenseOrExceptionId(jsonValue.asText());
-			if (ListedLicenses.getListedLicenses().isSpdxListedLicenseId(licenseOrExceptionId) ||
-					ListedLicenses.getListedLicenses().isSpdxListedExceptionId(licenseOrExceptionId)) {
-				return copyManager.copy(modelStore, ListedLicenses.getListedLicenses().getLicenseModelStore(),
-						jsonValue.asText(), specVersion, null);
+		if (graphIdToTypedValue.containsKey(jsonValue)) {
+			return graphIdToTypedValue.get(jsonValue);
+		} else if (jsonValue.startsWith(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE)) {
+			if (listedLicenseCache.isListedLicenseOrException(jsonValue)) {
+				return listedLicenseCache.getStoredValue(modelStore, jsonValue, specVersion, copyManager);
 			} else {
 				// treat as an external element
-				return new SimpleUriValue(jsonValue.asText());
+				return new SimpleUriValue(jsonValue);
 			}
-		} else if (!jsonValue.asText().startsWith("_:")) {
+		} else if (!jsonValue.startsWith("_:")) {
 			// either an individual URI or an external element
-			return new SimpleUriValue(jsonValue.asText());
+			return new SimpleUriValue(jsonValue);
 		} else {
-			throw new InvalidSPDXAnalysisException("Can not determine property type for "+jsonValue.asText());
+			throw new InvalidSPDXAnalysisException("Can not determine property type for "+jsonValue);
 		}
 	}
 
-	/**
-	 * @param fieldName JSON name of the field
-	 * @param specVersion version of the spec used for the JSON field name conversion
-	 * @return Property descriptor associated with the JSON field name based on the Schema
-	 * @throws GenerationException when we can not create a schema
-	 */
-	private Optional<PropertyDescriptor> jsonFieledNameToProperty(String fieldName,
-			String specVersion) throws GenerationException {
-		JsonLDSchema schema = getOrCreateSchema(specVersion);
-		return schema.getPropertyDescriptor(fieldName);
-	}
-
 	/**
 	 * @param specVersion version of the spec
-	 * @return a schema for the spec version supplie
+	 * @return a schema for the spec version supplied or the latest spec version if none is available for the spec version
 	 * @throws GenerationException when we can not create a schema
 	 */
 	private JsonLDSchema getOrCreateSchema(String specVersion) throws GenerationException {
-		JsonLDSchema schema = versionToSchema.get(specVersion);
-		if (Objects.nonNull(schema)) {
-			return schema;
-		}
 		try {
-			schema = new JsonLDSchema(String.format("schema-v%s.json",  specVersion),
-					String.format("spdx-context-v%s.jsonld",  specVersion),
-					String.format("spdx-model-v%s.jsonld",  specVersion));
-			versionToSchema.put(specVersion, schema);
-			return schema;
+			return JsonLDSchemaRegistry.getSchema(specVersion);
 		} catch (GenerationException e) {
 			logger.warn("Unable to get a schema for spec version {}.  Trying latest spec version.", specVersion);
 		}
-		String latestVersion = SpdxModelFactory.getLatestSpecVersion();
-		schema = versionToSchema.get(latestVersion);
-		if (Objects.nonNull(schema)) {
-			return schema;
-		}
 		try {
-			schema = new JsonLDSchema(String.format("schema-v%s.json",  latestVersion),
-					String.format("spdx-context-v%s.jsonld",  latestVersion),
-					String.format("spdx-model-v%s.jsonld",  specVersion));
-			versionToSchema.put(latestVersion, schema);
-			return schema;
+			return JsonLDSchemaRegistry.getSchema(SpdxModelFactory.getLatestSpecVersion());
 		} catch (GenerationException e) {
 			logger.error("Unable to get JSON schema for latest version", e);
 			throw e;
@@ -466,14 +1055,17 @@ public class JsonLDDeserializer {
 
 	/**
 	 * @param typeNode node containing the type
-	 * @return
+	 * @return the SPDX model type for the JSON-LD type if it is a known SPDX type
 	 */
 	private Optional<String> typeNodeToType(JsonNode typeNode) {
 		if (Objects.isNull(typeNode)) {
 			return Optional.empty();
 		}
 		String jsonType = typeNode.asText();
-		String retval;
+		String retval = JsonLDSchema.JSON_TYPE_TO_MODEL_TYPE.get(jsonType);
+		if (Objects.nonNull(retval)) {
+			return Optional.of(retval);
+		}
 		if (jsonType.contains("_")) {
 			String[] typeParts = jsonType.split("_");
 			String profile = JSON_PREFIX_TO_MODEL_PREFIX.get(JsonLDSchema.RESERVED_JAVA_WORDS.getOrDefault(typeParts[0], typeParts[0]));
@@ -487,6 +1079,26 @@ public class JsonLDDeserializer {
 		return ALL_SPDX_TYPES.contains(retval) ? Optional.of(retval) : Optional.empty();
 	}
 
+	/**
+	 * Deserialize the properties of a graph node whose top level object has already been created in the modelStore
+	 * 
+	 * Used to inflate graph nodes individually where all graph IDs are known in advance
+	 * @param graphNode node in the <code>@graph</code>
+	 * @param creationInfoIdToSpecVersion Map of creation info IDs to spec versions
+	 * @param graphIdToTypedValue map of all IDs in the graph to the typed values for the top level objects
+	 * @return the typedValue of the deserialized object
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data
+	 */
+	TypedValue deserializeGraphNodeProperties(JsonNode graphNode, Map<String, String> creationInfoIdToSpecVersion,
+			Map<String, TypedValue> graphIdToTypedValue) throws InvalidSPDXAnalysisException {
+		try {
+			return deserializeCoreObject(graphNode, SpdxModelFactory.getLatestSpecVersion(), creationInfoIdToSpecVersion,
+					graphIdToTypedValue, null);
+		} catch (GenerationException e) {
+			throw new InvalidSPDXAnalysisException("Unable to open schema file");
+		}
+	}
+
 	/**
 	 * Deserialize a single element into the modelStore
 	 * @param elementNode element to deserialize
@@ -513,7 +1125,49 @@ public class JsonLDDeserializer {
 			modelStore.create(tv);
 			mapIdToTypedValue.put(id, tv);
 		}
-		return deserializeCoreObject(elementNode, SpdxModelFactory.getLatestSpecVersion(), creationInfoIdToSpecVersion, mapIdToTypedValue);
+		return deserializeCoreObject(elementNode, SpdxModelFactory.getLatestSpecVersion(), creationInfoIdToSpecVersion, mapIdToTypedValue, null);
+	}
+
+	/**
+	 * @return executor used to deserialize graph properties in parallel or null if the properties are deserialized on the calling thread
+	 */
+	public @Nullable Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Set an executor to deserialize the properties of the graph nodes in parallel partitions
+	 * 
+	 * The model store must support concurrent updates from multiple threads when an executor is set
+	 * @param executor executor used to deserialize graph properties in parallel (e.g. a <code>ForkJoinPool</code>) or null to deserialize on the calling thread
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * @param anonymousIdSource source of the IDs of the anonymous objects created for inlined objects without a JSON ID -
+	 * the source must be safe to call concurrently if an executor is set
+	 */
+	void setAnonymousIdSource(AnonymousIdSource anonymousIdSource) {
+		Objects.requireNonNull(anonymousIdSource, "Anonymous ID source must not be null");
+		this.anonymousIdSource = anonymousIdSource;
+	}
+
+	/**
+	 * @return cache of listed license lookups and copies
+	 */
+	public ListedLicenseCache getListedLicenseCache() {
+		return listedLicenseCache;
+	}
+
+	/**
+	 * By default, a new cache is used for each deserializer
+	 * @param listedLicenseCache cache of listed license lookups and copies (e.g. <code>ListedLicenseCache.getSharedCache()</code>)
+	 */
+	public void setListedLicenseCache(ListedLicenseCache listedLicenseCache) {
+		Objects.requireNonNull(listedLicenseCache, "Listed license cache must not be null");
+		this.listedLicenseCache = listedLicenseCache;
 	}
 
 }
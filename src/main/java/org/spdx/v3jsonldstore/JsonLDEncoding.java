@@ -0,0 +1,26 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Encodings of the JSON LD data model supported by the <code>JsonLDStore</code>
+ *
+ */
+public enum JsonLDEncoding {
+	/**
+	 * Standard JSON text
+	 */
+	JSON,
+	/**
+	 * Binary Smile encoding with shared property names and string values
+	 */
+	SMILE,
+	/**
+	 * Binary CBOR encoding with string references
+	 */
+	CBOR
+}
@@ -0,0 +1,160 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Converts between the standard JSON LD form <code>{"@context":..., "@graph":[...]}</code> and the JSON Lines form
+ *
+ * In the JSON Lines form, the first line is a header object containing the <code>@context</code> and any other
+ * fields of the root object other than <code>@graph</code>.  Each following line contains one <code>@graph</code> entry.
+ * The header line is optional when reading.
+ *
+ * Both conversions stream one graph entry at a time.  When converting to JSON Lines, all root fields other than
+ * <code>@graph</code> must precede the <code>@graph</code> so that they can be written in the header.  A document
+ * containing a single element rather than a <code>@graph</code> is converted to a single line, which converts back
+ * to a graph containing only that element.
+ *
+ */
+public final class JsonLDLinesConverter {
+
+	static final String LINE_SEPARATOR = "\n";
+	private static final String CONTEXT_PROP = "@context";
+	private static final String GRAPH_PROP = "@graph";
+	private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+	private JsonLDLinesConverter() {
+		// static methods only
+	}
+
+	/**
+	 * @param node first node in a JSON Lines graph
+	 * @return true if the node is a header line rather than a graph entry
+	 */
+	static boolean isHeader(JsonNode node) {
+		return node.has(CONTEXT_PROP) && !node.has("type");
+	}
+
+	/**
+	 * Convert a standard JSON LD document to the JSON Lines form
+	 * @param jsonLd stream containing the JSON LD document
+	 * @param jsonLines stream to write the JSON Lines to
+	 * @throws IOException on errors reading or writing, or if the document can not be represented as JSON Lines
+	 */
+	public static void toJsonLines(InputStream jsonLd, OutputStream jsonLines) throws IOException {
+		Objects.requireNonNull(jsonLd, "JSON LD input stream must not be null");
+		Objects.requireNonNull(jsonLines, "JSON Lines output stream must not be null");
+		try (JsonParser parser = JSON_MAPPER.getFactory().createParser(jsonLd);
+				JsonGenerator generator = JSON_MAPPER.getFactory().createGenerator(jsonLines)) {
+			generator.setPrettyPrinter(new MinimalPrettyPrinter(LINE_SEPARATOR));
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("Root of the JSON LD document is not an object");
+			}
+			ObjectNode header = JSON_MAPPER.createObjectNode();
+			boolean graphFound = false;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				parser.nextToken();
+				if (GRAPH_PROP.equals(fieldName)) {
+					if (parser.currentToken() != JsonToken.START_ARRAY) {
+						throw new IOException("Invalid type for @graph - must be an array");
+					}
+					JSON_MAPPER.writeTree(generator, header);
+					graphFound = true;
+					JsonToken token;
+					while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+						if (token != JsonToken.START_OBJECT) {
+							throw new IOException("Invalid JSON-LD graph - expected an object but found "+token);
+						}
+						JSON_MAPPER.writeTree(generator, parser.readValueAsTree());
+					}
+				} else if (graphFound) {
+					throw new IOException("Field "+fieldName+" follows the @graph and can not be written to the JSON Lines header");
+				} else {
+					header.set(fieldName, (JsonNode)parser.readValueAsTree());
+				}
+			}
+			if (!graphFound) {
+				// single element document - the context is moved to the header
+				JsonNode context = header.remove(CONTEXT_PROP);
+				if (Objects.nonNull(context)) {
+					ObjectNode contextHeader = JSON_MAPPER.createObjectNode();
+					contextHeader.set(CONTEXT_PROP, context);
+					JSON_MAPPER.writeTree(generator, contextHeader);
+				}
+				if (header.size() > 0) {
+					JSON_MAPPER.writeTree(generator, header);
+				}
+			}
+			generator.writeRaw(LINE_SEPARATOR);
+		}
+	}
+
+	/**
+	 * Convert the JSON Lines form to a standard JSON LD document
+	 * @param jsonLines stream containing the JSON Lines
+	 * @param jsonLd stream to write the JSON LD document to
+	 * @param pretty if true, indent the JSON LD document
+	 * @throws IOException on errors reading or writing
+	 */
+	public static void fromJsonLines(InputStream jsonLines, OutputStream jsonLd, boolean pretty) throws IOException {
+		Objects.requireNonNull(jsonLines, "JSON Lines input stream must not be null");
+		Objects.requireNonNull(jsonLd, "JSON LD output stream must not be null");
+		try (JsonParser parser = JSON_MAPPER.getFactory().createParser(jsonLines);
+				JsonGenerator generator = JSON_MAPPER.getFactory().createGenerator(jsonLd)) {
+			if (pretty) {
+				generator.useDefaultPrettyPrinter();
+			}
+			generator.writeStartObject();
+			boolean firstLine = true;
+			JsonToken token;
+			while (Objects.nonNull(token = parser.nextToken())) {
+				if (token != JsonToken.START_OBJECT) {
+					throw new IOException("Invalid JSON Lines graph - expected an object but found "+token);
+				}
+				JsonNode node = parser.readValueAsTree();
+				if (firstLine) {
+					if (isHeader(node)) {
+						for (Iterator<Entry<String, JsonNode>> iter = node.fields(); iter.hasNext(); ) {
+							Entry<String, JsonNode> field = iter.next();
+							generator.writeFieldName(field.getKey());
+							JSON_MAPPER.writeTree(generator, field.getValue());
+						}
+					}
+					generator.writeFieldName(GRAPH_PROP);
+					generator.writeStartArray();
+					if (!isHeader(node)) {
+						JSON_MAPPER.writeTree(generator, node);
+					}
+					firstLine = false;
+				} else {
+					JSON_MAPPER.writeTree(generator, node);
+				}
+			}
+			if (firstLine) {
+				generator.writeFieldName(GRAPH_PROP);
+				generator.writeStartArray();
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+	}
+}
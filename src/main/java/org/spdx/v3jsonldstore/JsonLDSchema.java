@@ -22,6 +22,7 @@ import java.util.Map.Entry;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
 import org.spdx.storage.PropertyDescriptor;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -41,10 +42,132 @@ import net.jimblackler.jsonschemafriend.Validator;
  * @author Gary O'Neall
  * 
  * Represents the JSON Schema for SPDX 3.X includes a number of convenience methods
+ * 
+ * The schema is not modified once constructed.  Use <code>JsonLDSchemaRegistry</code> to obtain
+ * a shared instance rather than loading the schema files for every use.
  *
  */
 public class JsonLDSchema {
 	
+	/**
+	 * Classification of an SPDX model type which determines how references to objects
+	 * of that type are serialized
+	 */
+	public enum TypeCategory {
+		/**
+		 * Subclass of Element - serialized in the <code>@graph</code> and referenced by ID
+		 */
+		ELEMENT,
+		/**
+		 * CreationInfo - serialized in the <code>@graph</code> as a blank node
+		 */
+		CREATION_INFO,
+		/**
+		 * Subclass of AnyLicenseInfo which is not an Element - may be serialized as a license expression string
+		 */
+		ANY_LICENSE_INFO,
+		/**
+		 * Any other type - serialized inline within the referencing object
+		 */
+		INLINE
+	}
+	
+	/**
+	 * Type of a literal JSON value based on the <code>@type</code> in the JSON-LD context
+	 */
+	public enum LiteralType {
+		/**
+		 * No type is defined in the JSON-LD context
+		 */
+		UNTYPED,
+		STRING,
+		INTEGER,
+		DOUBLE,
+		BOOLEAN,
+		/**
+		 * A type is defined in the JSON-LD context which is not one of the supported literal types
+		 */
+		UNKNOWN
+	}
+	
+	/**
+	 * Everything needed to convert the value of a JSON field to a value stored in the model store
+	 * 
+	 * Compiled once per spec version from the JSON-LD context and model
+	 */
+	public static final class FieldPlan {
+		private final String fieldName;
+		private final Optional<PropertyDescriptor> property;
+		private final Optional<String> propertyType;
+		private final LiteralType literalType;
+		private final boolean spdxObject;
+		private final Optional<String> enumVocab;
+		
+		private FieldPlan(String fieldName, Optional<PropertyDescriptor> property, Optional<String> propertyType,
+				boolean spdxObject, Optional<String> enumVocab) {
+			this.fieldName = fieldName;
+			this.property = property;
+			this.propertyType = propertyType;
+			this.spdxObject = spdxObject;
+			this.enumVocab = enumVocab;
+			if (!propertyType.isPresent()) {
+				literalType = LiteralType.UNTYPED;
+			} else if (STRING_TYPES.contains(propertyType.get())) {
+				literalType = LiteralType.STRING;
+			} else if (INTEGER_TYPES.contains(propertyType.get())) {
+				literalType = LiteralType.INTEGER;
+			} else if (DOUBLE_TYPES.contains(propertyType.get())) {
+				literalType = LiteralType.DOUBLE;
+			} else if (BOOLEAN_TYPES.contains(propertyType.get())) {
+				literalType = LiteralType.BOOLEAN;
+			} else {
+				literalType = LiteralType.UNKNOWN;
+			}
+		}
+
+		/**
+		 * @return the JSON field name
+		 */
+		public String getFieldName() {
+			return fieldName;
+		}
+
+		/**
+		 * @return the SPDX model property descriptor for the field
+		 */
+		public Optional<PropertyDescriptor> getProperty() {
+			return property;
+		}
+
+		/**
+		 * @return the JSON-LD property type from the context
+		 */
+		public Optional<String> getPropertyType() {
+			return propertyType;
+		}
+
+		/**
+		 * @return the literal type for the property type
+		 */
+		public LiteralType getLiteralType() {
+			return literalType;
+		}
+
+		/**
+		 * @return true if a string value is an ID representing an SPDX Object
+		 */
+		public boolean isSpdxObject() {
+			return spdxObject;
+		}
+
+		/**
+		 * @return the vocabulary prefix if the value is an enumeration
+		 */
+		public Optional<String> getEnumVocab() {
+			return enumVocab;
+		}
+	}
+	
 	static final Logger logger = LoggerFactory.getLogger(JsonLDSchema.class);
 	private static final String ANY_CLASS_URI_SUFFIX = "/$defs/AnyClass";
 	
@@ -87,15 +210,39 @@ public class JsonLDSchema {
 		STRING_TYPES.add("http://www.w3.org/2001/XMLSchema#anyURI");
 	}
 	
+	/**
+	 * Map of SPDX model types (e.g. <code>Software.SpdxPackage</code>) to the JSON-LD type names (e.g. <code>software_Package</code>)
+	 */
+	static final Map<String, String> MODEL_TYPE_TO_JSON_TYPE;
+	/**
+	 * Map of JSON-LD type names to the SPDX model types
+	 */
+	static final Map<String, String> JSON_TYPE_TO_MODEL_TYPE;
+	static {
+		Map<String, String> modelTypeToJsonType = new HashMap<>();
+		Map<String, String> jsonTypeToModelType = new HashMap<>();
+		for (String modelType:SpdxConstantsV3.ALL_SPDX_CLASSES) {
+			String jsonType = modelTypeToJsonType(modelType);
+			modelTypeToJsonType.put(modelType, jsonType);
+			jsonTypeToModelType.put(jsonType, modelType);
+		}
+		MODEL_TYPE_TO_JSON_TYPE = Collections.unmodifiableMap(modelTypeToJsonType);
+		JSON_TYPE_TO_MODEL_TYPE = Collections.unmodifiableMap(jsonTypeToModelType);
+	}
+	
 	static final ObjectMapper JSON_MAPPER = new ObjectMapper();
 	private static final String OBJECT_TYPE = "http://www.w3.org/2002/07/owl#ObjectProperty";
 	private static final String INDIVIDUAL_TYPE = "http://www.w3.org/2002/07/owl#NamedIndividual";
-	private JsonNode contexts;
-	private Schema spdxRootSchema;
-	private Map<String, JsonNode> modelStatements = new HashMap<>(); // maps the ID to the statement
-	private Validator validator = new Validator();
-	private List<String> elementTypes;
-	private List<String> anyLicenseInfoTypes;
+	private final JsonNode contexts;
+	private final Schema spdxRootSchema;
+	private final Map<String, JsonNode> modelStatements = new HashMap<>(); // maps the ID to the statement
+	private final Validator validator = new Validator();
+	private final List<String> elementTypes;
+	private final List<String> anyLicenseInfoTypes;
+	private final Map<String, TypeCategory> typeCategories;
+	private final Map<String, Optional<PropertyDescriptor>> fieldNameToProperty;
+	private final Map<PropertyDescriptor, String> propertyToFieldName;
+	private final Map<String, FieldPlan> fieldPlans;
 
 	/**
 	 * @param schemaFileName File name for the schema file in the resources directory
@@ -111,13 +258,14 @@ public class JsonLDSchema {
 				throw new GenerationException("Unable to open JSON LD context file");
 			}
 			JsonNode root = JSON_MAPPER.readTree(is);
-			this.contexts = root.get("@context");
-			if (Objects.isNull(contexts)) {
+			JsonNode contextNode = root.get("@context");
+			if (Objects.isNull(contextNode)) {
 				throw new GenerationException("Missing contexts");
 			}
-			if (!contexts.isObject()) {
+			if (!contextNode.isObject()) {
 				throw new GenerationException("Contexts is not an object");
 			}
+			this.contexts = contextNode;
 		} catch (IOException e1) {
 			throw new GenerationException("I/O Error loading JSON LD Context file", e1);
 		}
@@ -135,8 +283,128 @@ public class JsonLDSchema {
 		} catch (IOException e1) {
 			throw new GenerationException("I/O Error loading JSON LD model file", e1);
 		}
-		elementTypes = collectTypes("Element");
-		anyLicenseInfoTypes = collectTypes("simplelicensing_AnyLicenseInfo");
+		elementTypes = Collections.unmodifiableList(collectTypes("Element"));
+		anyLicenseInfoTypes = Collections.unmodifiableList(collectTypes("simplelicensing_AnyLicenseInfo"));
+		Map<String, TypeCategory> categories = new HashMap<>();
+		for (String elementType:elementTypes) {
+			categories.put(elementType, TypeCategory.ELEMENT);
+		}
+		for (String licenseType:anyLicenseInfoTypes) {
+			categories.putIfAbsent(licenseType, TypeCategory.ANY_LICENSE_INFO);
+		}
+		categories.putIfAbsent(SpdxConstantsV3.CORE_CREATION_INFO, TypeCategory.CREATION_INFO);
+		typeCategories = Collections.unmodifiableMap(categories);
+		Map<String, Optional<PropertyDescriptor>> fieldProperties = new HashMap<>();
+		Map<PropertyDescriptor, String> propertyFields = new HashMap<>();
+		for (Iterator<Entry<String, JsonNode>> iter = contexts.fields(); iter.hasNext(); ) {
+			Entry<String, JsonNode> entry = iter.next();
+			Optional<PropertyDescriptor> property = contextToPropertyDescriptor(entry.getValue());
+			if (property.isPresent()) {
+				fieldProperties.put(entry.getKey(), property);
+				propertyFields.putIfAbsent(property.get(), propertyToJsonPropertyName(property.get()));
+			}
+		}
+		// field names which are Java reserved words are translated before looking up the context
+		for (Entry<String, String> entry:REVERSE_JAVA_WORDS.entrySet()) {
+			JsonNode propertyNode = contexts.get(entry.getValue());
+			Optional<PropertyDescriptor> property = Objects.isNull(propertyNode) ? Optional.empty() : 
+				contextToPropertyDescriptor(propertyNode);
+			if (property.isPresent()) {
+				fieldProperties.put(entry.getKey(), property);
+			} else {
+				fieldProperties.remove(entry.getKey());
+			}
+		}
+		fieldNameToProperty = Collections.unmodifiableMap(fieldProperties);
+		propertyToFieldName = Collections.unmodifiableMap(propertyFields);
+		Map<String, FieldPlan> plans = new HashMap<>();
+		for (Iterator<String> iter = contexts.fieldNames(); iter.hasNext(); ) {
+			String fieldName = iter.next();
+			plans.put(fieldName, compileFieldPlan(fieldName));
+		}
+		for (String fieldName:fieldNameToProperty.keySet()) {
+			plans.computeIfAbsent(fieldName, this::compileFieldPlan);
+		}
+		fieldPlans = Collections.unmodifiableMap(plans);
+	}
+	
+	/**
+	 * @param fieldName JSON field name
+	 * @return plan for converting values of the field
+	 */
+	private FieldPlan compileFieldPlan(String fieldName) {
+		boolean enumProperty = isEnum(fieldName);
+		return new FieldPlan(fieldName, getPropertyDescriptor(fieldName), getPropertyType(fieldName),
+				!enumProperty && isSpdxObject(fieldName), enumProperty ? getVocab(fieldName) : Optional.empty());
+	}
+	
+	/**
+	 * @param fieldName JSON field name
+	 * @return plan for converting values of the field to model store values
+	 */
+	public FieldPlan getFieldPlan(String fieldName) {
+		FieldPlan retval = fieldPlans.get(fieldName);
+		return Objects.nonNull(retval) ? retval : compileFieldPlan(fieldName);
+	}
+	
+	/**
+	 * @param modelType SPDX model type (e.g. <code>Software.SpdxPackage</code>)
+	 * @return the JSON-LD type name (e.g. <code>software_Package</code>)
+	 */
+	private static String modelTypeToJsonType(String modelType) {
+		String[] parts = modelType.split("\\.");
+		if ("Core".equals(parts[0])) {
+			return REVERSE_JAVA_WORDS.getOrDefault(parts[1], parts[1]);
+		} else {
+			return parts[0].toLowerCase() + "_" + REVERSE_JAVA_WORDS.getOrDefault(parts[1], parts[1]);
+		}
+	}
+	
+	/**
+	 * @param prop property descriptor
+	 * @return the JSON-LD property name for the property descriptor
+	 */
+	private static String propertyToJsonPropertyName(PropertyDescriptor prop) {
+		String profile = prop.getNameSpace().substring(0, prop.getNameSpace().length()-1);
+		profile = profile.substring(profile.lastIndexOf('/') + 1);
+		if ("Core".equals(profile)) {
+			return prop.getName();
+		} else {
+			return profile.toLowerCase() + "_" + prop.getName();
+		}
+	}
+	
+	/**
+	 * @param propertyNode JSON-LD context entry for a property
+	 * @return the property descriptor for the <code>@id</code> of the context entry
+	 */
+	private static Optional<PropertyDescriptor> contextToPropertyDescriptor(JsonNode propertyNode) {
+		JsonNode idNode = propertyNode.get("@id");
+		if (Objects.isNull(idNode)) {
+			return Optional.empty();
+		}
+		String propertyUri = idNode.asText();
+		String namespace = propertyUri.substring(0, propertyUri.lastIndexOf('/')+1);
+		String name = propertyUri.substring(propertyUri.lastIndexOf('/')+1);
+		return Optional.of(new PropertyDescriptor(name, namespace));
+	}
+	
+	/**
+	 * @param modelType SPDX model type (e.g. <code>Software.SpdxPackage</code>)
+	 * @return the JSON-LD type name (e.g. <code>software_Package</code>)
+	 */
+	public static String getJsonType(String modelType) {
+		String retval = MODEL_TYPE_TO_JSON_TYPE.get(modelType);
+		return Objects.nonNull(retval) ? retval : modelTypeToJsonType(modelType);
+	}
+	
+	/**
+	 * @param prop property descriptor
+	 * @return the JSON-LD property name for the property descriptor
+	 */
+	public String getJsonPropertyName(PropertyDescriptor prop) {
+		String retval = propertyToFieldName.get(prop);
+		return Objects.nonNull(retval) ? retval : propertyToJsonPropertyName(prop);
 	}
 	
 	/**
@@ -385,6 +653,14 @@ public class JsonLDSchema {
 		return anyLicenseInfoTypes;
 	}
 
+	/**
+	 * @param type SPDX model type (e.g. <code>Software.SpdxPackage</code>)
+	 * @return the category for the type - <code>INLINE</code> if the type is not an Element, CreationInfo, or AnyLicenseInfo
+	 */
+	public TypeCategory getTypeCategory(String type) {
+		return typeCategories.getOrDefault(type, TypeCategory.INLINE);
+	}
+
 	/**
 	 * @param propertyName
 	 * @return the JSON property type if it exists in the JSON-LD context
@@ -420,19 +696,7 @@ public class JsonLDSchema {
 	 * @return the SPDX model property descriptor for the JSON property
 	 */
 	public Optional<PropertyDescriptor> getPropertyDescriptor(String fieldName) {
-		String propName = REVERSE_JAVA_WORDS.getOrDefault(fieldName, fieldName);
-		JsonNode propertyNode = contexts.get(propName);
-		if (Objects.isNull(propertyNode)) {
-			return Optional.empty();
-		}
-		JsonNode idNode = propertyNode.get("@id");
-		if (Objects.isNull(idNode)) {
-			return Optional.empty();
-		}
-		String propertyUri = idNode.asText();
-		String namespace = propertyUri.substring(0, propertyUri.lastIndexOf('/')+1);
-		String name = propertyUri.substring(propertyUri.lastIndexOf('/')+1);
-		return Optional.of(new PropertyDescriptor(name, namespace));
+		return fieldNameToProperty.getOrDefault(fieldName, Optional.empty());
 	}
 	
 	/**
@@ -0,0 +1,106 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.library.SpdxModelFactory;
+
+import net.jimblackler.jsonschemafriend.GenerationException;
+
+/**
+ * Process wide registry of JSON LD schemas keyed by SPDX spec version
+ *
+ * Loading a schema parses the JSON schema, JSON LD context and model files which is expensive,
+ * so each spec version is loaded once and shared by all serializers and deserializers.
+ * The schemas are not modified after they are loaded and are safe to share between threads.
+ *
+ * @author Gary O'Neall
+ *
+ */
+public final class JsonLDSchemaRegistry {
+
+	static final Logger logger = LoggerFactory.getLogger(JsonLDSchemaRegistry.class);
+
+	private static final ConcurrentMap<String, JsonLDSchema> VERSION_TO_SCHEMA = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, Long> VERSION_TO_LOAD_TIME_MILLIS = new ConcurrentHashMap<>();
+	private static final Object LOAD_LOCK = new Object();
+
+	private JsonLDSchemaRegistry() {
+		// static methods only
+	}
+
+	/**
+	 * @param specVersion version of the spec
+	 * @return the schema for the spec version, loading it if it has not already been loaded
+	 * @throws GenerationException if the schema files for the spec version can not be loaded
+	 */
+	public static JsonLDSchema getSchema(String specVersion) throws GenerationException {
+		Objects.requireNonNull(specVersion, "Spec version must not be null");
+		JsonLDSchema schema = VERSION_TO_SCHEMA.get(specVersion);
+		if (Objects.nonNull(schema)) {
+			return schema;
+		}
+		synchronized (LOAD_LOCK) {
+			schema = VERSION_TO_SCHEMA.get(specVersion);
+			if (Objects.isNull(schema)) {
+				long start = System.nanoTime();
+				schema = new JsonLDSchema(String.format("schema-v%s.json",  specVersion),
+						String.format("spdx-context-v%s.jsonld",  specVersion),
+						String.format("spdx-model-v%s.jsonld",  specVersion));
+				long loadTimeMillis = (System.nanoTime() - start) / 1000000L;
+				VERSION_TO_LOAD_TIME_MILLIS.put(specVersion, loadTimeMillis);
+				VERSION_TO_SCHEMA.put(specVersion, schema);
+				logger.debug("Loaded JSON LD schema for spec version {} in {} ms", specVersion, loadTimeMillis);
+			}
+			return schema;
+		}
+	}
+
+	/**
+	 * Eagerly loads the schemas for the spec versions so that the first serialization does not pay the load cost
+	 * @param specVersions versions of the spec to load - if none are supplied, the latest spec version is loaded
+	 * @throws GenerationException if the schema files for any of the spec versions can not be loaded
+	 */
+	public static void preload(String... specVersions) throws GenerationException {
+		if (Objects.isNull(specVersions) || specVersions.length == 0) {
+			getSchema(SpdxModelFactory.getLatestSpecVersion());
+		} else {
+			for (String specVersion:specVersions) {
+				getSchema(specVersion);
+			}
+		}
+	}
+
+	/**
+	 * @param specVersion version of the spec
+	 * @return true if the schema for the spec version has already been loaded
+	 */
+	public static boolean isLoaded(String specVersion) {
+		return VERSION_TO_SCHEMA.containsKey(specVersion);
+	}
+
+	/**
+	 * @param specVersion version of the spec
+	 * @return the time in milliseconds it took to load the schema for the spec version if it has been loaded
+	 */
+	public static Optional<Long> getLoadTimeMillis(String specVersion) {
+		return Optional.ofNullable(VERSION_TO_LOAD_TIME_MILLIS.get(specVersion));
+	}
+
+	/**
+	 * @return an unmodifiable map of spec versions to the time in milliseconds it took to load their schemas
+	 */
+	public static Map<String, Long> getLoadTimesMillis() {
+		return Collections.unmodifiableMap(VERSION_TO_LOAD_TIME_MILLIS);
+	}
+}
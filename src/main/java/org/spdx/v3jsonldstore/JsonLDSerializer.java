@@ -4,19 +4,31 @@
  */
 package org.spdx.v3jsonldstore;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -36,14 +48,24 @@ import org.spdx.library.model.v3_0_1.core.Element;
 import org.spdx.library.model.v3_0_1.core.SpdxDocument;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IModelStoreLock;
-import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.PropertyDescriptor;
+import org.spdx.v3jsonldstore.JsonLDSchema.TypeCategory;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 
@@ -64,81 +86,66 @@ public class JsonLDSerializer {
 	
 	static final Logger logger = LoggerFactory.getLogger(JsonLDSerializer.class);
 	
-	static final Comparator<JsonNode> NODE_COMPARATOR = new Comparator<JsonNode>() {
+	/**
+	 * Orders graph entries by their precomputed sort keys
+	 */
+	static final Comparator<GraphEntry> GRAPH_ENTRY_COMPARATOR = Comparator.comparing(GraphEntry::getSortKey);
+	
+	/**
+	 * An object to be serialized as a top level node in the <code>@graph</code>
+	 */
+	static class GraphEntry {
+		private final CoreModelObject modelObject;
+		private final String serializedId;
+		private final boolean documentOnly;
+		private final String sortKey;
+		
+		/**
+		 * @param modelObject object to serialize
+		 * @param serializedId ID used in the serialization
+		 * @param documentOnly if true, only the SPDX document properties are serialized - not the elements
+		 */
+		GraphEntry(CoreModelObject modelObject, String serializedId, boolean documentOnly) {
+			this.modelObject = modelObject;
+			this.serializedId = serializedId;
+			this.documentOnly = documentOnly;
+			// objects identified by an @id (e.g. creation information) precede the elements identified by an spdxId
+			this.sortKey = (modelObject instanceof Element ? "1:" : "0:") + serializedId;
+		}
 
-		@Override
-		public int compare(JsonNode arg0, JsonNode arg1) {
-			if (Objects.isNull(arg0)) {
-				return Objects.isNull(arg1) ? 0 : 1;
-			}
-			if (Objects.isNull(arg1)) {
-				return -1;
-			}
-			if (arg0.isTextual()) {
-				return arg1.isTextual() ? arg0.asText().compareTo(arg1.asText()) : 1;
-			} else if (arg0.isObject()) {
-				return arg1.isObject() ? compareObject(arg0, arg1) : 1;
-			} else if (arg0.isArray()) {
-				if (!arg1.isArray()) {
-					return 1;
-				}
-				if (arg0.size() > arg1.size()) {
-					return 1;
-				} else if (arg0.size() < arg1.size()) {
-					return -1;
-				} else {
-					List<JsonNode> list0 = new ArrayList<>();
-					arg0.spliterator().forEachRemaining(list0::add);
-					list0.sort(NODE_COMPARATOR);
-					List<JsonNode> list1 = new ArrayList<>();
-					arg1.spliterator().forEachRemaining(list1::add);
-					list1.sort(NODE_COMPARATOR);
-					for (int i = 0; i < list0.size(); i++) {
-						int retval = compare(list0.get(i), list1.get(i));
-						if (retval != 0) {
-							return retval;
-						}
-					}
-					return 0;
-				}
-			} else {
-				return Integer.compare(arg0.hashCode(), arg1.hashCode());
-			}
+		/**
+		 * @return the object to serialize
+		 */
+		CoreModelObject getModelObject() {
+			return modelObject;
 		}
 
-		private int compareObject(JsonNode arg0, JsonNode arg1) {
-			if (!arg1.isObject()) {
-				return 1;
-			}
-			JsonNode spdxId0 = arg0.get(JsonLDDeserializer.SPDX_ID_PROP);
-			if (Objects.nonNull(spdxId0)) {
-				JsonNode spdxId1 = arg1.get(JsonLDDeserializer.SPDX_ID_PROP);
-				if (Objects.isNull(spdxId1)) {
-					return 1;
-				}
-				return arg0.asText().compareTo(arg1.asText());
-			}
-			
-			//TODO: Add any special classes for sorting other than by fields
-			// If no SPDX ID, sort by properties
-			List<String> fieldNames = new ArrayList<>();
-			arg0.fieldNames().forEachRemaining(fieldNames::add);
-			Collections.sort(fieldNames);
-			int retval = 0;
-			for (String fieldName:fieldNames) {
-				JsonNode value0 = arg0.get(fieldName);
-				JsonNode value1 = arg1.get(fieldName);
-				retval = compare(value0, value1);
-				if (retval != 0) {
-					return retval;
-				}
-			}
-			return retval;
+		/**
+		 * @return the ID used in the serialization
+		 */
+		String getSerializedId() {
+			return serializedId;
+		}
+
+		/**
+		 * @return if true, only the SPDX document properties are serialized - not the elements
+		 */
+		boolean isDocumentOnly() {
+			return documentOnly;
 		}
 		
-	};
+		/**
+		 * @return key used to order the entries in the graph
+		 */
+		String getSortKey() {
+			return sortKey;
+		}
+	}
 
-	private static final String GENERATED_SERIALIZED_ID_PREFIX = "https://generated-prefix/";
+	/**
+	 * Prefix of the URIs generated for elements with anonymous IDs, followed by an ID unique to the serializer or store
+	 */
+	static final String GENERATED_SERIALIZED_ID_PREFIX = "https://generated-prefix/";
 
 	private static final String CONTEXT_URI = "https://spdx.org/rdf/%s/spdx-context.jsonld";
 
@@ -146,12 +153,25 @@ public class JsonLDSerializer {
 
 	private static final String CONTEXT_PROP = "@context";
 	
+	/**
+	 * Maximum number of graph entries converted ahead of the entry being written when an executor is set
+	 */
+	private static final int PARALLEL_WINDOW_SIZE = 1024;
+	
+	/**
+	 * Top level property listing the IDs of the elements deleted in a serialization of changes
+	 */
+	static final String DELETED_PROP = "deleted";
+	
 	private IModelStore modelStore;
 	private ObjectMapper jsonMapper;
 	private boolean pretty;
 	private String specVersion;
 	private JsonLDSchema jsonLDSchema;
 	private boolean useExternalListedElements;
+	private Executor executor = null;
+	private ElementRenderCache renderCache = null;
+	private String generatedIdPrefix = GENERATED_SERIALIZED_ID_PREFIX + UUID.randomUUID() + "#";
 
 	/**
 	 * @param jsonMapper mapper to use for serialization
@@ -171,9 +191,7 @@ public class JsonLDSerializer {
 		this.modelStore = modelStore;
 		this.specVersion = specVersion;
 		this.useExternalListedElements = useExternalListedElements;
-		jsonLDSchema = new JsonLDSchema(String.format("schema-v%s.json",  specVersion),
-				String.format("spdx-context-v%s.jsonld",  specVersion),
-				String.format("spdx-model-v%s.jsonld",  specVersion));
+		jsonLDSchema = JsonLDSchemaRegistry.getSchema(specVersion);
 	}
 
 	/**
@@ -182,81 +200,670 @@ public class JsonLDSerializer {
 	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
 	 */
 	public JsonNode serialize(@Nullable CoreModelObject objectToSerialize) throws InvalidSPDXAnalysisException {
+		ObjectNode root = jsonMapper.createObjectNode();
+		root.put(CONTEXT_PROP, String.format(CONTEXT_URI, specVersion));
+		ArrayNode graphNodes = jsonMapper.createArrayNode();
+		Map<String, String> idToSerializedId = new HashMap<>();
+		IModelStoreLock lock = modelStore.enterCriticalSection(true);
+		try {
+			List<GraphEntry> graph = collectGraphEntries(objectToSerialize, idToSerializedId);
+			graph.sort(GRAPH_ENTRY_COMPARATOR);
+			// cached trees are shared and must not be exposed to modification
+			writeGraphEntries(graph, entry -> graphEntryToJsonNode(entry, idToSerializedId),
+					node -> graphNodes.add(Objects.isNull(renderCache) ? node : node.deepCopy()));
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("Unexpected I/O error building the JSON tree", e);
+		} finally {
+			modelStore.leaveCriticalSection(lock);
+		}
+		root.set("@graph", graphNodes);
+		return root;
+	}
+	
+	/**
+	 * Serialize directly to a JSON generator one <code>@graph</code> entry at a time
+	 * 
+	 * The output is the same as writing the result of <code>serialize(objectToSerialize)</code>, but only
+	 * a single graph entry is converted to a JSON tree at any time.  A read lock is held on the model store
+	 * while the graph is written since the entries are read from the store as they are written.  A
+	 * <code>JsonLDStoreSnapshot</code> needs no lock, so <code>JsonLDStore</code> serializes from a snapshot to avoid
+	 * blocking writers during the output.
+	 * @param generator generator to write the serialization to
+	 * @param objectToSerialize optional SPDX Document or single element to serialize
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing to the generator
+	 */
+	public void serialize(JsonGenerator generator, @Nullable CoreModelObject objectToSerialize) throws InvalidSPDXAnalysisException, IOException {
+		Objects.requireNonNull(generator, "JSON generator is a required field");
+		Map<String, String> idToSerializedId = new HashMap<>();
+		IModelStoreLock lock = modelStore.enterCriticalSection(true);
+		try {
+			List<GraphEntry> graph = collectGraphEntries(objectToSerialize, idToSerializedId);
+			graph.sort(GRAPH_ENTRY_COMPARATOR);
+			generator.writeStartObject();
+			generator.writeStringField(CONTEXT_PROP, String.format(CONTEXT_URI, specVersion));
+			generator.writeFieldName("@graph");
+			generator.writeStartArray();
+			writeGraphEntries(graph, idToSerializedId, generator);
+			generator.writeEndArray();
+			generator.writeEndObject();
+		} finally {
+			modelStore.leaveCriticalSection(lock);
+		}
+		generator.flush();
+	}
+	
+	/**
+	 * Serialize in the JSON Lines form - a header line containing the <code>@context</code> followed by
+	 * each <code>@graph</code> entry on its own line
+	 * 
+	 * The graph entries are the same as those written by <code>serialize(generator, objectToSerialize)</code>
+	 * but are always written compactly
+	 * @param generator generator to write the serialization to - any pretty printer is replaced
+	 * @param objectToSerialize optional SPDX Document or single element to serialize
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing to the generator
+	 */
+	public void serializeLines(JsonGenerator generator, @Nullable CoreModelObject objectToSerialize) throws InvalidSPDXAnalysisException, IOException {
+		Objects.requireNonNull(generator, "JSON generator is a required field");
+		generator.setPrettyPrinter(new MinimalPrettyPrinter(JsonLDLinesConverter.LINE_SEPARATOR));
+		Map<String, String> idToSerializedId = new HashMap<>();
+		IModelStoreLock lock = modelStore.enterCriticalSection(true);
+		try {
+			List<GraphEntry> graph = collectGraphEntries(objectToSerialize, idToSerializedId);
+			graph.sort(GRAPH_ENTRY_COMPARATOR);
+			generator.writeStartObject();
+			generator.writeStringField(CONTEXT_PROP, String.format(CONTEXT_URI, specVersion));
+			generator.writeEndObject();
+			writeGraphEntries(graph, idToSerializedId, generator);
+			generator.writeRaw(JsonLDLinesConverter.LINE_SEPARATOR);
+		} finally {
+			modelStore.leaveCriticalSection(lock);
+		}
+		generator.flush();
+	}
+	
+	/**
+	 * Serialize only the changed objects - elements created or modified are serialized in the <code>@graph</code>
+	 * and elements which no longer exist are listed by ID in a top level <code>deleted</code> array
+	 * 
+	 * <pre>
+	 * {
+	 *   "@context": "https://spdx.org/rdf/3.0.1/spdx-context.jsonld",
+	 *   "@graph": [ ...created and modified elements and the creation information they reference... ],
+	 *   "deleted": [ "https://example.com/deleted-element" ]
+	 * }
+	 * </pre>
+	 * 
+	 * The <code>deleted</code> property is not defined in the SPDX context, so JSON-LD processors ignore it.
+	 * An element is included if it or any object inlined in its serialization has changed.  Callers should include
+	 * the elements changed inlined objects are serialized with in the changed object URIs, otherwise the store is
+	 * scanned for them.
+	 * @param generator generator to write the serialization to
+	 * @param changedObjectUris object URIs of all objects created, modified or deleted
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing to the generator
+	 */
+	public void serializeChanges(JsonGenerator generator, Collection<String> changedObjectUris) throws InvalidSPDXAnalysisException, IOException {
+		Objects.requireNonNull(generator, "JSON generator is a required field");
+		Objects.requireNonNull(changedObjectUris, "Changed object URIs is a required field");
+		Map<String, String> idToSerializedId = new HashMap<>();
+		List<String> deleted = new ArrayList<>();
+		IModelStoreLock lock = modelStore.enterCriticalSection(true);
+		try {
+			List<GraphEntry> graph = collectChangedObjects(changedObjectUris, idToSerializedId, deleted);
+			graph.sort(GRAPH_ENTRY_COMPARATOR);
+			generator.writeStartObject();
+			generator.writeStringField(CONTEXT_PROP, String.format(CONTEXT_URI, specVersion));
+			generator.writeFieldName("@graph");
+			generator.writeStartArray();
+			writeGraphEntries(graph, idToSerializedId, generator);
+			generator.writeEndArray();
+		} finally {
+			modelStore.leaveCriticalSection(lock);
+		}
+		Collections.sort(deleted);
+		generator.writeFieldName(DELETED_PROP);
+		generator.writeStartArray();
+		for (String id:deleted) {
+			generator.writeString(id);
+		}
+		generator.writeEndArray();
+		generator.writeEndObject();
+		generator.flush();
+	}
+	
+	/**
+	 * Converts a graph entry to the form written to the output
+	 */
+	@FunctionalInterface
+	private interface GraphEntryConverter<T> {
+		T convert(GraphEntry entry) throws InvalidSPDXAnalysisException, IOException;
+	}
+	
+	/**
+	 * Receives the converted graph entries in the order of the serialized graph
+	 */
+	@FunctionalInterface
+	private interface GraphEntryWriter<T> {
+		void write(T converted) throws IOException;
+	}
+	
+	/**
+	 * Format of the text of a graph entry written to a JSON text generator - the feature settings, escapes
+	 * and pretty printer of the generator at the position the graph entries are written
+	 * 
+	 * Only formats where the text of an entry is independent of the other entries are supported.  The binary
+	 * encodings are not supported since Smile shared names and values and CBOR string references refer back to
+	 * strings written earlier in the output, so an entry can not be encoded separately.
+	 */
+	private static final class EntryFormat {
+		/**
+		 * Tree encoded in each format to identify the format - covers the indentation, separators, number
+		 * formatting and escaping
+		 */
+		private static final JsonNode FORMAT_PROBE;
+		static {
+			ObjectNode probe = JsonNodeFactory.instance.objectNode();
+			probe.putArray("array").add("\u00e9\u4e2d</\t").add(1.5).addObject();
+			probe.putObject("object");
+			FORMAT_PROBE = probe;
+		}
+		
+		private final int featureMask;
+		private final int highestNonEscapedChar;
+		private final @Nullable CharacterEscapes characterEscapes;
+		private final @Nullable PrettyPrinter prettyPrinter;
+		private final boolean utf8;
+		private @Nullable String key = null;
+		
+		private EntryFormat(JsonGenerator generator) {
+			this.featureMask = generator.getFeatureMask();
+			this.highestNonEscapedChar = generator.getHighestEscapedChar();
+			this.characterEscapes = generator.getCharacterEscapes();
+			PrettyPrinter generatorPrettyPrinter = generator.getPrettyPrinter();
+			// the default pretty printer copy keeps the current indentation level of the generator
+			this.prettyPrinter = generatorPrettyPrinter instanceof DefaultPrettyPrinter ? 
+					((DefaultPrettyPrinter)generatorPrettyPrinter).createInstance() : generatorPrettyPrinter;
+			this.utf8 = generator instanceof UTF8JsonGenerator;
+		}
+		
+		/**
+		 * @param generator generator positioned where the graph entries are to be written
+		 * @return the format of the graph entries or empty if the entries can not be written as separately encoded text
+		 */
+		static Optional<EntryFormat> of(JsonGenerator generator, ObjectMapper jsonMapper) throws IOException {
+			if (!(generator instanceof JsonGeneratorImpl)) {
+				return Optional.empty();
+			}
+			PrettyPrinter prettyPrinter = generator.getPrettyPrinter();
+			if (Objects.isNull(prettyPrinter) || prettyPrinter instanceof MinimalPrettyPrinter ||
+					DefaultPrettyPrinter.class.equals(prettyPrinter.getClass())) {
+				EntryFormat retval = new EntryFormat(generator);
+				if (Objects.isNull(retval.characterEscapes)) {
+					// custom escapes may apply to any character, so text encoded with them is not cached
+					retval.key = (retval.utf8 ? "UTF-8:" : "text:") + retval.encode(FORMAT_PROBE, jsonMapper).getValue();
+				}
+				return Optional.of(retval);
+			} else {
+				return Optional.empty();
+			}
+		}
+		
+		/**
+		 * @return key identifying the format for caching encoded text or null if text in this format is not cached
+		 */
+		@Nullable String getKey() {
+			return key;
+		}
+		
+		/**
+		 * @param tree JSON tree of a graph entry
+		 * @param jsonMapper mapper to use for serialization
+		 * @return the text of the graph entry, already encoded in UTF-8 when written to a UTF-8 generator
+		 * @throws IOException on errors writing the tree
+		 */
+		SerializableString encode(JsonNode tree, ObjectMapper jsonMapper) throws IOException {
+			StringWriter writer = new StringWriter();
+			try (JsonGenerator entryGenerator = jsonMapper.getFactory().createGenerator(writer)) {
+				entryGenerator.overrideStdFeatures(featureMask, -1);
+				entryGenerator.setHighestNonEscapedChar(highestNonEscapedChar);
+				if (Objects.nonNull(characterEscapes)) {
+					entryGenerator.setCharacterEscapes(characterEscapes);
+				}
+				// the default pretty printer tracks the nesting level, so each entry needs its own instance
+				entryGenerator.setPrettyPrinter(prettyPrinter instanceof DefaultPrettyPrinter ? 
+						((DefaultPrettyPrinter)prettyPrinter).createInstance() : prettyPrinter);
+				jsonMapper.writeTree(entryGenerator, tree);
+			}
+			SerializedString retval = new SerializedString(writer.toString());
+			if (utf8) {
+				// encoded once on the converting thread and retained by the serialized string
+				retval.asUnquotedUTF8();
+			}
+			return retval;
+		}
+	}
+	
+	/**
+	 * Write the sorted graph entries to the generator in order
+	 * 
+	 * When an executor or render cache is set and the generator writes JSON text, each entry is converted and
+	 * encoded to text - on the executor if set - and the calling thread only copies the encoded entries to the
+	 * output.  The render cache keeps the encoded text for reuse.  Otherwise the JSON tree of each entry is
+	 * written by the calling thread.
+	 * @param graph sorted graph entries
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization - must not be modified while converting
+	 * @param generator generator positioned where the graph entries are to be written
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing the entries
+	 */
+	private void writeGraphEntries(List<GraphEntry> graph, Map<String, String> idToSerializedId,
+			JsonGenerator generator) throws InvalidSPDXAnalysisException, IOException {
+		Optional<EntryFormat> format = Objects.isNull(executor) && Objects.isNull(renderCache) ? 
+				Optional.empty() : EntryFormat.of(generator, jsonMapper);
+		if (format.isPresent()) {
+			writeGraphEntries(graph, entry -> graphEntryToText(entry, idToSerializedId, format.get()), 
+					generator::writeRawValue);
+		} else {
+			writeGraphEntries(graph, entry -> graphEntryToJsonNode(entry, idToSerializedId), 
+					node -> jsonMapper.writeTree(generator, node));
+		}
+	}
+	
+	/**
+	 * Convert the sorted graph entries and write them in order
+	 * 
+	 * Without an executor, a single entry is converted at a time.  With an executor, the entries are converted
+	 * concurrently with at most <code>PARALLEL_WINDOW_SIZE</code> entries converted ahead of the entry being written.
+	 * @param graph sorted graph entries
+	 * @param converter converts a graph entry - called concurrently when an executor is set
+	 * @param writer writer for the converted entries
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing the entries
+	 */
+	private <T> void writeGraphEntries(List<GraphEntry> graph, GraphEntryConverter<T> converter,
+			GraphEntryWriter<T> writer) throws InvalidSPDXAnalysisException, IOException {
+		if (Objects.isNull(executor)) {
+			for (GraphEntry entry:graph) {
+				writer.write(converter.convert(entry));
+			}
+			return;
+		}
+		Deque<CompletableFuture<T>> window = new ArrayDeque<>();
+		Iterator<GraphEntry> iter = graph.iterator();
+		try {
+			while (iter.hasNext() || !window.isEmpty()) {
+				while (iter.hasNext() && window.size() < PARALLEL_WINDOW_SIZE) {
+					GraphEntry entry = iter.next();
+					window.add(CompletableFuture.supplyAsync(() -> {
+						try {
+							return converter.convert(entry);
+						} catch (InvalidSPDXAnalysisException | IOException e) {
+							throw new CompletionException(e);
+						}
+					}, executor));
+				}
+				T converted;
+				try {
+					converted = window.remove().join();
+				} catch (CompletionException e) {
+					if (e.getCause() instanceof InvalidSPDXAnalysisException) {
+						throw (InvalidSPDXAnalysisException)e.getCause();
+					} else if (e.getCause() instanceof IOException) {
+						throw (IOException)e.getCause();
+					} else {
+						throw new InvalidSPDXAnalysisException("Error serializing graph entry", e.getCause());
+					}
+				}
+				writer.write(converted);
+			}
+		} finally {
+			// conversions already started must complete before the caller releases the lock on the model store
+			for (CompletableFuture<T> future:window) {
+				if (!future.cancel(false)) {
+					try {
+						future.join();
+					} catch (CompletionException | CancellationException e) {
+						// already failing
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Collect the objects to be serialized as top level nodes in the <code>@graph</code>
+	 * @param objectToSerialize optional SPDX Document or single element to serialize
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization - updated for any IDs which are changed in the serialization
+	 * @return list of graph entries to be serialized
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 */
+	private List<GraphEntry> collectGraphEntries(@Nullable CoreModelObject objectToSerialize, 
+			Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
 		if (Objects.isNull(objectToSerialize)) {
-			return serializeAllObjects();
+			return collectAllObjects(idToSerializedId);
 		} else if (objectToSerialize instanceof SpdxDocument) {
-			return serializeSpdxDocument((SpdxDocument)objectToSerialize);
+			return collectSpdxDocument((SpdxDocument)objectToSerialize, idToSerializedId);
 		} else if (objectToSerialize instanceof Element) {
-			return serializeElement((Element)objectToSerialize);
+			return collectElement((Element)objectToSerialize, idToSerializedId);
 		} else {
 			logger.error("Unsupported type to serialize: {}", objectToSerialize.getClass());
 			throw new InvalidSPDXAnalysisException("Unsupported type to serialize: "+objectToSerialize.getClass());
 		}
-		
 	}
 
 	/**
-	 * Serialize SPDX document metadata and ALL elements listed in the root + all elements listed in the elements list
+	 * Collect the SPDX document metadata and ALL elements listed in the root + all elements listed in the elements list
 	 * all references to SPDX elements not in the root or elements lists will be externa
 	 * @param spdxDocument SPDX document to utilize
-	 * @return the root node of the JSON serialization
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @return list of graph entries to be serialized
 	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
 	 */
-	private JsonNode serializeSpdxDocument(SpdxDocument spdxDocument) throws InvalidSPDXAnalysisException {
-		ObjectNode root = jsonMapper.createObjectNode();
-		root.put(CONTEXT_PROP, String.format(CONTEXT_URI, specVersion));
-		
-		Map<String, String> idToSerializedId = new HashMap<>();
-		List<JsonNode> graph = new ArrayList<>();
+	private List<GraphEntry> collectSpdxDocument(SpdxDocument spdxDocument, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+		List<GraphEntry> graph = new ArrayList<>();
 		Set<Element> elementsToCopy = new HashSet<>();
-		IModelStoreLock lock = modelStore.enterCriticalSection(false);
-		try {
-			// Collect all the elements we want to copy
-			spdxDocument.getRootElements().forEach(elementsToCopy::add);
-			spdxDocument.getElements().forEach(elementsToCopy::add);
-			// collect all the creation infos
-			Set<CreationInfo> creationInfos = new HashSet<>();
-			for (Element element:elementsToCopy) {
-				creationInfos.add(element.getCreationInfo());
+		// Collect all the elements we want to copy
+		spdxDocument.getRootElements().forEach(elementsToCopy::add);
+		spdxDocument.getElements().forEach(elementsToCopy::add);
+		// collect all the creation infos and group the elements by type in a single pass
+		Set<CreationInfo> creationInfos = new HashSet<>();
+		Map<String, List<Element>> elementsByType = new HashMap<>();
+		for (Element element:elementsToCopy) {
+			creationInfos.add(element.getCreationInfo());
+			elementsByType.computeIfAbsent(element.getType(), type -> new ArrayList<>()).add(element);
+		}
+		int creationIndex = 0;
+		for (CreationInfo creationInfo:creationInfos) {
+			String serializedId = "_:creationInfo_" + creationIndex++;
+			idToSerializedId.put(creationInfo.getObjectUri(), serializedId);
+			graph.add(new GraphEntry(creationInfo, serializedId, false));
+		}
+		// Serialize only what we need of the SPDX document
+		graph.add(new GraphEntry(spdxDocument, toSerializedElementId(spdxDocument, idToSerializedId), true));
+		for (String type:jsonLDSchema.getElementTypes()) {
+			List<Element> elementsOfType = elementsByType.get(type);
+			if (Objects.nonNull(elementsOfType)) {
+				for (Element element:elementsOfType) {
+					addElementEntry(element, graph, idToSerializedId);
+				}
 			}
-			int creationIndex = 0;
-			for (CreationInfo creationInfo:creationInfos) {
-				String serializedId = "_:creationInfo_" + creationIndex++;
-				idToSerializedId.put(creationInfo.getObjectUri(), serializedId);
-				graph.add(modelObjectToJsonNode(creationInfo, serializedId, idToSerializedId));
+		}
+		return graph;
+	}
+	
+	/**
+	 * Collect a single SPDX element - all references to other elements will be external element references
+	 * @param objectToSerialize object to serialize
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @return list of graph entries to be serialized
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 */
+	private List<GraphEntry> collectElement(Element objectToSerialize, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+		List<GraphEntry> graph = new ArrayList<>();
+		addElementEntry(objectToSerialize, graph, idToSerializedId);
+		return graph;
+	}
+
+	/**
+	 * Collect all the objects stored in the model store
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @return list of graph entries to be serialized
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 */
+	private List<GraphEntry> collectAllObjects(Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+		ModelCopyManager copyManager = new ModelCopyManager();
+		List<GraphEntry> graph = new ArrayList<>();
+		Map<String, List<TypedValue>> itemsByType = getAllItemsByType();
+		// collect all the creation infos
+		List<TypedValue> allCreationInfos = itemsByType.getOrDefault(SpdxConstantsV3.CORE_CREATION_INFO, Collections.emptyList());
+		for (int i = 0; i < allCreationInfos.size(); i++) {
+			TypedValue tv = allCreationInfos.get(i);
+			CreationInfo creationInfo = (CreationInfo)SpdxModelFactory.inflateModelObject(modelStore, tv.getObjectUri(), 
+					tv.getType(), copyManager, tv.getSpecVersion(), false, null);
+			String serializedId = "_:creationInfo_" + i;
+			idToSerializedId.put(creationInfo.getObjectUri(), serializedId);
+			graph.add(new GraphEntry(creationInfo, serializedId, false));
+		}
+		for (String type:jsonLDSchema.getElementTypes()) {
+			List<TypedValue> elementsOfType = itemsByType.get(type);
+			if (Objects.nonNull(elementsOfType)) {
+				for (TypedValue tv:elementsOfType) {
+					Element element = (Element)SpdxModelFactory.inflateModelObject(modelStore, tv.getObjectUri(), 
+							tv.getType(), copyManager, tv.getSpecVersion(), false, null);
+					addElementEntry(element, graph, idToSerializedId);
+				}
+			}
+		}
+		return graph;
+	}
+	
+	/**
+	 * Collect the graph entries for the changed objects
+	 * @param changedObjectUris object URIs of all objects created, modified or deleted
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param deleted updated with the IDs of the deleted elements
+	 * @return graph entries for the changed elements, elements inlining a changed object, and the creation information they reference
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 */
+	private List<GraphEntry> collectChangedObjects(Collection<String> changedObjectUris, Map<String, String> idToSerializedId,
+			List<String> deleted) throws InvalidSPDXAnalysisException {
+		Map<String, TypedValue> changedElements = new HashMap<>();
+		Set<String> changedInlined = new HashSet<>();
+		for (String objectUri:changedObjectUris) {
+			Optional<TypedValue> tv = modelStore.getTypedValue(objectUri);
+			if (!tv.isPresent()) {
+				if (!modelStore.isAnon(objectUri)) {
+					deleted.add(objectUri);
+				}
+			} else if (TypeCategory.ELEMENT == jsonLDSchema.getTypeCategory(tv.get().getType())) {
+				changedElements.put(objectUri, tv.get());
+			} else {
+				// creation information and other inlined objects are serialized with the elements referencing them
+				changedInlined.add(objectUri);
 			}
-			// Serialize only what we need of the SPDX document
-			String documentSpdxId = spdxDocument.getObjectUri();
-			if (modelStore.isAnon(documentSpdxId)) {
-				String anonId = documentSpdxId;
-				documentSpdxId = GENERATED_SERIALIZED_ID_PREFIX + UUID.randomUUID() + "#" + modelStore.getNextId(IdType.SpdxId);
-				idToSerializedId.put(anonId, documentSpdxId);
-				logger.warn(NON_URI_WARNING, spdxDocument.getObjectUri(), documentSpdxId);
+		}
+		if (!changedInlined.isEmpty()) {
+			for (TypedValue tv:changedElements.values()) {
+				removeInlined(tv, changedInlined, new HashSet<>());
 			}
-			graph.add(spdxDocumentToJsonNode(spdxDocument, documentSpdxId, idToSerializedId));
+		}
+		if (!changedInlined.isEmpty()) {
+			// the changed objects passed in normally include the elements the changed inlined objects are serialized
+			// with - only inlined objects whose owners are not known to the caller are found by scanning the store
+			Map<String, List<TypedValue>> itemsByType = getAllItemsByType();
 			for (String type:jsonLDSchema.getElementTypes()) {
-				for (Element element:elementsToCopy) {
-					if (type.equals(element.getType())) {
-						String serializedId = element.getObjectUri();
-						if (modelStore.isAnon(serializedId)) {
-							String anonId = serializedId;
-							serializedId = GENERATED_SERIALIZED_ID_PREFIX + UUID.randomUUID() + "#" + modelStore.getNextId(IdType.SpdxId);
-							idToSerializedId.put(anonId, serializedId);
-							logger.warn(NON_URI_WARNING, element.getObjectUri(), serializedId);
-						}
-						if (!(useExternalListedElements && element.getObjectUri().startsWith(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE))) {
-							graph.add(modelObjectToJsonNode(element, serializedId, idToSerializedId));
-						}
+				for (TypedValue tv:itemsByType.getOrDefault(type, Collections.emptyList())) {
+					if (!changedElements.containsKey(tv.getObjectUri()) && removeInlined(tv, changedInlined, new HashSet<>())) {
+						changedElements.put(tv.getObjectUri(), tv);
 					}
 				}
 			}
-			graph.sort(NODE_COMPARATOR);
-			ArrayNode graphNodes = jsonMapper.createArrayNode();
-			graphNodes.addAll(graph);
-			root.set("@graph", graphNodes);
-			return root;
-		} finally {
-			modelStore.leaveCriticalSection(lock);
+		}
+		ModelCopyManager copyManager = new ModelCopyManager();
+		List<Element> elements = new ArrayList<>();
+		Map<String, CreationInfo> creationInfos = new LinkedHashMap<>();
+		for (TypedValue tv:changedElements.values()) {
+			Element element = (Element)SpdxModelFactory.inflateModelObject(modelStore, tv.getObjectUri(), 
+					tv.getType(), copyManager, tv.getSpecVersion(), false, null);
+			elements.add(element);
+			CreationInfo creationInfo = element.getCreationInfo();
+			if (Objects.nonNull(creationInfo)) {
+				creationInfos.putIfAbsent(creationInfo.getObjectUri(), creationInfo);
+			}
+		}
+		List<GraphEntry> graph = new ArrayList<>();
+		int creationIndex = 0;
+		for (CreationInfo creationInfo:creationInfos.values()) {
+			String serializedId = "_:creationInfo_" + creationIndex++;
+			idToSerializedId.put(creationInfo.getObjectUri(), serializedId);
+			graph.add(new GraphEntry(creationInfo, serializedId, false));
+		}
+		for (Element element:elements) {
+			addElementEntry(element, graph, idToSerializedId);
+		}
+		return graph;
+	}
+	
+	/**
+	 * Remove the objects inlined in the serialization of an object from a set of object URIs
+	 * @param tv typed value of the object
+	 * @param objectUris object URIs to remove from
+	 * @param visited object URIs already visited
+	 * @return true if any object URIs were removed
+	 * @throws InvalidSPDXAnalysisException on errors retrieving model store information
+	 */
+	private boolean removeInlined(TypedValue tv, Set<String> objectUris, Set<String> visited) throws InvalidSPDXAnalysisException {
+		if (!visited.add(tv.getObjectUri())) {
+			return false;
+		}
+		boolean retval = false;
+		for (PropertyDescriptor prop:modelStore.getPropertyValueDescriptors(tv.getObjectUri())) {
+			List<Object> values = new ArrayList<>();
+			if (modelStore.isCollectionProperty(tv.getObjectUri(), prop)) {
+				modelStore.listValues(tv.getObjectUri(), prop).forEachRemaining(values::add);
+			} else {
+				modelStore.getValue(tv.getObjectUri(), prop).ifPresent(values::add);
+			}
+			for (Object value:values) {
+				if (value instanceof TypedValue &&
+						TypeCategory.ELEMENT != jsonLDSchema.getTypeCategory(((TypedValue)value).getType())) {
+					TypedValue inlined = (TypedValue)value;
+					if (objectUris.remove(inlined.getObjectUri())) {
+						retval = true;
+					}
+					if (removeInlined(inlined, objectUris, visited)) {
+						retval = true;
+					}
+				}
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * Scans all items in the model store once grouping the items by type
+	 * @return map of the type to all typed values of that type stored in the model store
+	 * @throws InvalidSPDXAnalysisException on errors retrieving the items from the model store
+	 */
+	private Map<String, List<TypedValue>> getAllItemsByType() throws InvalidSPDXAnalysisException {
+		Map<String, List<TypedValue>> retval = new HashMap<>();
+		try (Stream<TypedValue> allItems = modelStore.getAllItems(null, null)) {
+			allItems.forEach(tv -> retval.computeIfAbsent(tv.getType(), type -> new ArrayList<>()).add(tv));
+		}
+		return retval;
+	}
+	
+	/**
+	 * Adds a graph entry for the element unless it is a listed license or exception and listed elements are external
+	 * @param element element to add
+	 * @param graph graph entries to add the element to
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 */
+	private void addElementEntry(Element element, List<GraphEntry> graph, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+		String serializedId = toSerializedElementId(element, idToSerializedId);
+		if (!(useExternalListedElements && element.getObjectUri().startsWith(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE))) {
+			graph.add(new GraphEntry(element, serializedId, false));
+		}
+	}
+	
+	/**
+	 * @param element element to be serialized
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization - updated if the element ID is anonymous
+	 * @return the ID to be used in the serialization - anonymous IDs are converted to generated URIs which are the
+	 * same in every serialization by this serializer
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 */
+	private String toSerializedElementId(Element element, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+		String serializedId = element.getObjectUri();
+		if (modelStore.isAnon(serializedId)) {
+			String anonId = serializedId;
+			try {
+				serializedId = generatedIdPrefix + URLEncoder.encode(anonId, "UTF-8");
+			} catch (UnsupportedEncodingException e) {
+				throw new InvalidSPDXAnalysisException("Unable to encode anonymous ID "+anonId, e);
+			}
+			idToSerializedId.put(anonId, serializedId);
+			logger.warn(NON_URI_WARNING, element.getObjectUri(), serializedId);
+		}
+		return serializedId;
+	}
+	
+	/**
+	 * @param entry graph entry to convert
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @return a JSON node representation of the graph entry
+	 * @throws InvalidSPDXAnalysisException on any SPDX related error
+	 */
+	private JsonNode graphEntryToJsonNode(GraphEntry entry, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(renderCache)) {
+			return graphEntryToJsonNode(entry, idToSerializedId, null);
+		}
+		String objectUri = entry.getModelObject().getObjectUri();
+		JsonNode cached = renderCache.get(objectUri, entry.getSerializedId(), entry.isDocumentOnly(), pretty,
+				specVersion, idToSerializedId, this::getStamp);
+		if (Objects.nonNull(cached)) {
+			return cached;
+		}
+		ElementRenderCache.Dependencies dependencies = new ElementRenderCache.Dependencies();
+		dependencies.addObject(objectUri, getStamp(objectUri));
+		JsonNode retval = graphEntryToJsonNode(entry, idToSerializedId, dependencies);
+		renderCache.put(objectUri, entry.getSerializedId(), entry.isDocumentOnly(), pretty, specVersion,
+				dependencies, retval);
+		return retval;
+	}
+	
+	/**
+	 * @param entry graph entry to convert
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param format format of the text
+	 * @return the text of the graph entry encoded in the format
+	 * @throws InvalidSPDXAnalysisException on any SPDX related error
+	 * @throws IOException on errors encoding the graph entry
+	 */
+	private SerializableString graphEntryToText(GraphEntry entry, Map<String, String> idToSerializedId, 
+			EntryFormat format) throws InvalidSPDXAnalysisException, IOException {
+		JsonNode tree = graphEntryToJsonNode(entry, idToSerializedId);
+		if (Objects.isNull(renderCache) || Objects.isNull(format.getKey())) {
+			return format.encode(tree, jsonMapper);
+		}
+		String objectUri = entry.getModelObject().getObjectUri();
+		SerializableString cached = renderCache.getEncoded(objectUri, tree, format.getKey());
+		if (Objects.nonNull(cached)) {
+			return cached;
+		}
+		SerializableString retval = format.encode(tree, jsonMapper);
+		renderCache.putEncoded(objectUri, tree, format.getKey(), retval);
+		return retval;
+	}
+	
+	/**
+	 * @param objectUri object URI
+	 * @return modification stamp of the object as seen by this serialization - objects modified since a snapshot
+	 * being serialized was created have no known stamp
+	 */
+	private long getStamp(String objectUri) {
+		if (modelStore instanceof JsonLDStoreSnapshot) {
+			return ((JsonLDStoreSnapshot)modelStore).getModificationStamp(objectUri);
+		}
+		return renderCache.getStamp(objectUri);
+	}
+	
+	/**
+	 * @param entry graph entry to convert
+	 * @param idToSerializedId Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param dependencies if not null, updated with the objects and references the converted tree depends on
+	 * @return a JSON node representation of the graph entry
+	 * @throws InvalidSPDXAnalysisException on any SPDX related error
+	 */
+	private JsonNode graphEntryToJsonNode(GraphEntry entry, Map<String, String> idToSerializedId,
+			@Nullable ElementRenderCache.Dependencies dependencies) throws InvalidSPDXAnalysisException {
+		if (entry.isDocumentOnly()) {
+			return spdxDocumentToJsonNode((SpdxDocument)entry.getModelObject(), entry.getSerializedId(), idToSerializedId, dependencies);
+		} else {
+			return modelObjectToJsonNode(entry.getModelObject(), entry.getSerializedId(), idToSerializedId, dependencies);
 		}
 	}
 
@@ -265,14 +872,15 @@ public class JsonLDSerializer {
 	 * @param spdxDocument SPDX document to serialize
 	 * @param serializedId ID used in the serialization
 	 * @param idToSerializedId partial Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param dependencies if not null, updated with the objects and references the converted tree depends on
 	 * @return a JSON node representation of the spdxDocument
 	 * @throws InvalidSPDXAnalysisException on any SPDX related error
 	 */
-	private JsonNode spdxDocumentToJsonNode(SpdxDocument spdxDocument,
-			String serializedId, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+	private JsonNode spdxDocumentToJsonNode(SpdxDocument spdxDocument, String serializedId,
+			Map<String, String> idToSerializedId, @Nullable ElementRenderCache.Dependencies dependencies) throws InvalidSPDXAnalysisException {
 		ObjectNode retval = jsonMapper.createObjectNode();
 		retval.set(JsonLDDeserializer.SPDX_ID_PROP, new TextNode(serializedId));
-		retval.set("type", new TextNode(typeToJsonType(SpdxConstantsV3.CORE_SPDX_DOCUMENT)));
+		retval.set("type", new TextNode(JsonLDSchema.getJsonType(SpdxConstantsV3.CORE_SPDX_DOCUMENT)));
 		for (PropertyDescriptor prop:spdxDocument.getPropertyValueDescriptors()) {
 			if (SpdxConstantsV3.PROP_ELEMENT.equals(prop)) {
 				// skip the elements property - it will in the elements in the graph
@@ -283,13 +891,13 @@ public class JsonLDSerializer {
 					ArrayNode an = jsonMapper.createArrayNode();
 					Iterator<Object> iter = spdxDocument.getModelStore().listValues(spdxDocument.getObjectUri(), prop);
 					while (iter.hasNext()) {
-						an.add(objectToJsonNode(iter.next(), spdxDocument.getModelStore(), idToSerializedId));
+						an.add(objectToJsonNode(iter.next(), spdxDocument.getModelStore(), idToSerializedId, dependencies));
 					}
-					retval.set(propertyToJsonLdPropName(prop), an);
+					retval.set(jsonLDSchema.getJsonPropertyName(prop), an);
 				} else {
 					Optional<Object> val = spdxDocument.getModelStore().getValue(spdxDocument.getObjectUri(), prop);
 					if (val.isPresent()) {
-						retval.set(propertyToJsonLdPropName(prop), objectToJsonNode(val.get(), spdxDocument.getModelStore(), idToSerializedId));
+						retval.set(jsonLDSchema.getJsonPropertyName(prop), objectToJsonNode(val.get(), spdxDocument.getModelStore(), idToSerializedId, dependencies));
 					}
 				}
 			}
@@ -297,147 +905,51 @@ public class JsonLDSerializer {
 		return retval;
 	}
 
-	/**
-	 * Serializes a single SPDX element - all references to other elements will be external element references
-	 * @param objectToSerialize object to serialize
-	 * @return the root of the serialized form of the objectToSerialize
-	 * @throws InvalidSPDXAnalysisException 
-	 */
-	private JsonNode serializeElement(Element objectToSerialize) throws InvalidSPDXAnalysisException {
-		ObjectNode root = jsonMapper.createObjectNode();
-		root.put(CONTEXT_PROP, String.format(CONTEXT_URI, specVersion));
-		Map<String, String> idToSerializedId = new HashMap<>();
-		// collect all the creation infos
-		List<JsonNode> graph = new ArrayList<>();
-		IModelStoreLock lock = modelStore.enterCriticalSection(true);
-		try {
-			String serializedId = objectToSerialize.getObjectUri();
-			if (modelStore.isAnon(serializedId)) {
-				String anonId = serializedId;
-				serializedId = GENERATED_SERIALIZED_ID_PREFIX + UUID.randomUUID() + "#" + modelStore.getNextId(IdType.SpdxId);
-				idToSerializedId.put(anonId, serializedId);
-				logger.warn(NON_URI_WARNING, objectToSerialize.getObjectUri(), serializedId);
-			}
-			if (!(useExternalListedElements && objectToSerialize.getObjectUri().startsWith(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE))) {
-				graph.add(modelObjectToJsonNode(objectToSerialize, serializedId, idToSerializedId));
-			}
-			graph.sort(NODE_COMPARATOR);
-			ArrayNode graphNodes = jsonMapper.createArrayNode();
-			graphNodes.addAll(graph);
-			root.set("@graph", graphNodes);
-			return root;
-		} finally {
-			modelStore.leaveCriticalSection(lock);
-		}
-	}
-
-	/**
-	 * Serialize all the objects stored in the model store
-	 * @return the root node of the JSON serialization
-	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
-	 */
-	private JsonNode serializeAllObjects() throws InvalidSPDXAnalysisException {
-		ObjectNode root = jsonMapper.createObjectNode();
-		root.put(CONTEXT_PROP, String.format(CONTEXT_URI, specVersion));
-		
-		Map<String, String> idToSerializedId = new HashMap<>();
-		ModelCopyManager copyManager = new ModelCopyManager();
-		List<JsonNode> graph = new ArrayList<>();
-		IModelStoreLock lock = modelStore.enterCriticalSection(true);
-		try {
-			// collect all the creation infos
-			@SuppressWarnings("unchecked")
-			List<CreationInfo> allCreationInfos = (List<CreationInfo>) SpdxModelFactory.getSpdxObjects(modelStore, copyManager, 
-					SpdxConstantsV3.CORE_CREATION_INFO, null, null).collect(Collectors.toList());
-			
-			for (int i = 0; i < allCreationInfos.size(); i++) {
-				CreationInfo creationInfo = allCreationInfos.get(i);
-				String serializedId = "_:creationInfo_" + i;
-				idToSerializedId.put(creationInfo.getObjectUri(), serializedId);
-				graph.add(modelObjectToJsonNode(creationInfo, serializedId, idToSerializedId));
-			}
-			for (String type:jsonLDSchema.getElementTypes()) {
-				@SuppressWarnings("unchecked")
-				List<Element> elements = (List<Element>) SpdxModelFactory.getSpdxObjects(modelStore, copyManager, 
-						type, null, null).collect(Collectors.toList());
-				for (Element element:elements) {
-					String serializedId = element.getObjectUri();
-					if (modelStore.isAnon(serializedId)) {
-						String anonId = serializedId;
-						serializedId = GENERATED_SERIALIZED_ID_PREFIX + UUID.randomUUID() + "#" + modelStore.getNextId(IdType.SpdxId);
-						idToSerializedId.put(anonId, serializedId);
-						logger.warn(NON_URI_WARNING, element.getObjectUri(), serializedId);
-					}
-					if (!(useExternalListedElements && element.getObjectUri().startsWith(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE))) {
-						graph.add(modelObjectToJsonNode(element, serializedId, idToSerializedId));
-					}
-				}
-			}
-			graph.sort(NODE_COMPARATOR);
-			ArrayNode graphNodes = jsonMapper.createArrayNode();
-			graphNodes.addAll(graph);
-			root.set("@graph", graphNodes);
-			return root;
-		} finally {
-			modelStore.leaveCriticalSection(lock);
-		}
-	}
-
 	/**
 	 * @param modelObject model object to serialize
 	 * @param serializedId ID used in the serialization
 	 * @param idToSerializedId partial Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param dependencies if not null, updated with the objects and references the converted tree depends on
 	 * @return a JSON node representation of the modelObject
 	 * @throws InvalidSPDXAnalysisException on any SPDX related error
 	 */
 	private JsonNode modelObjectToJsonNode(CoreModelObject modelObject,
 			String serializedId,
-			Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+			Map<String, String> idToSerializedId,
+			@Nullable ElementRenderCache.Dependencies dependencies) throws InvalidSPDXAnalysisException {
 		ObjectNode retval = jsonMapper.createObjectNode();
 		retval.set(modelObject instanceof Element ? JsonLDDeserializer.SPDX_ID_PROP : "@id", new TextNode(serializedId));
-		retval.set("type", new TextNode(typeToJsonType(modelObject.getType())));
+		retval.set("type", new TextNode(JsonLDSchema.getJsonType(modelObject.getType())));
 		for (PropertyDescriptor prop:modelObject.getPropertyValueDescriptors()) {
 			if (modelObject.getModelStore().isCollectionProperty(modelObject.getObjectUri(), prop)) {
 				ArrayNode an = jsonMapper.createArrayNode();
 				Iterator<Object> iter = modelObject.getModelStore().listValues(modelObject.getObjectUri(), prop);
 				while (iter.hasNext()) {
-					an.add(objectToJsonNode(iter.next(), modelObject.getModelStore(), idToSerializedId));
+					an.add(objectToJsonNode(iter.next(), modelObject.getModelStore(), idToSerializedId, dependencies));
 				}
-				retval.set(propertyToJsonLdPropName(prop), an);
+				retval.set(jsonLDSchema.getJsonPropertyName(prop), an);
 			} else {
 				Optional<Object> val = modelObject.getModelStore().getValue(modelObject.getObjectUri(), prop);
 				if (val.isPresent()) {
-					retval.set(propertyToJsonLdPropName(prop), objectToJsonNode(val.get(), modelObject.getModelStore(), idToSerializedId));
+					retval.set(jsonLDSchema.getJsonPropertyName(prop), objectToJsonNode(val.get(), modelObject.getModelStore(), idToSerializedId, dependencies));
 				}
 			}
 		}
 		return retval;
 	}
 
-	/**
-	 * @param prop property
-	 * @return JSON LD property name per the SPDX 3.X JSON LD spec
-	 */
-	private String propertyToJsonLdPropName(PropertyDescriptor prop) {
-		String profile = prop.getNameSpace().substring(0, prop.getNameSpace().length()-1);
-		profile = profile.substring(profile.lastIndexOf('/') + 1);
-		if ("Core".equals(profile)) {
-			return prop.getName();
-		} else {
-			return profile.toLowerCase() + "_" + prop.getName();
-		}
-	}
-
 	/**
 	 * @param object object to translate to a JSON node
 	 * @param fromModelStore modelStore to retrieve the property information from
 	 * @param idToSerializedId partial Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param dependencies if not null, updated with the objects and references the converted tree depends on
 	 * @return object converted to a JSON node based on the SPDX 3.X schema
 	 * @throws InvalidSPDXAnalysisException 
 	 */
-	private JsonNode objectToJsonNode(Object object, IModelStore fromModelStore, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+	private JsonNode objectToJsonNode(Object object, IModelStore fromModelStore, Map<String, String> idToSerializedId,
+			@Nullable ElementRenderCache.Dependencies dependencies) throws InvalidSPDXAnalysisException {
 		if (object instanceof TypedValue) {
-			return typedValueToJsonNode((TypedValue)object, fromModelStore, idToSerializedId);
+			return typedValueToJsonNode((TypedValue)object, fromModelStore, idToSerializedId, dependencies);
 		} else if (object instanceof String) {
 			return new TextNode((String)object);
 		} else if (object instanceof Boolean) {
@@ -463,21 +975,61 @@ public class JsonLDSerializer {
 	 * @param tv typed value to translate to a JSON node
 	 * @param fromModelStore modelStore to retrieve the property information from
 	 * @param idToSerializedId partial Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param dependencies if not null, updated with the objects and references the converted tree depends on
 	 * @return a JSON node representation of a typed value based on the object type and SPDX 3.X serialization spec
 	 * @throws InvalidSPDXAnalysisException on errors retrieving model store information
 	 */
-	private JsonNode typedValueToJsonNode(TypedValue tv, IModelStore fromModelStore, Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
-		if (jsonLDSchema.getElementTypes().contains(tv.getType())) {
+	private JsonNode typedValueToJsonNode(TypedValue tv, IModelStore fromModelStore, Map<String, String> idToSerializedId,
+			@Nullable ElementRenderCache.Dependencies dependencies) throws InvalidSPDXAnalysisException {
+		TypeCategory category = jsonLDSchema.getTypeCategory(tv.getType());
+		if (Objects.nonNull(dependencies) && (TypeCategory.ELEMENT == category || TypeCategory.CREATION_INFO == category)) {
+			dependencies.addSerializedId(tv.getObjectUri(), idToSerializedId.get(tv.getObjectUri()));
+		}
+		if (TypeCategory.ELEMENT == category) {
 			// Just return the object URI since the element will be in the @graph
 			return new TextNode(idToSerializedId.getOrDefault(tv.getObjectUri(), tv.getObjectUri()));
-		} else if (SpdxConstantsV3.CORE_CREATION_INFO.equals(tv.getType()) && idToSerializedId.containsKey(tv.getObjectUri()))  {
+		} else if (TypeCategory.CREATION_INFO == category && idToSerializedId.containsKey(tv.getObjectUri()))  {
 			return new TextNode (idToSerializedId.getOrDefault(tv.getObjectUri(), tv.getObjectUri()));
-		} else if (pretty && jsonLDSchema.getAnyLicenseInfoTypes().contains(tv.getType())) {
+		} else if (pretty && TypeCategory.ANY_LICENSE_INFO == category) {
+			if (Objects.nonNull(dependencies)) {
+				addLicenseDependencies(tv, fromModelStore, dependencies);
+			}
 			AnyLicenseInfo licenseInfo = (AnyLicenseInfo)ModelRegistry.getModelRegistry().inflateModelObject(fromModelStore, tv.getObjectUri(), tv.getType(), new ModelCopyManager(), tv.getSpecVersion(), false, "");
 			return new TextNode(licenseInfo.toString());
 		} else {
 			// we should inline to the object
-			return inlinedJsonNode(tv, fromModelStore, idToSerializedId);
+			return inlinedJsonNode(tv, fromModelStore, idToSerializedId, dependencies);
+		}
+	}
+	
+	/**
+	 * Record the license and all objects it references as dependencies since the string form of the license
+	 * is generated from all of them
+	 * @param tv typed value of the license
+	 * @param fromModelStore modelStore to retrieve the property information from
+	 * @param dependencies updated with the license and the objects it references
+	 * @throws InvalidSPDXAnalysisException on errors retrieving model store information
+	 */
+	private void addLicenseDependencies(TypedValue tv, IModelStore fromModelStore,
+			ElementRenderCache.Dependencies dependencies) throws InvalidSPDXAnalysisException {
+		if (!dependencies.addObject(tv.getObjectUri(), getStamp(tv.getObjectUri()))) {
+			return;	// already recorded
+		}
+		for (PropertyDescriptor prop:fromModelStore.getPropertyValueDescriptors(tv.getObjectUri())) {
+			if (fromModelStore.isCollectionProperty(tv.getObjectUri(), prop)) {
+				Iterator<Object> iter = fromModelStore.listValues(tv.getObjectUri(), prop);
+				while (iter.hasNext()) {
+					Object value = iter.next();
+					if (value instanceof TypedValue) {
+						addLicenseDependencies((TypedValue)value, fromModelStore, dependencies);
+					}
+				}
+			} else {
+				Optional<Object> val = fromModelStore.getValue(tv.getObjectUri(), prop);
+				if (val.isPresent() && val.get() instanceof TypedValue) {
+					addLicenseDependencies((TypedValue)val.get(), fromModelStore, dependencies);
+				}
+			}
 		}
 	}
 	
@@ -485,25 +1037,29 @@ public class JsonLDSerializer {
 	 * @param tv typed value to translate to a JSON node
 	 * @param fromModelStore modelStore to retrieve the property information from
 	 * @param idToSerializedId partial Map of IDs in the modelStore to the IDs used in the serialization
+	 * @param dependencies if not null, updated with the objects and references the converted tree depends on
 	 * @return a JSON node representation of a typed value object with inlined property values
 	 * @throws InvalidSPDXAnalysisException on errors retrieving model store information
 	 */
 	private JsonNode inlinedJsonNode(TypedValue tv, IModelStore fromModelStore,
-			Map<String, String> idToSerializedId) throws InvalidSPDXAnalysisException {
+			Map<String, String> idToSerializedId, @Nullable ElementRenderCache.Dependencies dependencies) throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(dependencies)) {
+			dependencies.addObject(tv.getObjectUri(), getStamp(tv.getObjectUri()));
+		}
 		ObjectNode retval = jsonMapper.createObjectNode();
-		retval.set("type", new TextNode(typeToJsonType(tv.getType())));
+		retval.set("type", new TextNode(JsonLDSchema.getJsonType(tv.getType())));
 		for (PropertyDescriptor prop:fromModelStore.getPropertyValueDescriptors(tv.getObjectUri())) {
 			if (fromModelStore.isCollectionProperty(tv.getObjectUri(), prop)) {
 				ArrayNode an = jsonMapper.createArrayNode();
 				Iterator<Object> iter = fromModelStore.listValues(tv.getObjectUri(), prop);
 				while (iter.hasNext()) {
-					an.add(objectToJsonNode(iter.next(), fromModelStore, idToSerializedId));
+					an.add(objectToJsonNode(iter.next(), fromModelStore, idToSerializedId, dependencies));
 				}
-				retval.set(propertyToJsonLdPropName(prop), an);
+				retval.set(jsonLDSchema.getJsonPropertyName(prop), an);
 			} else {
 				Optional<Object> val = fromModelStore.getValue(tv.getObjectUri(), prop);
 				if (val.isPresent()) {
-					retval.set(propertyToJsonLdPropName(prop), objectToJsonNode(val.get(), fromModelStore, idToSerializedId));
+					retval.set(jsonLDSchema.getJsonPropertyName(prop), objectToJsonNode(val.get(), fromModelStore, idToSerializedId, dependencies));
 				}
 			}
 		}
@@ -511,16 +1067,54 @@ public class JsonLDSerializer {
 	}
 
 	/**
-	 * @param type model type
-	 * @return the JSON representation of the type
+	 * @return executor used to convert graph entries in parallel or null if the entries are converted on the calling thread
 	 */
-	private String typeToJsonType(String type) {
-		String[] parts = type.split("\\.");
-		if ("Core".equals(parts[0])) {
-			return JsonLDSchema.REVERSE_JAVA_WORDS.getOrDefault(parts[1], parts[1]);
-		} else {
-			return parts[0].toLowerCase() + "_" + JsonLDSchema.REVERSE_JAVA_WORDS.getOrDefault(parts[1], parts[1]);
-		}
+	public @Nullable Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Set an executor to convert the graph entries in parallel
+	 * 
+	 * The entries are converted on the executor threads and are written in the same order as a sequential
+	 * serialization.  When writing JSON text, the entries are also encoded to text on the executor threads using
+	 * the pretty printer and escaping of the generator, so the calling thread only copies the encoded entries to
+	 * the output.  Binary encodings can not be encoded one entry at a time, so for them the calling thread writes
+	 * each converted JSON tree.
+	 * @param executor executor used to convert graph entries in parallel or null to convert the entries on the calling thread
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * @return cache of converted graph entries or null if every graph entry is converted
+	 */
+	@Nullable ElementRenderCache getRenderCache() {
+		return renderCache;
+	}
+
+	/**
+	 * @param renderCache cache of converted graph entries reused across serializations or null to convert every graph entry
+	 */
+	void setRenderCache(@Nullable ElementRenderCache renderCache) {
+		this.renderCache = renderCache;
+	}
+
+	/**
+	 * @return prefix of the URIs generated for elements with anonymous IDs
+	 */
+	String getGeneratedIdPrefix() {
+		return generatedIdPrefix;
+	}
+
+	/**
+	 * @param generatedIdPrefix prefix of the URIs generated for elements with anonymous IDs - the same prefix
+	 * generates the same URI for an anonymous ID, so cached graph entries referencing the element remain valid
+	 */
+	void setGeneratedIdPrefix(String generatedIdPrefix) {
+		Objects.requireNonNull(generatedIdPrefix, "Generated ID prefix must not be null");
+		this.generatedIdPrefix = generatedIdPrefix;
 	}
 
 	/**
@@ -7,15 +7,32 @@ package org.spdx.v3jsonldstore;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.annotation.Nullable;
 
@@ -36,10 +53,17 @@ import org.spdx.storage.PropertyDescriptor;
 import org.spdx.storage.simple.ExtendedSpdxStore;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 
 import net.jimblackler.jsonschemafriend.GenerationException;
 
@@ -51,13 +75,60 @@ import net.jimblackler.jsonschemafriend.GenerationException;
  */
 public class JsonLDStore extends ExtendedSpdxStore
 		implements
-			ISerializableModelStore {
+			ISerializableModelStore, IBulkWriteModelStore {
 	
 	static final Logger logger = LoggerFactory.getLogger(JsonLDStore.class);
-	static final ObjectMapper JSON_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+	static final ObjectMapper JSON_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+			.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	static final ObjectMapper SMILE_MAPPER = new ObjectMapper(SmileFactory.builder()
+			.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+			.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+			.build()).disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	static final ObjectMapper CBOR_MAPPER = new ObjectMapper(CBORFactory.builder()
+			.enable(CBORGenerator.Feature.STRINGREF)
+			.build()).disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 	
 	boolean pretty = true;
 	private boolean useExternalListedElements = false;
+	private boolean streamingDeserialization = false;
+	private boolean jsonLines = false;
+	private boolean gzipOutput = false;
+	private JsonLDEncoding encoding = JsonLDEncoding.JSON;
+	private Executor serializationExecutor = null;
+	private Executor deserializationExecutor = null;
+	private ListedLicenseCache listedLicenseCache = null;
+	private volatile ElementRenderCache renderCache = null;
+	
+	/**
+	 * Identifies this store in the checkpoint tokens it creates and in the URIs generated for its anonymous elements
+	 */
+	private final String storeId = UUID.randomUUID().toString();
+	private final AtomicLong modificationCounter = new AtomicLong();
+	/**
+	 * Latest modification stamp of each object modified since the stamps were last pruned - one entry is kept per
+	 * modified object, including deleted objects, until <code>pruneModificationStamps</code> is called
+	 */
+	private final Map<String, Long> modificationStamps = new ConcurrentHashMap<>();
+	/**
+	 * Modification counter of the latest checkpoint the stamps have been pruned through
+	 */
+	private volatile long prunedThrough = 0;
+	/**
+	 * Objects referencing each anonymous object set as a property value through this store - used to find the
+	 * elements an inlined object is serialized with when the inlined object changes.  References later removed are
+	 * not pruned, so the objects found may no longer reference the anonymous object.
+	 */
+	private final Map<String, Set<String>> inlinedOwners = new ConcurrentHashMap<>();
+	private final IModelStore baseStore;
+	private volatile boolean trackModifications = false;
+	
+	/**
+	 * Number of locks the object URIs are distributed over for coordinating modifications with open snapshots
+	 */
+	static final int SNAPSHOT_LOCK_STRIPES = 64;
+	private static final String CHECKPOINT_SEPARATOR = ":";
+	private final ReadWriteLock[] snapshotLocks = new ReadWriteLock[SNAPSHOT_LOCK_STRIPES];
+	private final List<JsonLDStoreSnapshot> openSnapshots = new CopyOnWriteArrayList<>();
 	
 	/**
 	 * @param baseStore underlying store to use
@@ -65,7 +136,11 @@ public class JsonLDStore extends ExtendedSpdxStore
 	 */
 	public JsonLDStore(IModelStore baseStore, boolean pretty) {
 		super(baseStore);
+		this.baseStore = baseStore;
 		this.pretty = pretty;
+		for (int i = 0; i < snapshotLocks.length; i++) {
+			snapshotLocks[i] = new ReentrantReadWriteLock();
+		}
 	}
 	
 	/**
@@ -95,23 +170,90 @@ public class JsonLDStore extends ExtendedSpdxStore
 		serialize(stream, null);
 	}
 	
+	/**
+	 * The output is written from a snapshot of the store taken when the serialization starts, so the store may be
+	 * modified while the output is written without blocking and the modifications are not included in the output
+	 */
 	@Override 
 	public void serialize(OutputStream stream, @Nullable CoreModelObject objectToSerialize)
 			throws InvalidSPDXAnalysisException, IOException {
+		if (jsonLines && encoding != JsonLDEncoding.JSON) {
+			throw new InvalidSPDXAnalysisException("JSON Lines is only supported for the JSON encoding");
+		}
+		writeSerialization(stream, (serializer, source, jgen) -> {
+			CoreModelObject sourceObject = objectToSerialize;
+			if (Objects.nonNull(objectToSerialize) && source != this && objectToSerialize.getModelStore() == this) {
+				sourceObject = SpdxModelFactory.inflateModelObject(source, objectToSerialize.getObjectUri(),
+						objectToSerialize.getType(), null, objectToSerialize.getSpecVersion(), false, null);
+			}
+			if (jsonLines) {
+				serializer.serializeLines(jgen, sourceObject);
+			} else {
+				serializer.serialize(jgen, sourceObject);
+			}
+		});
+	}
+	
+	/**
+	 * Write to a JSON generator created using the serialization settings of this store
+	 */
+	@FunctionalInterface
+	private interface SerializationWriter {
+		void write(JsonLDSerializer serializer, IModelStore source, JsonGenerator jgen) throws InvalidSPDXAnalysisException, IOException;
+	}
+	
+	/**
+	 * @return true if serializations are made from a snapshot of the store so that writers are not blocked while the
+	 * output is written
+	 */
+	boolean isSerializedFromSnapshot() {
+		return true;
+	}
+	
+	/**
+	 * Write a serialization of a snapshot of this store, or of the store itself if it is not serialized from a snapshot
+	 * @param stream stream to write the serialization to
+	 * @param writer writes the serialization using the serializer and generator
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing to the stream
+	 */
+	private void writeSerialization(OutputStream stream, SerializationWriter writer) throws InvalidSPDXAnalysisException, IOException {
+		if (!isSerializedFromSnapshot()) {
+			writeSerialization(stream, this, writer);
+			return;
+		}
+		try (JsonLDStoreSnapshot snapshot = createSnapshot()) {
+			writeSerialization(stream, snapshot, writer);
+		}
+	}
+	
+	/**
+	 * Create a serializer and a generator for the configured encoding, compression and format and close the
+	 * generator once written
+	 * @param stream stream to write the serialization to
+	 * @param source store to serialize - this store or a snapshot of it
+	 * @param writer writes the serialization using the serializer and generator
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing to the stream
+	 */
+	private void writeSerialization(OutputStream stream, IModelStore source, SerializationWriter writer) throws InvalidSPDXAnalysisException, IOException {
 		JsonLDSerializer serializer;
 		try {
-			serializer = new JsonLDSerializer(JSON_MAPPER, pretty, useExternalListedElements, SpdxModelFactory.getLatestSpecVersion(), this);
+			serializer = new JsonLDSerializer(JSON_MAPPER, pretty, useExternalListedElements, SpdxModelFactory.getLatestSpecVersion(), source);
 		} catch (GenerationException e) {
 			throw new InvalidSPDXAnalysisException("Unable to reate JSON LD serializer", e);
 		}
-		JsonNode output = serializer.serialize(objectToSerialize);
+		serializer.setExecutor(serializationExecutor);
+		serializer.setRenderCache(renderCache);
+		// anonymous elements keep the same generated URI across serializations of this store
+		serializer.setGeneratedIdPrefix(JsonLDSerializer.GENERATED_SERIALIZED_ID_PREFIX + storeId + "#");
 		JsonGenerator jgen = null;
 		try {
-			jgen = JSON_MAPPER.getFactory().createGenerator(stream);
+			jgen = getMapper().getFactory().createGenerator(gzipOutput ? new PipelinedGzipOutputStream(stream) : stream);
 			if (pretty) {
 				jgen.useDefaultPrettyPrinter();
 			}
-			JSON_MAPPER.writeTree(jgen, output);
+			writer.write(serializer, source, jgen);
 		} finally {
 		    if (Objects.nonNull(jgen)) {
 		        jgen.close();
@@ -123,7 +265,26 @@ public class JsonLDStore extends ExtendedSpdxStore
 	public SpdxDocument deSerialize(InputStream stream, boolean overwrite)
 			throws InvalidSPDXAnalysisException, IOException {
 		Objects.requireNonNull(stream, "Input stream must not be null");
-		JsonNode root = JSON_MAPPER.readTree(stream);
+		stream = GzipStreams.decompressIfGzip(stream);
+		if (jsonLines) {
+			if (encoding != JsonLDEncoding.JSON) {
+				throw new InvalidSPDXAnalysisException("JSON Lines is only supported for the JSON encoding");
+			}
+			return deSerializeLines(stream, overwrite);
+		}
+		if (streamingDeserialization) {
+			return deSerializeStreaming(stream, overwrite);
+		}
+		return deSerializeTree(getMapper().readTree(stream), overwrite);
+	}
+
+	/**
+	 * @param root root of the JSON LD document
+	 * @param overwrite if true, overwrite any existing elements with the same ID
+	 * @return an SPDX document representing the serialization
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+	 */
+	private SpdxDocument deSerializeTree(JsonNode root, boolean overwrite) throws InvalidSPDXAnalysisException {
 		if (!overwrite) {
 			List<String> existingElementUris = getExistingElementUris(root);
 			if (!existingElementUris.isEmpty()) {
@@ -140,7 +301,8 @@ public class JsonLDStore extends ExtendedSpdxStore
 				throw new InvalidSPDXAnalysisException("The SPDX element IDs would be overwritten: ");
 			}
 		}
-		JsonLDDeserializer deserializer = new JsonLDDeserializer(this);
+		JsonLDDeserializer deserializer = createDeserializer();
+		deserializer.setExecutor(deserializationExecutor);
 		if (!root.isObject()) {
 			throw new InvalidSPDXAnalysisException("Root of the JSON LD file is not an SPDX object");
 		}
@@ -159,6 +321,144 @@ public class JsonLDStore extends ExtendedSpdxStore
 	}
 
 
+	/**
+	 * Deserialize a file by memory mapping its contents rather than reading it through buffered streams
+	 * @param file file containing the JSON LD
+	 * @param overwrite if true, overwrite any existing elements with the same ID
+	 * @return an SPDX document representing the serialization
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+	 * @throws IOException on errors reading the file
+	 */
+	public SpdxDocument deSerialize(Path file, boolean overwrite)
+			throws InvalidSPDXAnalysisException, IOException {
+		Objects.requireNonNull(file, "File must not be null");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return deSerialize(channel, overwrite);
+		}
+	}
+
+	/**
+	 * Deserialize the contents of a file channel by memory mapping the channel
+	 * 
+	 * Files larger than 2GB are mapped as a sequence of regions.
+	 * 
+	 * If a deserialization executor is set and streaming deserialization is not enabled, the entries of the
+	 * <code>@graph</code> are located by a structural scan of the mapped file and parsed concurrently on the executor.
+	 * As when the whole document is read, the root fields other than <code>@graph</code> (e.g. <code>@context</code>)
+	 * are ignored for a document with a graph.
+	 * @param channel file channel containing the JSON LD - the channel is not closed
+	 * @param overwrite if true, overwrite any existing elements with the same ID
+	 * @return an SPDX document representing the serialization
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+	 * @throws IOException on errors mapping or reading the channel
+	 */
+	public SpdxDocument deSerialize(FileChannel channel, boolean overwrite)
+			throws InvalidSPDXAnalysisException, IOException {
+		Objects.requireNonNull(channel, "File channel must not be null");
+		List<ByteBuffer> regions = ByteBufferInputStream.map(channel);
+		if (!streamingDeserialization && !jsonLines && encoding == JsonLDEncoding.JSON && Objects.nonNull(deserializationExecutor) &&
+				regions.size() == 1 && !GzipStreams.isGzip(regions.get(0))) {
+			Optional<List<ByteBuffer>> graphEntries = GraphEntryScanner.scan(regions.get(0));
+			if (graphEntries.isPresent()) {
+				// deSerializeTree only reads the @graph of a document with a graph, so the other root fields are not parsed
+				ObjectNode root = JSON_MAPPER.createObjectNode();
+				root.set("@graph", GraphEntryScanner.parseEntries(graphEntries.get(), JSON_MAPPER, deserializationExecutor));
+				return deSerializeTree(root, overwrite);
+			}
+		}
+		// the scan reads the regions by index, so the same regions are read from the start
+		try (InputStream stream = ByteBufferInputStream.mappedInputStream(regions)) {
+			return deSerialize(stream, overwrite);
+		}
+	}
+	
+	/**
+	 * Deserialize the graph one element at a time from a token stream rather than reading the entire
+	 * JSON document into memory
+	 * 
+	 * If <code>overwrite</code> is false and an element already exists, an exception is thrown when
+	 * that element is reached - any elements preceding it in the graph will already have been stored.
+	 * @param stream input stream containing the JSON LD
+	 * @param overwrite if true, overwrite any existing elements with the same ID
+	 * @return an SPDX document representing the serialization
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+	 * @throws IOException on errors reading the stream
+	 */
+	private SpdxDocument deSerializeStreaming(InputStream stream, boolean overwrite)
+			throws InvalidSPDXAnalysisException, IOException {
+		JsonLDDeserializer deserializer = createDeserializer();
+		try (JsonParser parser = getMapper().getFactory().createParser(stream)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new InvalidSPDXAnalysisException("Root of the JSON LD file is not an SPDX object");
+			}
+			List<TypedValue> graphElements = null;
+			ObjectNode nonGraphFields = JSON_MAPPER.createObjectNode();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				parser.nextToken();
+				if ("@graph".equals(fieldName)) {
+					graphElements = deserializer.deserializeGraph(parser, overwrite);
+				} else {
+					nonGraphFields.set(fieldName, (JsonNode)parser.readValueAsTree());
+				}
+			}
+			if (Objects.nonNull(graphElements)) {
+				return elementsToSpdxDocument(graphElements);
+			}
+			// single SPDX element
+			if (!overwrite) {
+				List<String> existingElementUris = getExistingElementUris(nonGraphFields);
+				if (!existingElementUris.isEmpty()) {
+					throw new InvalidSPDXAnalysisException("The SPDX element ID would be overwritten: "+existingElementUris.get(0));
+				}
+			}
+			try {
+				TypedValue element = deserializer.deserializeElement(nonGraphFields);
+				return elementsToSpdxDocument(Arrays.asList(new TypedValue[] {element}));
+			} catch (GenerationException e) {
+				throw new InvalidSPDXAnalysisException("Error opening or reading SPDX 3.X schema",e);
+			}
+		}
+	}
+
+	/**
+	 * Deserialize the JSON Lines form one graph entry at a time
+	 * @param stream input stream containing the JSON Lines
+	 * @param overwrite if true, overwrite any existing elements with the same ID
+	 * @return an SPDX document representing the serialization
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data or if an element would be overwritten
+	 * @throws IOException on errors reading the stream
+	 */
+	private SpdxDocument deSerializeLines(InputStream stream, boolean overwrite)
+			throws InvalidSPDXAnalysisException, IOException {
+		JsonLDDeserializer deserializer = createDeserializer();
+		try (JsonParser parser = getMapper().getFactory().createParser(stream)) {
+			return elementsToSpdxDocument(deserializer.deserializeGraphLines(parser, overwrite));
+		}
+	}
+
+	/**
+	 * @return the object mapper for the configured encoding
+	 */
+	private ObjectMapper getMapper() {
+		switch (encoding) {
+			case SMILE: return SMILE_MAPPER;
+			case CBOR: return CBOR_MAPPER;
+			default: return JSON_MAPPER;
+		}
+	}
+
+	/**
+	 * @return a deserializer for this store using any configured listed license cache
+	 */
+	private JsonLDDeserializer createDeserializer() {
+		JsonLDDeserializer deserializer = new JsonLDDeserializer(this);
+		if (Objects.nonNull(listedLicenseCache)) {
+			deserializer.setListedLicenseCache(listedLicenseCache);
+		}
+		return deserializer;
+	}
+
 	/**
 	 * @param graphElements elements found in the serialized graph
 	 * @return an SPDX document representing the serialization
@@ -265,6 +565,360 @@ public class JsonLDStore extends ExtendedSpdxStore
 		return retval;
 	}
 
+	/**
+	 * @return if true, deserialize the graph one element at a time from a token stream rather than reading the entire document into memory
+	 */
+	public boolean getStreamingDeserialization() {
+		return streamingDeserialization;
+	}
+
+	/**
+	 * The JSON of the document is not held in memory when streaming, but the ID of every element in the graph is kept until
+	 * the deserialization completes so that references can be resolved - memory use still grows with the number of elements.
+	 * Since the graph is not read ahead, a <code>deSerialize</code> with <code>overwrite</code> false only detects an existing
+	 * element when it is reached - the exception is thrown part way through and the elements before it remain in the store.
+	 * @param streamingDeserialization if true, deserialize the graph one element at a time from a token stream rather than reading the entire document into memory
+	 */
+	public void setStreamingDeserialization(boolean streamingDeserialization) {
+		this.streamingDeserialization = streamingDeserialization;
+	}
+
+	/**
+	 * @return if true, serialize and deserialize the JSON Lines form with one <code>@graph</code> entry per line
+	 */
+	public boolean getJsonLines() {
+		return jsonLines;
+	}
+
+	/**
+	 * @param jsonLines if true, serialize and deserialize the JSON Lines form with one <code>@graph</code> entry per line
+	 */
+	public void setJsonLines(boolean jsonLines) {
+		this.jsonLines = jsonLines;
+	}
+
+	/**
+	 * @return if true, gzip compress the serialized output
+	 */
+	public boolean getGzipOutput() {
+		return gzipOutput;
+	}
+
+	/**
+	 * @param gzipOutput if true, gzip compress the serialized output on a background thread while serializing
+	 */
+	public void setGzipOutput(boolean gzipOutput) {
+		this.gzipOutput = gzipOutput;
+	}
+
+	/**
+	 * @return encoding used for serialization and deserialization
+	 */
+	public JsonLDEncoding getEncoding() {
+		return encoding;
+	}
+
+	/**
+	 * Binary encodings represent the same JSON LD data model as the JSON text and are intended for transport between
+	 * services - they are not valid SPDX serializations.  The JSON Lines form is only supported for the JSON encoding.
+	 * @param encoding encoding used for serialization and deserialization
+	 */
+	public void setEncoding(JsonLDEncoding encoding) {
+		Objects.requireNonNull(encoding, "Encoding must not be null");
+		this.encoding = encoding;
+	}
+
+	/**
+	 * @return executor used to serialize elements in parallel or null if elements are serialized on the calling thread
+	 */
+	public @Nullable Executor getSerializationExecutor() {
+		return serializationExecutor;
+	}
+
+	/**
+	 * @param serializationExecutor executor used to serialize elements in parallel (e.g. a <code>ForkJoinPool</code>) or null to serialize elements on the calling thread
+	 */
+	public void setSerializationExecutor(@Nullable Executor serializationExecutor) {
+		this.serializationExecutor = serializationExecutor;
+	}
+
+	/**
+	 * @return executor used to deserialize elements in parallel or null if elements are deserialized on the calling thread
+	 */
+	public @Nullable Executor getDeserializationExecutor() {
+		return deserializationExecutor;
+	}
+
+	/**
+	 * The executor is not used for streaming deserialization, and the base store must support concurrent updates
+	 * @param deserializationExecutor executor used to deserialize elements in parallel (e.g. a <code>ForkJoinPool</code>) or null to deserialize elements on the calling thread
+	 */
+	public void setDeserializationExecutor(@Nullable Executor deserializationExecutor) {
+		this.deserializationExecutor = deserializationExecutor;
+	}
+
+	/**
+	 * @return cache of listed license lookups shared across deserializations or null if a new cache is used for each deserialization
+	 */
+	public @Nullable ListedLicenseCache getListedLicenseCache() {
+		return listedLicenseCache;
+	}
+
+	/**
+	 * If the cache is pinned to a <code>ListedLicenseIndex</code>, references to listed licenses and exceptions are
+	 * deserialized as external references to their URIs (<code>SimpleUriValue</code>) rather than as copies of the
+	 * listed license or exception (<code>TypedValue</code>), so the property values read from the store for the same
+	 * document differ from those of a store using an unpinned cache
+	 * @param listedLicenseCache cache of listed license lookups shared across deserializations (e.g. <code>ListedLicenseCache.getSharedCache()</code>) or null to use a new cache for each deserialization
+	 */
+	public void setListedLicenseCache(@Nullable ListedLicenseCache listedLicenseCache) {
+		this.listedLicenseCache = listedLicenseCache;
+	}
+
+	/**
+	 * @return maximum number of converted elements cached for reuse by later serializations or 0 if the cache is disabled
+	 */
+	public int getRenderCacheSize() {
+		ElementRenderCache cache = renderCache;
+		return Objects.isNull(cache) ? 0 : cache.getMaxEntries();
+	}
+
+	/**
+	 * Cache the converted form of each serialized element so that elements which have not been modified since
+	 * the previous serialization are not converted again
+	 * 
+	 * Only modifications made through this store are tracked - the base store must not be modified directly while
+	 * the cache is enabled.  Changing the size discards the cached elements.
+	 * @param renderCacheSize maximum number of converted elements to cache, least recently used first evicted, or 0 to disable the cache
+	 */
+	public void setRenderCacheSize(int renderCacheSize) {
+		if (renderCacheSize < 0) {
+			throw new IllegalArgumentException("Render cache size must not be negative");
+		}
+		if (renderCacheSize == 0) {
+			this.renderCache = null;
+		} else {
+			trackModifications = true;
+			this.renderCache = new ElementRenderCache(renderCacheSize, this::getModificationStamp);
+		}
+	}
+
+	/**
+	 * @param objectUri object URI
+	 * @return stamp which changes whenever the object is modified through this store - the counter of the checkpoint
+	 * the stamps were last pruned through if the object has not been modified since
+	 */
+	long getModificationStamp(String objectUri) {
+		Long stamp = modificationStamps.get(objectUri);
+		return Objects.isNull(stamp) ? prunedThrough : stamp;
+	}
+
+	/**
+	 * @return number of objects with a modification stamp
+	 */
+	int getModificationStampCount() {
+		return modificationStamps.size();
+	}
+
+	/**
+	 * Discard the modification stamps of objects which have not been modified since a checkpoint
+	 * 
+	 * Tracking modifications keeps an entry for every object modified, including deleted objects, so the memory used
+	 * grows with the number of distinct objects modified.  Once no changes will be requested for checkpoints created
+	 * before this one, pruning releases the entries for objects not modified since.  <code>serializeChanges</code> then
+	 * rejects the older checkpoints, and elements cached by the render cache are converted again on their next serialization.
+	 * @param checkpoint oldest checkpoint token which may still be passed to <code>serializeChanges</code>
+	 * @throws InvalidSPDXAnalysisException if the checkpoint was not created by this store
+	 */
+	public void pruneModificationStamps(String checkpoint) throws InvalidSPDXAnalysisException {
+		long through = parseCheckpoint(checkpoint);
+		synchronized (modificationStamps) {
+			if (through <= prunedThrough) {
+				return;
+			}
+			// update the floor first so that a stamp removed below is never reported as an older value
+			prunedThrough = through;
+		}
+		modificationStamps.values().removeIf(stamp -> stamp <= through);
+	}
+
+	/**
+	 * Create a token identifying the current state of the store for use with <code>serializeChanges</code>
+	 * 
+	 * Changes are tracked from the time the first checkpoint is created (or the render cache is enabled).  Only
+	 * changes made through this store are tracked.  Tracking keeps an entry for each object modified until the entries
+	 * are released by <code>pruneModificationStamps</code>.
+	 * @return a checkpoint token for the current state of the store
+	 */
+	public String createCheckpoint() {
+		trackModifications = true;
+		return storeId + CHECKPOINT_SEPARATOR + modificationCounter.get();
+	}
+
+	/**
+	 * @param checkpoint checkpoint token created by this store
+	 * @return modification counter at the time of the checkpoint
+	 * @throws InvalidSPDXAnalysisException if the checkpoint was not created by this store
+	 */
+	private long parseCheckpoint(String checkpoint) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(checkpoint, "Checkpoint must not be null");
+		int separator = checkpoint.lastIndexOf(CHECKPOINT_SEPARATOR);
+		if (separator < 0 || !storeId.equals(checkpoint.substring(0, separator))) {
+			throw new InvalidSPDXAnalysisException("Checkpoint "+checkpoint+" was not created by this store");
+		}
+		try {
+			return Long.parseLong(checkpoint.substring(separator + 1));
+		} catch (NumberFormatException e) {
+			throw new InvalidSPDXAnalysisException("Invalid checkpoint "+checkpoint, e);
+		}
+	}
+
+	/**
+	 * Serialize only the elements created, modified or deleted since a checkpoint
+	 * 
+	 * The <code>@graph</code> contains the full serialization of each element created or modified since the
+	 * checkpoint, including elements with a modified inlined object, along with the creation information they
+	 * reference.  Elements deleted since the checkpoint are listed by ID in a top level <code>deleted</code>
+	 * array.  The result can be applied to another store with <code>applyChanges</code>.
+	 * @param stream stream to write the changes to
+	 * @param checkpoint checkpoint token created by this store
+	 * @return a checkpoint token for the state of the store included in the serialization
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization or if the checkpoint was not created by this store
+	 * or was created before the modification stamps were pruned
+	 * @throws IOException on errors writing to the stream
+	 */
+	public String serializeChanges(OutputStream stream, String checkpoint) throws InvalidSPDXAnalysisException, IOException {
+		long since = parseCheckpoint(checkpoint);
+		if (since < prunedThrough) {
+			throw new InvalidSPDXAnalysisException("Checkpoint "+checkpoint+" was created before the modification stamps were pruned");
+		}
+		if (jsonLines) {
+			throw new InvalidSPDXAnalysisException("JSON Lines is not supported for serializing changes");
+		}
+		// create the new checkpoint first so that changes made while serializing are included in the next delta
+		String retval = createCheckpoint();
+		Set<String> changedObjectUris = new HashSet<>();
+		for (Entry<String, Long> stamp:modificationStamps.entrySet()) {
+			if (stamp.getValue() > since) {
+				addWithOwners(stamp.getKey(), changedObjectUris);
+			}
+		}
+		// the floor is raised before stamps are removed, so a prune which removed any stamp while collecting is seen here
+		if (since < prunedThrough) {
+			throw new InvalidSPDXAnalysisException("Checkpoint "+checkpoint+" was pruned while the changes were collected");
+		}
+		writeSerialization(stream, (serializer, source, jgen) -> serializer.serializeChanges(jgen, changedObjectUris));
+		return retval;
+	}
+
+	/**
+	 * Add a changed object and, for an inlined object, the existing objects it is inlined in
+	 * @param objectUri object URI of the changed object
+	 * @param changedObjectUris set of changed object URIs to add to
+	 * @throws InvalidSPDXAnalysisException on errors reading from the store
+	 */
+	private void addWithOwners(String objectUri, Set<String> changedObjectUris) throws InvalidSPDXAnalysisException {
+		Deque<String> toAdd = new ArrayDeque<>();
+		toAdd.push(objectUri);
+		while (!toAdd.isEmpty()) {
+			String uri = toAdd.pop();
+			if (changedObjectUris.add(uri)) {
+				for (String owner:inlinedOwners.getOrDefault(uri, Collections.emptySet())) {
+					if (!changedObjectUris.contains(owner) && exists(owner)) {
+						toAdd.push(owner);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Record the object as an owner of the value if the value is an anonymous object
+	 * @param objectUri object URI of the object the value is set on
+	 * @param value property value
+	 */
+	private void recordInlinedOwner(String objectUri, Object value) {
+		if (value instanceof TypedValue && isAnon(((TypedValue)value).getObjectUri())) {
+			inlinedOwners.computeIfAbsent(((TypedValue)value).getObjectUri(), uri -> ConcurrentHashMap.newKeySet()).add(objectUri);
+		}
+	}
+
+	/**
+	 * @param objectUri object URI of an anonymous object
+	 * @return objects recorded as referencing the anonymous object
+	 */
+	Set<String> getInlinedOwners(String objectUri) {
+		return Collections.unmodifiableSet(inlinedOwners.getOrDefault(objectUri, Collections.emptySet()));
+	}
+
+	/**
+	 * Apply changes serialized by <code>serializeChanges</code>
+	 * 
+	 * Each element in the <code>@graph</code> replaces any existing element with the same ID, and each element
+	 * listed in the <code>deleted</code> array is deleted if it exists.  Other elements in the store are not changed.
+	 * @param stream stream containing the serialized changes
+	 * @throws InvalidSPDXAnalysisException on invalid SPDX data
+	 * @throws IOException on errors reading the stream
+	 */
+	public void applyChanges(InputStream stream) throws InvalidSPDXAnalysisException, IOException {
+		Objects.requireNonNull(stream, "Input stream must not be null");
+		JsonNode root = getMapper().readTree(GzipStreams.decompressIfGzip(stream));
+		if (Objects.isNull(root) || !root.isObject()) {
+			throw new InvalidSPDXAnalysisException("Root of the JSON LD changes is not an object");
+		}
+		JsonNode deleted = root.get(JsonLDSerializer.DELETED_PROP);
+		if (Objects.nonNull(deleted) && !deleted.isArray()) {
+			throw new InvalidSPDXAnalysisException("Invalid type for "+JsonLDSerializer.DELETED_PROP+" - must be an array");
+		}
+		JsonNode graph = root.get("@graph");
+		if (Objects.nonNull(graph)) {
+			JsonLDDeserializer deserializer = createDeserializer();
+			deserializer.setExecutor(deserializationExecutor);
+			deserializer.deserializeGraphChanges(graph);
+		}
+		if (Objects.nonNull(deleted)) {
+			// deleted after the graph is applied so that references from changed elements have been removed
+			for (JsonNode id:deleted) {
+				if (!id.isTextual()) {
+					throw new InvalidSPDXAnalysisException("Invalid deleted element ID "+id+" - must be a string");
+				}
+				if (exists(id.asText())) {
+					delete(id.asText());
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return cache of converted elements or null if the cache is disabled
+	 */
+	@Nullable ElementRenderCache getRenderCache() {
+		return renderCache;
+	}
+
+	/**
+	 * Pin deserialization to the listed license index bundled with this library so that the SPDX listed
+	 * license data is never accessed
+	 * 
+	 * The index contains only the listed license and exception IDs and names, not the license model data.  References
+	 * to listed licenses and exceptions are therefore stored as external references to their URIs
+	 * (<code>SimpleUriValue</code>) rather than copies (<code>TypedValue</code>), and are not written to the
+	 * <code>@graph</code> on serialization.
+	 * @throws InvalidSPDXAnalysisException if the bundled index is not available
+	 */
+	public void pinBundledListedLicenseIndex() throws InvalidSPDXAnalysisException {
+		Optional<ListedLicenseIndex> index;
+		try {
+			index = ListedLicenseIndex.getBundledIndex();
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("Unable to read the bundled listed license index", e);
+		}
+		if (!index.isPresent()) {
+			throw new InvalidSPDXAnalysisException("No listed license index is bundled with this library");
+		}
+		this.listedLicenseCache = new ListedLicenseCache(index.get());
+	}
+
 	/**
 	 * @param useExternalListedElements if true, don't serialize any listed licenses or exceptions - treat them as external
 	 */
@@ -272,4 +926,251 @@ public class JsonLDStore extends ExtendedSpdxStore
 		this.useExternalListedElements  = useExternalListedElements;
 	}
 
+	/**
+	 * Create a read only, point in time view of this store
+	 * 
+	 * Creating the snapshot does not copy the store - the state of each object is preserved in the snapshot
+	 * when the object is first modified through this store.  The snapshot should be closed when no longer needed.
+	 * @return a snapshot of the current state of the store
+	 * @throws InvalidSPDXAnalysisException if the store does not support snapshots
+	 */
+	public JsonLDStoreSnapshot createSnapshot() throws InvalidSPDXAnalysisException {
+		// hold all the locks so that no modification is in progress when the snapshot is registered
+		for (ReadWriteLock lock:snapshotLocks) {
+			lock.writeLock().lock();
+		}
+		try {
+			JsonLDStoreSnapshot snapshot = new JsonLDStoreSnapshot(this);
+			openSnapshots.add(snapshot);
+			return snapshot;
+		} finally {
+			for (int i = snapshotLocks.length - 1; i >= 0; i--) {
+				snapshotLocks[i].writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Serialize a snapshot of the store using the serialization settings of this store
+	 * 
+	 * The store may be modified while the snapshot is serialized - the modifications are not included in the output.
+	 * This is the same as <code>serialize(stream, objectToSerialize)</code>, which always serializes from a snapshot.
+	 * @param stream stream to write the serialization to
+	 * @param objectToSerialize optional SPDX Document or single element to serialize
+	 * @throws InvalidSPDXAnalysisException on errors retrieveing the information for serialization
+	 * @throws IOException on errors writing to the stream
+	 */
+	public void serializeSnapshot(OutputStream stream, @Nullable CoreModelObject objectToSerialize)
+			throws InvalidSPDXAnalysisException, IOException {
+		serialize(stream, objectToSerialize);
+	}
+
+	/**
+	 * @param objectUri object URI
+	 * @return the lock coordinating modifications of the object with reads from open snapshots
+	 */
+	ReadWriteLock getSnapshotLock(String objectUri) {
+		return snapshotLocks[getSnapshotLockStripe(objectUri)];
+	}
+
+	/**
+	 * @param objectUri object URI
+	 * @return index of the lock coordinating modifications of the object with reads from open snapshots
+	 */
+	private static int getSnapshotLockStripe(String objectUri) {
+		return (objectUri.hashCode() & 0x7fffffff) % SNAPSHOT_LOCK_STRIPES;
+	}
+
+	/**
+	 * Stop preserving object state for a snapshot - called when the snapshot is closed
+	 * @param snapshot snapshot to release
+	 */
+	void releaseSnapshot(JsonLDStoreSnapshot snapshot) {
+		openSnapshots.remove(snapshot);
+	}
+
+	/**
+	 * Lock the object for modification and preserve its current state in any open snapshot which has not already preserved it
+	 * @param objectUri object URI of the object about to be modified
+	 * @return the lock to unlock once the modification is complete
+	 * @throws InvalidSPDXAnalysisException on errors reading the current state of the object
+	 */
+	private Lock lockForModification(String objectUri) throws InvalidSPDXAnalysisException {
+		Lock lock = getSnapshotLock(objectUri).writeLock();
+		lock.lock();
+		try {
+			preserveForSnapshots(objectUri);
+			return lock;
+		} catch (InvalidSPDXAnalysisException | RuntimeException e) {
+			lock.unlock();
+			throw e;
+		}
+	}
+
+	/**
+	 * Preserve the current state of the object in any open snapshot which has not already preserved it - the
+	 * object's snapshot lock must be held for writing
+	 * @param objectUri object URI of the object about to be modified
+	 * @throws InvalidSPDXAnalysisException on errors reading the current state of the object
+	 */
+	private void preserveForSnapshots(String objectUri) throws InvalidSPDXAnalysisException {
+		JsonLDStoreSnapshot.ObjectState state = null;
+		for (JsonLDStoreSnapshot snapshot:openSnapshots) {
+			if (!snapshot.isPreserved(objectUri)) {
+				if (Objects.isNull(state)) {
+					state = JsonLDStoreSnapshot.ObjectState.capture(this, objectUri);
+				}
+				snapshot.preserve(objectUri, state);
+			}
+		}
+	}
+
+	/**
+	 * @param objectUri object URI of the modified object
+	 */
+	private void stampModification(String objectUri) {
+		if (trackModifications) {
+			modificationStamps.put(objectUri, modificationCounter.incrementAndGet());
+		}
+	}
+
+	/**
+	 * Give the object a new modification stamp if modifications are tracked and release the lock taken by <code>lockForModification</code>
+	 * @param objectUri object URI of the modified object
+	 * @param lock lock returned by <code>lockForModification</code>
+	 */
+	private void endModification(String objectUri, Lock lock) {
+		try {
+			stampModification(objectUri);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Write the property values of many objects - if the base store supports bulk writes, the values are written
+	 * to the base store in a single call, otherwise the values are written one at a time
+	 */
+	@Override
+	public void writeProperties(List<PropertyBatch> batches) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(batches, "Batches must not be null");
+		if (!(baseStore instanceof IBulkWriteModelStore)) {
+			for (PropertyBatch batch:batches) {
+				batch.writeTo(this);
+			}
+			return;
+		}
+		// lock the objects in stripe order so that concurrent batches can not deadlock
+		Set<Integer> stripes = new TreeSet<>();
+		for (PropertyBatch batch:batches) {
+			stripes.add(getSnapshotLockStripe(batch.getObjectUri()));
+		}
+		List<Lock> locks = new ArrayList<>(stripes.size());
+		try {
+			for (Integer stripe:stripes) {
+				Lock lock = snapshotLocks[stripe].writeLock();
+				lock.lock();
+				locks.add(lock);
+			}
+			for (PropertyBatch batch:batches) {
+				preserveForSnapshots(batch.getObjectUri());
+			}
+			try {
+				((IBulkWriteModelStore)baseStore).writeProperties(batches);
+				for (PropertyBatch batch:batches) {
+					for (Object value:batch.getValues().values()) {
+						recordInlinedOwner(batch.getObjectUri(), value);
+					}
+					for (List<Object> values:batch.getCollectionValues().values()) {
+						for (Object value:values) {
+							recordInlinedOwner(batch.getObjectUri(), value);
+						}
+					}
+				}
+			} finally {
+				for (PropertyBatch batch:batches) {
+					stampModification(batch.getObjectUri());
+				}
+			}
+		} finally {
+			for (int i = locks.size() - 1; i >= 0; i--) {
+				locks.get(i).unlock();
+			}
+		}
+	}
+
+	@Override
+	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		Lock lock = lockForModification(typedValue.getObjectUri());
+		try {
+			super.create(typedValue);
+		} finally {
+			endModification(typedValue.getObjectUri(), lock);
+		}
+	}
+
+	@Override
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		Lock lock = lockForModification(objectUri);
+		try {
+			super.setValue(objectUri, propertyDescriptor, value);
+			recordInlinedOwner(objectUri, value);
+		} finally {
+			endModification(objectUri, lock);
+		}
+	}
+
+	@Override
+	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		Lock lock = lockForModification(objectUri);
+		try {
+			super.removeProperty(objectUri, propertyDescriptor);
+		} finally {
+			endModification(objectUri, lock);
+		}
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		Lock lock = lockForModification(objectUri);
+		try {
+			super.clearValueCollection(objectUri, propertyDescriptor);
+		} finally {
+			endModification(objectUri, lock);
+		}
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		Lock lock = lockForModification(objectUri);
+		try {
+			boolean retval = super.addValueToCollection(objectUri, propertyDescriptor, value);
+			recordInlinedOwner(objectUri, value);
+			return retval;
+		} finally {
+			endModification(objectUri, lock);
+		}
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		Lock lock = lockForModification(objectUri);
+		try {
+			return super.removeValueFromCollection(objectUri, propertyDescriptor, value);
+		} finally {
+			endModification(objectUri, lock);
+		}
+	}
+
+	@Override
+	public void delete(String objectUri) throws InvalidSPDXAnalysisException {
+		Lock lock = lockForModification(objectUri);
+		try {
+			super.delete(objectUri);
+			inlinedOwners.remove(objectUri);
+		} finally {
+			endModification(objectUri, lock);
+		}
+	}
+
 }
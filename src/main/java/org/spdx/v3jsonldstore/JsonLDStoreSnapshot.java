@@ -0,0 +1,462 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.IndividualUriValue;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.core.TypedValue;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IModelStoreLock;
+import org.spdx.storage.PropertyDescriptor;
+import org.spdx.storage.simple.ExtendedSpdxStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Read only, point in time view of a <code>JsonLDStore</code> created by <code>JsonLDStore.createSnapshot()</code>
+ *
+ * The snapshot does not copy the store when created.  Instead, the first time an object is modified through the
+ * <code>JsonLDStore</code> after the snapshot was created, the state of the object before the modification is
+ * preserved in the snapshot.  Reads of objects which have not been modified since the snapshot was created are
+ * made from the live store, so the cost of a snapshot is proportional to the number of objects changed while it is open.
+ * Every read which depends on the state of an object, including the type checks of property values, is answered from
+ * the preserved state of a modified object.
+ *
+ * Changes made directly to the base store of the <code>JsonLDStore</code> are not tracked.  The snapshot should be
+ * closed once it is no longer needed so that the store stops preserving state for it - closing the snapshot does
+ * not close the live store.
+ *
+ */
+public class JsonLDStoreSnapshot extends ExtendedSpdxStore {
+
+	private static final String READ_ONLY_MESSAGE = "JSON LD store snapshots are read only";
+
+	/**
+	 * State of an object at the time a snapshot was created
+	 */
+	static final class ObjectState {
+		private static final ObjectState ABSENT = new ObjectState(null, Collections.emptyMap(), Collections.emptySet());
+
+		private final TypedValue typedValue;
+		private final Map<PropertyDescriptor, Object> values;
+		private final Set<PropertyDescriptor> collectionProperties;
+
+		private ObjectState(@Nullable TypedValue typedValue, Map<PropertyDescriptor, Object> values,
+				Set<PropertyDescriptor> collectionProperties) {
+			this.typedValue = typedValue;
+			this.values = values;
+			this.collectionProperties = collectionProperties;
+		}
+
+		/**
+		 * @param store store containing the object
+		 * @param objectUri object URI
+		 * @return the current state of the object in the store
+		 * @throws InvalidSPDXAnalysisException on errors reading the store
+		 */
+		static ObjectState capture(IModelStore store, String objectUri) throws InvalidSPDXAnalysisException {
+			Optional<TypedValue> typedValue = store.getTypedValue(objectUri);
+			if (!typedValue.isPresent()) {
+				return ABSENT;
+			}
+			Map<PropertyDescriptor, Object> values = new LinkedHashMap<>();
+			Set<PropertyDescriptor> collectionProperties = new HashSet<>();
+			for (PropertyDescriptor property:store.getPropertyValueDescriptors(objectUri)) {
+				if (store.isCollectionProperty(objectUri, property)) {
+					List<Object> members = new ArrayList<>();
+					store.listValues(objectUri, property).forEachRemaining(members::add);
+					values.put(property, Collections.unmodifiableList(members));
+					collectionProperties.add(property);
+				} else {
+					Optional<Object> value = store.getValue(objectUri, property);
+					if (value.isPresent()) {
+						values.put(property, value.get());
+					}
+				}
+			}
+			return new ObjectState(typedValue.get(), Collections.unmodifiableMap(values),
+					Collections.unmodifiableSet(collectionProperties));
+		}
+
+		/**
+		 * @return true if the object did not exist
+		 */
+		boolean isAbsent() {
+			return Objects.isNull(typedValue);
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<Object> collection(PropertyDescriptor property) {
+			return collectionProperties.contains(property) ? (List<Object>)values.get(property) : Collections.emptyList();
+		}
+
+		/**
+		 * Makes the same check the in memory store makes for a live value
+		 * @param property property descriptor of the value
+		 * @param value preserved property value or collection member
+		 * @param clazz class to check
+		 * @param specVersion version of the spec used to find the class of a typed value or enumeration
+		 * @return true if the value is assignable to the class
+		 * @throws InvalidSPDXAnalysisException on errors finding the class of the value
+		 */
+		private boolean isAssignableTo(PropertyDescriptor property, Object value, Class<?> clazz, String specVersion) throws InvalidSPDXAnalysisException {
+			if (clazz.isAssignableFrom(value.getClass())) {
+				return true;
+			}
+			if (value instanceof TypedValue) {
+				Class<?> valueClass = ModelRegistry.getModelRegistry().getTypeToClassMap(specVersion).get(((TypedValue)value).getType());
+				return Objects.nonNull(valueClass) && clazz.isAssignableFrom(valueClass);
+			}
+			if (value instanceof IndividualUriValue) {
+				Enum<?> spdxEnum = SpdxModelFactory.uriToEnum(((IndividualUriValue)value).getIndividualURI(), specVersion);
+				if (Objects.nonNull(spdxEnum)) {
+					return clazz.isAssignableFrom(spdxEnum.getClass());
+				}
+				// individuals are resolved by the in memory store, so the rare non-enumeration individual is checked there
+				IModelStore valueStore = new InMemSpdxStore();
+				valueStore.create(typedValue);
+				valueStore.setValue(typedValue.getObjectUri(), property, value);
+				return valueStore.isPropertyValueAssignableTo(typedValue.getObjectUri(), property, clazz, specVersion);
+			}
+			return false;
+		}
+
+		/**
+		 * @param property property descriptor
+		 * @param clazz class to check
+		 * @param specVersion version of the spec for the type check
+		 * @return true if the preserved value of the property is assignable to the class
+		 * @throws InvalidSPDXAnalysisException on errors checking the type
+		 */
+		private boolean isValueAssignableTo(PropertyDescriptor property, Class<?> clazz, String specVersion) throws InvalidSPDXAnalysisException {
+			if (isAbsent() || !values.containsKey(property) || collectionProperties.contains(property)) {
+				return false;
+			}
+			return isAssignableTo(property, values.get(property), clazz, specVersion);
+		}
+
+		/**
+		 * @param property property descriptor
+		 * @param clazz class to check
+		 * @return true if all the preserved members of the collection are assignable to the class
+		 * @throws InvalidSPDXAnalysisException on errors checking the type
+		 */
+		private boolean isMembersAssignableTo(PropertyDescriptor property, Class<?> clazz) throws InvalidSPDXAnalysisException {
+			if (isAbsent() || !collectionProperties.contains(property)) {
+				return true;
+			}
+			for (Object member:collection(property)) {
+				// members are checked against the spec version of the object, as the in memory store does
+				if (!isAssignableTo(property, member, clazz, typedValue.getSpecVersion())) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Read from the preserved state of an object which may throw an exception
+	 */
+	@FunctionalInterface
+	private interface PreservedRead<T> {
+		T read(ObjectState state) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Read from the live store which may throw an exception
+	 */
+	@FunctionalInterface
+	private interface LiveRead<T> {
+		T read() throws InvalidSPDXAnalysisException;
+	}
+
+	private final JsonLDStore liveStore;
+	private final Map<String, ObjectState> preserved = new ConcurrentHashMap<>();
+	private volatile boolean closed = false;
+
+	/**
+	 * @param liveStore store the snapshot is taken of - must be created by <code>JsonLDStore.createSnapshot()</code>
+	 */
+	JsonLDStoreSnapshot(JsonLDStore liveStore) {
+		super(liveStore);
+		this.liveStore = liveStore;
+	}
+
+	/**
+	 * @param objectUri object URI
+	 * @return true if the state of the object has already been preserved in this snapshot
+	 */
+	boolean isPreserved(String objectUri) {
+		return preserved.containsKey(objectUri);
+	}
+
+	/**
+	 * Preserve the state of an object about to be modified - called with the object's snapshot lock held for writing
+	 * @param objectUri object URI
+	 * @param state state of the object when the snapshot was created
+	 */
+	void preserve(String objectUri, ObjectState state) {
+		preserved.putIfAbsent(objectUri, state);
+	}
+
+	/**
+	 * @param objectUri object URI
+	 * @return modification stamp of the object in the live store if the object has not been modified since the
+	 * snapshot was created, otherwise <code>ElementRenderCache.UNKNOWN_STAMP</code> since the preserved state has no stamp
+	 */
+	long getModificationStamp(String objectUri) {
+		long stamp = liveStore.getModificationStamp(objectUri);
+		// checked after the stamp is read - the state is preserved before the object is modified and stamped
+		return isPreserved(objectUri) ? ElementRenderCache.UNKNOWN_STAMP : stamp;
+	}
+
+	/**
+	 * @return number of objects whose state has been preserved since the snapshot was created
+	 */
+	public int getPreservedCount() {
+		return preserved.size();
+	}
+
+	/**
+	 * @throws InvalidSPDXAnalysisException if the snapshot is closed
+	 */
+	private void checkOpen() throws InvalidSPDXAnalysisException {
+		if (closed) {
+			throw new InvalidSPDXAnalysisException("JSON LD store snapshot is closed");
+		}
+	}
+
+	/**
+	 * Read the object from the preserved state if it has been modified, otherwise from the live store
+	 * @param objectUri object URI
+	 * @param fromPreserved read from the preserved state
+	 * @param fromLive read from the live store
+	 * @return the value read
+	 * @throws InvalidSPDXAnalysisException on errors reading from the live store or if the snapshot is closed
+	 */
+	private <T> T read(String objectUri, PreservedRead<T> fromPreserved, LiveRead<T> fromLive) throws InvalidSPDXAnalysisException {
+		checkOpen();
+		ObjectState state = preserved.get(objectUri);
+		if (Objects.nonNull(state)) {
+			return fromPreserved.read(state);
+		}
+		Lock lock = liveStore.getSnapshotLock(objectUri).readLock();
+		lock.lock();
+		try {
+			// check again in case the object was modified while waiting for the lock
+			state = preserved.get(objectUri);
+			return Objects.nonNull(state) ? fromPreserved.read(state) : fromLive.read();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean exists(String objectUri) {
+		try {
+			return read(objectUri, state -> !state.isAbsent(), () -> super.exists(objectUri));
+		} catch (InvalidSPDXAnalysisException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public Optional<TypedValue> getTypedValue(String objectUri) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> Optional.ofNullable(state.typedValue), () -> super.getTypedValue(objectUri));
+	}
+
+	@Override
+	public List<PropertyDescriptor> getPropertyValueDescriptors(String objectUri) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> new ArrayList<>(state.values.keySet()),
+				() -> super.getPropertyValueDescriptors(objectUri));
+	}
+
+	@Override
+	public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> Optional.ofNullable(state.values.get(propertyDescriptor)),
+				() -> super.getValue(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public Iterator<Object> listValues(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> state.collection(propertyDescriptor), () -> {
+			// copy while holding the lock so that later modifications are not visible
+			List<Object> members = new ArrayList<>();
+			super.listValues(objectUri, propertyDescriptor).forEachRemaining(members::add);
+			return members;
+		}).iterator();
+	}
+
+	@Override
+	public boolean isCollectionProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> state.collectionProperties.contains(propertyDescriptor),
+				() -> super.isCollectionProperty(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public int collectionSize(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> state.collection(propertyDescriptor).size(),
+				() -> super.collectionSize(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public boolean collectionContains(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> state.collection(propertyDescriptor).contains(value),
+				() -> super.collectionContains(objectUri, propertyDescriptor, value));
+	}
+
+	@Override
+	public boolean isCollectionMembersAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> state.isMembersAssignableTo(propertyDescriptor, clazz),
+				() -> super.isCollectionMembersAssignableTo(objectUri, propertyDescriptor, clazz));
+	}
+
+	@Override
+	public boolean isPropertyValueAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz, String specVersion) throws InvalidSPDXAnalysisException {
+		return read(objectUri, state -> state.isValueAssignableTo(propertyDescriptor, clazz, specVersion),
+				() -> super.isPropertyValueAssignableTo(objectUri, propertyDescriptor, clazz, specVersion));
+	}
+
+	@Override
+	public Optional<String> getCaseSensisitiveId(String nameSpace, String caseInsensisitiveId) {
+		if (closed) {
+			return Optional.empty();
+		}
+		Optional<String> live = super.getCaseSensisitiveId(nameSpace, caseInsensisitiveId);
+		if (live.isPresent() && exists(nameSpace + live.get())) {
+			return live;
+		}
+		// objects deleted since the snapshot was created
+		String objectUri = nameSpace + caseInsensisitiveId;
+		for (Entry<String, ObjectState> entry:preserved.entrySet()) {
+			if (!entry.getValue().isAbsent() && objectUri.equalsIgnoreCase(entry.getKey())) {
+				return Optional.of(entry.getKey().substring(nameSpace.length()));
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(@Nullable String nameSpace, @Nullable String typeFilter) throws InvalidSPDXAnalysisException {
+		checkOpen();
+		List<TypedValue> liveItems;
+		try (Stream<TypedValue> allLive = super.getAllItems(nameSpace, typeFilter)) {
+			liveItems = allLive.collect(Collectors.toList());
+		}
+		// keyed by object URI so that each object is included once
+		Map<String, TypedValue> items = new LinkedHashMap<>();
+		for (TypedValue liveItem:liveItems) {
+			if (!items.containsKey(liveItem.getObjectUri())) {
+				// read under the object's snapshot lock so the live item is not used once its state has been preserved
+				Optional<TypedValue> item = read(liveItem.getObjectUri(), state -> Optional.ofNullable(state.typedValue),
+						() -> Optional.of(liveItem));
+				items.put(liveItem.getObjectUri(), item.isPresent() && matches(item.get(), nameSpace, typeFilter) ? item.get() : null);
+			}
+		}
+		// objects deleted since the snapshot was created - their state is preserved before they are removed from the live store
+		for (Entry<String, ObjectState> entry:preserved.entrySet()) {
+			TypedValue tv = entry.getValue().typedValue;
+			if (Objects.nonNull(tv) && !items.containsKey(entry.getKey()) && matches(tv, nameSpace, typeFilter)) {
+				items.put(entry.getKey(), tv);
+			}
+		}
+		return items.values().stream().filter(Objects::nonNull);
+	}
+
+	/**
+	 * @param tv typed value
+	 * @param nameSpace optional namespace the object URI must start with
+	 * @param typeFilter optional type the object must have
+	 * @return true if the typed value matches the filters
+	 */
+	private static boolean matches(TypedValue tv, @Nullable String nameSpace, @Nullable String typeFilter) {
+		return (Objects.isNull(nameSpace) || tv.getObjectUri().startsWith(nameSpace)) &&
+				(Objects.isNull(typeFilter) || typeFilter.equals(tv.getType()));
+	}
+
+	/**
+	 * The snapshot does not change so no lock on the live store is needed
+	 */
+	@Override
+	public IModelStoreLock enterCriticalSection(boolean readLockRequested) {
+		return () -> {
+			// nothing to unlock
+		};
+	}
+
+	@Override
+	public void leaveCriticalSection(IModelStoreLock lock) {
+		lock.unlock();
+	}
+
+	@Override
+	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void delete(String objectUri) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	/**
+	 * Stop preserving state for this snapshot - the live store is not closed
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			liveStore.releaseSnapshot(this);
+			preserved.clear();
+		}
+	}
+}
@@ -0,0 +1,629 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.CoreModelObject;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.library.model.v3_0_1.core.SpdxDocument;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.PropertyDescriptor;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Read only JSON LD store which inflates the <code>@graph</code> entries of a JSON LD file on demand
+ *
+ * When opened, the file is scanned once to build an index of the byte range, ID and type of each
+ * <code>@graph</code> entry and each entry is created in the base store without any properties.  The properties of
+ * an entry are parsed and stored in the base store only when they are first accessed.  At most
+ * <code>maxInflatedElements</code> entries have their properties kept in the base store - the properties of the least
+ * recently accessed entry, along with any anonymous objects nested in it, are removed when the limit is exceeded.
+ * The anonymous objects nested in an entry keep the same object URIs when the entry is inflated again, so an
+ * anonymous object read after its entry was evicted causes the entry to be inflated again.
+ *
+ * All methods which modify the store throw an <code>InvalidSPDXAnalysisException</code>.  Reads of the properties of
+ * an object share a read lock which excludes inflation and eviction, so an entry can not be evicted between being
+ * inflated and being read.  Only inflating an entry takes the lock exclusively.
+ *
+ */
+public class LazyJsonLDStore extends JsonLDStore {
+
+	static final Logger logger = LoggerFactory.getLogger(LazyJsonLDStore.class);
+
+	/**
+	 * Default maximum number of graph entries kept in the base store
+	 */
+	public static final int DEFAULT_MAX_INFLATED_ELEMENTS = 10000;
+
+	private static final String READ_ONLY_MESSAGE = "Lazy JSON LD store is read only";
+
+	/**
+	 * Location and identity of a graph entry in the file
+	 */
+	private static final class IndexEntry {
+		private final long start;
+		private final int length;
+		private final TypedValue typedValue;
+
+		private IndexEntry(long start, int length, TypedValue typedValue) {
+			this.start = start;
+			this.length = length;
+			this.typedValue = typedValue;
+		}
+	}
+
+	/**
+	 * Read from the base store made while the inflated entries can not change
+	 */
+	@FunctionalInterface
+	private interface InflatedRead<T> {
+		T read() throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Fields of a graph entry collected during the scan
+	 */
+	private static final class ScannedEntry {
+		private long start;
+		private long end;
+		private String spdxId;
+		private String atId;
+		private String jsonType;
+		private String specVersion;
+		private String creationInfoId;
+	}
+
+	private final IModelStore baseStore;
+	private final FileChannel channel;
+	private final int maxInflatedElements;
+	private final JsonLDDeserializer deserializer;
+	private final Map<String, IndexEntry> index = new HashMap<>();	// maps the store object URI to the index entry
+	private final Map<String, String> creationInfoIdToSpecVersion = new HashMap<>();
+	private final Map<String, TypedValue> graphIdToTypedValue = new ConcurrentHashMap<>();
+	private final LinkedHashMap<String, List<String>> inflated = new LinkedHashMap<>(16, 0.75f, true);	// maps object URI to nested anonymous object URIs
+	/**
+	 * Inflated entries read since the last inflation - the access order of <code>inflated</code> can only be updated
+	 * while holding the write lock, so reads record the entries here and the order is updated before evicting
+	 */
+	private final Set<String> recentlyRead = ConcurrentHashMap.newKeySet();
+	private final Map<String, String> nestedAnonOwners = new ConcurrentHashMap<>();	// maps nested anonymous object URIs to the graph entry object URI
+	private final Map<String, List<String>> entryAnonIds = new HashMap<>();	// anonymous IDs created when inflating each graph entry, in the order created
+	private final ReadWriteLock inflateLock = new ReentrantReadWriteLock();
+	private @Nullable Iterator<String> replayAnonIds = null;
+	private @Nullable List<String> createdAnonIds = null;
+
+	/**
+	 * @param baseStore underlying store to inflate the graph entries into
+	 * @param jsonLdFile file containing the SPDX JSON LD serialization
+	 * @param maxInflatedElements maximum number of graph entries to keep in the base store
+	 * @throws IOException on errors reading the file
+	 * @throws InvalidSPDXAnalysisException if the file does not contain an SPDX JSON LD graph
+	 */
+	public LazyJsonLDStore(IModelStore baseStore, Path jsonLdFile, int maxInflatedElements) throws IOException, InvalidSPDXAnalysisException {
+		super(baseStore);
+		Objects.requireNonNull(jsonLdFile, "JSON LD file must not be null");
+		if (maxInflatedElements < 1) {
+			throw new InvalidSPDXAnalysisException("Maximum inflated elements must be at least 1");
+		}
+		this.baseStore = baseStore;
+		this.maxInflatedElements = maxInflatedElements;
+		this.deserializer = new JsonLDDeserializer(baseStore);
+		deserializer.setAnonymousIdSource(this::nextAnonId);
+		buildIndex(jsonLdFile);
+		this.channel = FileChannel.open(jsonLdFile, StandardOpenOption.READ);
+	}
+
+	/**
+	 * @param baseStore underlying store to inflate the graph entries into
+	 * @param jsonLdFile file containing the SPDX JSON LD serialization
+	 * @throws IOException on errors reading the file
+	 * @throws InvalidSPDXAnalysisException if the file does not contain an SPDX JSON LD graph
+	 */
+	public LazyJsonLDStore(IModelStore baseStore, Path jsonLdFile) throws IOException, InvalidSPDXAnalysisException {
+		this(baseStore, jsonLdFile, DEFAULT_MAX_INFLATED_ELEMENTS);
+	}
+
+	/**
+	 * Scan the file recording the byte range, ID, type and spec version of each graph entry
+	 * @param jsonLdFile file containing the SPDX JSON LD serialization
+	 * @throws IOException on errors reading the file
+	 * @throws InvalidSPDXAnalysisException if the file does not contain an SPDX JSON LD graph
+	 */
+	private void buildIndex(Path jsonLdFile) throws IOException, InvalidSPDXAnalysisException {
+		List<ScannedEntry> entries = null;
+		try (InputStream is = Files.newInputStream(jsonLdFile);
+				JsonParser parser = JSON_MAPPER.getFactory().createParser(is)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new InvalidSPDXAnalysisException("Root of the JSON LD file is not an SPDX object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				parser.nextToken();
+				if ("@graph".equals(fieldName)) {
+					entries = scanGraph(parser);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		if (Objects.isNull(entries)) {
+			throw new InvalidSPDXAnalysisException("Lazy loading requires a JSON LD file containing an @graph");
+		}
+		for (ScannedEntry entry:entries) {
+			if (SpdxConstantsV3.CORE_CREATION_INFO.equals(JsonLDSchema.JSON_TYPE_TO_MODEL_TYPE.get(entry.jsonType)) &&
+					Objects.nonNull(entry.specVersion)) {
+				creationInfoIdToSpecVersion.put(Objects.nonNull(entry.spdxId) ? entry.spdxId : entry.atId, entry.specVersion);
+			}
+		}
+		String latestSpecVersion = SpdxModelFactory.getLatestSpecVersion();
+		for (ScannedEntry entry:entries) {
+			String jsonId = Objects.nonNull(entry.spdxId) ? entry.spdxId : entry.atId;
+			String type = JsonLDSchema.JSON_TYPE_TO_MODEL_TYPE.get(entry.jsonType);
+			if (Objects.isNull(jsonId) || Objects.isNull(type)) {
+				logger.warn("Skipping graph entry with missing ID or unknown type {}", entry.jsonType);
+				continue;
+			}
+			String specVersion = entry.specVersion;
+			if (Objects.isNull(specVersion)) {
+				specVersion = Objects.isNull(entry.creationInfoId) ? latestSpecVersion :
+					creationInfoIdToSpecVersion.getOrDefault(entry.creationInfoId, latestSpecVersion);
+			}
+			TypedValue tv = deserializer.createTypedValueFromNode(jsonId, type, specVersion);
+			graphIdToTypedValue.put(jsonId, tv);
+			if (Objects.nonNull(entry.atId)) {
+				graphIdToTypedValue.put(entry.atId, tv);
+			}
+			index.put(tv.getObjectUri(), new IndexEntry(entry.start, (int)(entry.end - entry.start), tv));
+			if (!baseStore.exists(tv.getObjectUri())) {
+				// references between graph entries must resolve whether or not the referenced entry is inflated
+				baseStore.create(tv);
+			}
+		}
+	}
+
+	/**
+	 * @param parser parser positioned at the start of the <code>@graph</code> array
+	 * @return the entries found in the graph
+	 * @throws IOException on errors reading the file
+	 * @throws InvalidSPDXAnalysisException on an invalid graph
+	 */
+	private List<ScannedEntry> scanGraph(JsonParser parser) throws IOException, InvalidSPDXAnalysisException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			throw new InvalidSPDXAnalysisException("Invalid type for @graph - must be an array");
+		}
+		List<ScannedEntry> retval = new ArrayList<>();
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			if (token != JsonToken.START_OBJECT) {
+				throw new InvalidSPDXAnalysisException("Invalid JSON-LD graph - expected an object but found "+token);
+			}
+			ScannedEntry entry = new ScannedEntry();
+			entry.start = parser.getTokenLocation().getByteOffset();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				JsonToken valueToken = parser.nextToken();
+				if ("creationInfo".equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+					JsonNode creationInfo = parser.readValueAsTree();
+					if (creationInfo.has("specVersion")) {
+						entry.specVersion = creationInfo.get("specVersion").asText();
+					}
+				} else if (!valueToken.isScalarValue()) {
+					parser.skipChildren();
+				} else if (JsonLDDeserializer.SPDX_ID_PROP.equals(fieldName)) {
+					entry.spdxId = parser.getText();
+				} else if ("@id".equals(fieldName)) {
+					entry.atId = parser.getText();
+				} else if ("type".equals(fieldName)) {
+					entry.jsonType = parser.getText();
+				} else if ("specVersion".equals(fieldName)) {
+					entry.specVersion = parser.getText();
+				} else if ("creationInfo".equals(fieldName)) {
+					entry.creationInfoId = parser.getText();
+				}
+			}
+			entry.end = parser.getCurrentLocation().getByteOffset();
+			if (entry.end - entry.start > Integer.MAX_VALUE) {
+				throw new InvalidSPDXAnalysisException("Graph entry is too large to load");
+			}
+			retval.add(entry);
+		}
+		return retval;
+	}
+
+	/**
+	 * Inflate the graph entry for the object URI if needed and read from the base store before the entry can be evicted
+	 * @param objectUri object URI
+	 * @param read read from the base store
+	 * @return result of the read
+	 * @throws InvalidSPDXAnalysisException on errors inflating the graph entry or reading from the base store
+	 */
+	private <T> T readInflated(String objectUri, InflatedRead<T> read) throws InvalidSPDXAnalysisException {
+		String entryUri = index.containsKey(objectUri) ? objectUri : nestedAnonOwners.get(objectUri);
+		Lock readLock = inflateLock.readLock();
+		readLock.lock();
+		try {
+			if (Objects.isNull(entryUri) || inflated.containsKey(entryUri)) {
+				if (Objects.nonNull(entryUri)) {
+					recentlyRead.add(entryUri);
+				}
+				return read.read();
+			}
+		} finally {
+			readLock.unlock();
+		}
+		Lock writeLock = inflateLock.writeLock();
+		writeLock.lock();
+		try {
+			ensureInflated(entryUri);
+			// downgrade so the entry can not be evicted before it is read while other reads proceed
+			readLock.lock();
+		} finally {
+			writeLock.unlock();
+		}
+		try {
+			return read.read();
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Inflate the graph entry into the base store if it is not already inflated - the write lock of the
+	 * <code>inflateLock</code> must be held
+	 * @param objectUri object URI of the graph entry
+	 * @throws InvalidSPDXAnalysisException on errors reading or deserializing the graph entry
+	 */
+	private void ensureInflated(String objectUri) throws InvalidSPDXAnalysisException {
+		IndexEntry entry = index.get(objectUri);
+		if (Objects.isNull(entry)) {
+			return;
+		}
+		if (Objects.nonNull(inflated.get(objectUri))) {
+			return;	// already inflated - the get updates the access order
+		}
+		JsonNode graphNode;
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+			long position = entry.start;
+			while (buffer.hasRemaining()) {
+				int read = channel.read(buffer, position);
+				if (read < 0) {
+					throw new InvalidSPDXAnalysisException("Unexpected end of file reading "+objectUri);
+				}
+				position += read;
+			}
+			graphNode = JSON_MAPPER.readTree(buffer.array());
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("I/O error reading "+objectUri, e);
+		}
+		// the same entry is deserialized in the same order, so the anonymous IDs created the first time are reused
+		List<String> previousAnonIds = entryAnonIds.get(objectUri);
+		replayAnonIds = Objects.isNull(previousAnonIds) ? null : previousAnonIds.iterator();
+		createdAnonIds = new ArrayList<>();
+		try {
+			deserializer.deserializeGraphNodeProperties(graphNode, creationInfoIdToSpecVersion, graphIdToTypedValue);
+			entryAnonIds.put(objectUri, createdAnonIds);
+		} finally {
+			replayAnonIds = null;
+			createdAnonIds = null;
+		}
+		List<String> nestedAnonUris = new ArrayList<>();
+		collectNestedAnonUris(objectUri, nestedAnonUris);
+		for (String nestedUri:nestedAnonUris) {
+			nestedAnonOwners.put(nestedUri, objectUri);
+		}
+		// objects inlined in the graph entry are added to the graph map by the deserializer
+		removeInlinedIds(graphNode, true);
+		inflated.put(objectUri, nestedAnonUris);
+		evict();
+	}
+
+	/**
+	 * @return the next anonymous ID for an object created while inflating a graph entry - the ID created for the same
+	 * object when the entry was previously inflated, if any
+	 * @throws InvalidSPDXAnalysisException on errors obtaining a new anonymous ID
+	 */
+	private String nextAnonId() throws InvalidSPDXAnalysisException {
+		String retval = Objects.nonNull(replayAnonIds) && replayAnonIds.hasNext() ? replayAnonIds.next() :
+			baseStore.getNextId(IdType.Anonymous);
+		if (Objects.nonNull(createdAnonIds)) {
+			createdAnonIds.add(retval);
+		}
+		return retval;
+	}
+
+	/**
+	 * Remove the JSON IDs of anonymous objects inlined in a graph entry from the graph map - the inlined objects are
+	 * deleted from the base store when the graph entry is evicted
+	 * @param node JSON node for the graph entry or a value within it
+	 * @param graphEntry true if the node is the graph entry itself
+	 */
+	private void removeInlinedIds(JsonNode node, boolean graphEntry) {
+		if (node.isObject() && !graphEntry) {
+			JsonNode idNode = node.has("@id") ? node.get("@id") : node.get(JsonLDDeserializer.SPDX_ID_PROP);
+			if (Objects.nonNull(idNode)) {
+				TypedValue tv = graphIdToTypedValue.get(idNode.asText());
+				if (Objects.nonNull(tv) && baseStore.isAnon(tv.getObjectUri()) && !index.containsKey(tv.getObjectUri())) {
+					graphIdToTypedValue.remove(idNode.asText());
+				}
+			}
+		}
+		if (node.isContainerNode()) {
+			node.elements().forEachRemaining(child -> removeInlinedIds(child, false));
+		}
+	}
+
+	/**
+	 * @param objectUri object URI in the base store
+	 * @param nestedAnonUris list to add URIs of anonymous objects referenced by the object which are not graph entries
+	 * @throws InvalidSPDXAnalysisException on errors reading from the base store
+	 */
+	private void collectNestedAnonUris(String objectUri, List<String> nestedAnonUris) throws InvalidSPDXAnalysisException {
+		for (PropertyDescriptor property:baseStore.getPropertyValueDescriptors(objectUri)) {
+			List<Object> values = new ArrayList<>();
+			if (baseStore.isCollectionProperty(objectUri, property)) {
+				baseStore.listValues(objectUri, property).forEachRemaining(values::add);
+			} else {
+				baseStore.getValue(objectUri, property).ifPresent(values::add);
+			}
+			for (Object value:values) {
+				if (value instanceof TypedValue) {
+					String valueUri = ((TypedValue)value).getObjectUri();
+					if (baseStore.isAnon(valueUri) && !index.containsKey(valueUri) && !nestedAnonUris.contains(valueUri)) {
+						nestedAnonUris.add(valueUri);
+						collectNestedAnonUris(valueUri, nestedAnonUris);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the properties of the least recently accessed graph entries from the base store until the number of inflated entries is within the limit -
+	 * the write lock of the <code>inflateLock</code> must be held
+	 * @throws InvalidSPDXAnalysisException on errors deleting from the base store
+	 */
+	private void evict() throws InvalidSPDXAnalysisException {
+		for (String readUri:recentlyRead) {
+			inflated.get(readUri);	// updates the access order
+		}
+		recentlyRead.clear();
+		Iterator<Entry<String, List<String>>> iter = inflated.entrySet().iterator();
+		while (inflated.size() > maxInflatedElements && iter.hasNext()) {
+			Entry<String, List<String>> eldest = iter.next();
+			iter.remove();
+			for (PropertyDescriptor property:baseStore.getPropertyValueDescriptors(eldest.getKey())) {
+				baseStore.removeProperty(eldest.getKey(), property);
+			}
+			for (String nestedUri:eldest.getValue()) {
+				baseStore.delete(nestedUri);
+			}
+		}
+	}
+
+	/**
+	 * @return number of graph entries currently inflated in the base store
+	 */
+	public int getInflatedCount() {
+		Lock readLock = inflateLock.readLock();
+		readLock.lock();
+		try {
+			return inflated.size();
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * @return number of graph entries in the index
+	 */
+	public int getIndexedCount() {
+		return index.size();
+	}
+
+	/**
+	 * @return maximum number of graph entries kept in the base store
+	 */
+	public int getMaxInflatedElements() {
+		return maxInflatedElements;
+	}
+
+	@Override
+	public boolean exists(String objectUri) {
+		return index.containsKey(objectUri) || nestedAnonOwners.containsKey(objectUri) || super.exists(objectUri);
+	}
+
+	@Override
+	public Optional<TypedValue> getTypedValue(String objectUri) throws InvalidSPDXAnalysisException {
+		IndexEntry entry = index.get(objectUri);
+		return Objects.nonNull(entry) ? Optional.of(entry.typedValue) : readInflated(objectUri, () -> super.getTypedValue(objectUri));
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(@Nullable String nameSpace, @Nullable String typeFilter) throws InvalidSPDXAnalysisException {
+		return index.values().stream()
+				.map(entry -> entry.typedValue)
+				.filter(tv -> (Objects.isNull(nameSpace) || tv.getObjectUri().startsWith(nameSpace)) &&
+						(Objects.isNull(typeFilter) || typeFilter.equals(tv.getType())));
+	}
+
+	@Override
+	public List<PropertyDescriptor> getPropertyValueDescriptors(String objectUri) throws InvalidSPDXAnalysisException {
+		return readInflated(objectUri, () -> super.getPropertyValueDescriptors(objectUri));
+	}
+
+	@Override
+	public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return readInflated(objectUri, () -> super.getValue(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public Iterator<Object> listValues(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		// the values are copied so that iterating does not depend on the entry remaining inflated
+		return readInflated(objectUri, () -> {
+			List<Object> values = new ArrayList<>();
+			super.listValues(objectUri, propertyDescriptor).forEachRemaining(values::add);
+			return values;
+		}).iterator();
+	}
+
+	@Override
+	public boolean isCollectionProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return readInflated(objectUri, () -> super.isCollectionProperty(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public int collectionSize(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return readInflated(objectUri, () -> super.collectionSize(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public boolean collectionContains(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		return readInflated(objectUri, () -> super.collectionContains(objectUri, propertyDescriptor, value));
+	}
+
+	@Override
+	public boolean isCollectionMembersAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz) throws InvalidSPDXAnalysisException {
+		return readInflated(objectUri, () -> super.isCollectionMembersAssignableTo(objectUri, propertyDescriptor, clazz));
+	}
+
+	@Override
+	public boolean isPropertyValueAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz, String specVersion) throws InvalidSPDXAnalysisException {
+		return readInflated(objectUri, () -> super.isPropertyValueAssignableTo(objectUri, propertyDescriptor, clazz, specVersion));
+	}
+
+	@Override
+	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void delete(String objectUri) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public void writeProperties(List<PropertyBatch> batches) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	@Override
+	public SpdxDocument deSerialize(InputStream stream, boolean overwrite) throws InvalidSPDXAnalysisException, IOException {
+		throw new InvalidSPDXAnalysisException(READ_ONLY_MESSAGE);
+	}
+
+	/**
+	 * The store is read only, so there are no writers to block while the output is written
+	 */
+	@Override
+	boolean isSerializedFromSnapshot() {
+		return false;
+	}
+
+	/**
+	 * Snapshots are not supported - the store is read only, and the base store changes as elements are inflated and evicted
+	 */
+	@Override
+	public JsonLDStoreSnapshot createSnapshot() throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException("Snapshots are not supported by the lazy JSON-LD store");
+	}
+
+	/**
+	 * @return the SPDX document in the file if there is exactly one, otherwise empty
+	 * @throws InvalidSPDXAnalysisException on errors inflating the document
+	 */
+	public Optional<SpdxDocument> getSpdxDocument() throws InvalidSPDXAnalysisException {
+		List<TypedValue> documents = new ArrayList<>();
+		for (IndexEntry entry:index.values()) {
+			if (SpdxConstantsV3.CORE_SPDX_DOCUMENT.equals(entry.typedValue.getType())) {
+				documents.add(entry.typedValue);
+			}
+		}
+		if (documents.size() != 1) {
+			return Optional.empty();
+		}
+		CoreModelObject document = SpdxModelFactory.inflateModelObject(this, documents.get(0).getObjectUri(),
+				SpdxConstantsV3.CORE_SPDX_DOCUMENT, null, documents.get(0).getSpecVersion(), false, null);
+		return Optional.of((SpdxDocument)document);
+	}
+
+	/**
+	 * @return object URIs of the graph entries in the file
+	 */
+	public Collection<String> getIndexedObjectUris() {
+		return Collections.unmodifiableCollection(index.keySet());
+	}
+
+	@Override
+	public void close() throws Exception {
+		try {
+			channel.close();
+		} finally {
+			super.close();
+		}
+	}
+}
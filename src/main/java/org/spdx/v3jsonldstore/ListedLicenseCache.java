@@ -0,0 +1,159 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SimpleUriValue;
+import org.spdx.core.TypedValue;
+import org.spdx.library.ListedLicenses;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.listedlicense.SpdxListedLicenseModelStore;
+
+/**
+ * Cache of listed license and listed exception lookups used while deserializing
+ *
+ * Each listed license or exception URI is checked against the SPDX listed licenses once, and each
+ * listed license or exception is copied into a given model store once no matter how many times it is referenced.
+ *
+ * By default, a new cache is used for each deserialization.  The cache returned by <code>getSharedCache()</code>
+ * may be used to share the lookups across deserializations in the same process.
+ *
+ * A cache created with a <code>ListedLicenseIndex</code> is pinned to the index and never accesses the SPDX listed
+ * license data.  References to listed licenses and exceptions are then stored as external references to the
+ * listed license URIs rather than copies, in the same way as when listed elements are treated as external on
+ * serialization.
+ *
+ * @author Gary O'Neall
+ *
+ */
+public class ListedLicenseCache {
+
+	private static final ListedLicenseCache SHARED_CACHE = new ListedLicenseCache();
+	private static final String COPY_KEY_SEPARATOR = " ";	// spec versions never contain spaces
+
+	private final ListedLicenseIndex index;
+	private final ConcurrentMap<String, Boolean> listedObjectUris = new ConcurrentHashMap<>();
+	// copies are specific to the model store they were copied to
+	private final Map<IModelStore, ConcurrentMap<String, TypedValue>> copiesByStore =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Create a cache which looks up and copies from the SPDX listed licenses
+	 */
+	public ListedLicenseCache() {
+		this.index = null;
+	}
+
+	/**
+	 * Create a cache pinned to a listed license index
+	 * @param index listed license index used in place of the SPDX listed licenses
+	 */
+	public ListedLicenseCache(ListedLicenseIndex index) {
+		Objects.requireNonNull(index, "Listed license index must not be null");
+		this.index = index;
+	}
+
+	/**
+	 * @return a cache shared across the process
+	 */
+	public static ListedLicenseCache getSharedCache() {
+		return SHARED_CACHE;
+	}
+
+	/**
+	 * @param objectUri object URI within the SPDX listed license namespace
+	 * @return true if the object URI is for an SPDX listed license or listed exception
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 */
+	public boolean isListedLicenseOrException(String objectUri) throws InvalidSPDXAnalysisException {
+		Boolean retval = listedObjectUris.get(objectUri);
+		if (Objects.isNull(retval)) {
+			String licenseOrExceptionId = SpdxListedLicenseModelStore.objectUriToLicenseOrExceptionId(objectUri);
+			if (Objects.nonNull(index)) {
+				retval = index.isListedLicenseId(licenseOrExceptionId) || index.isListedExceptionId(licenseOrExceptionId);
+			} else {
+				retval = ListedLicenses.getListedLicenses().isSpdxListedLicenseId(licenseOrExceptionId) ||
+						ListedLicenses.getListedLicenses().isSpdxListedExceptionId(licenseOrExceptionId);
+			}
+			listedObjectUris.putIfAbsent(objectUri, retval);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param toStore model store the value will be stored in
+	 * @param objectUri object URI of the listed license or exception
+	 * @param specVersion version of the spec for the copy
+	 * @param copyManager copy manager to use for the copy
+	 * @return an external reference to the listed license or exception if the cache is pinned to an index, otherwise
+	 * the typed value for a copy of the listed license or exception in the toStore
+	 * @throws InvalidSPDXAnalysisException on errors copying the listed license or exception
+	 */
+	public Object getStoredValue(IModelStore toStore, String objectUri, String specVersion,
+			ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(index)) {
+			return new SimpleUriValue(objectUri);
+		}
+		return getOrCopy(toStore, objectUri, specVersion, copyManager);
+	}
+
+	/**
+	 * Copies the listed license or exception into the model store if it has not already been copied by this cache
+	 * for the same spec version
+	 * 
+	 * A cached copy is only returned if it still exists in the model store, so a listed license or exception
+	 * deleted from the model store since it was copied is copied again
+	 * @param toStore model store to copy the listed license or exception to
+	 * @param objectUri object URI of the listed license or exception
+	 * @param specVersion version of the spec for the copy
+	 * @param copyManager copy manager to use for the copy
+	 * @return the typed value for the listed license or exception in the toStore
+	 * @throws InvalidSPDXAnalysisException on errors copying the listed license or exception or if the cache is pinned to an index
+	 */
+	public TypedValue getOrCopy(IModelStore toStore, String objectUri, String specVersion,
+			ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(index)) {
+			throw new InvalidSPDXAnalysisException("Listed licenses can not be copied by a cache pinned to a listed license index");
+		}
+		ConcurrentMap<String, TypedValue> copies = copiesByStore.computeIfAbsent(toStore, store -> new ConcurrentHashMap<>());
+		String copyKey = specVersion + COPY_KEY_SEPARATOR + objectUri;
+		TypedValue retval = copies.get(copyKey);
+		if (Objects.isNull(retval) || !toStore.exists(objectUri)) {
+			synchronized (copies) {
+				retval = copies.get(copyKey);
+				if (Objects.isNull(retval) || !toStore.exists(objectUri)) {
+					retval = copyManager.copy(toStore, ListedLicenses.getListedLicenses().getLicenseModelStore(),
+							objectUri, specVersion, null);
+					copies.put(copyKey, retval);
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @return the listed license index the cache is pinned to, if any
+	 */
+	public Optional<ListedLicenseIndex> getIndex() {
+		return Optional.ofNullable(index);
+	}
+
+	/**
+	 * Remove all cached lookups and copies
+	 */
+	public void clear() {
+		listedObjectUris.clear();
+		copiesByStore.clear();
+	}
+}
@@ -0,0 +1,225 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.ListedLicenses;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Compact, immutable snapshot of the SPDX listed license and exception IDs and names
+ *
+ * Used to determine whether a URI in the listed license namespace refers to a listed license or exception
+ * without accessing the SPDX listed license data, which may require network access.
+ *
+ * The bundled snapshot is read from the resource <code>/resources/listed-license-index.json</code> which
+ * is generated from the license list bundled with the SPDX library during the build.
+ *
+ * @author Gary O'Neall
+ *
+ */
+public final class ListedLicenseIndex {
+
+	static final Logger logger = LoggerFactory.getLogger(ListedLicenseIndex.class);
+
+	static final String BUNDLED_INDEX_RESOURCE = "/resources/listed-license-index.json";
+	private static final String LICENSE_LIST_VERSION_PROP = "licenseListVersion";
+	private static final String LICENSES_PROP = "licenses";
+	private static final String EXCEPTIONS_PROP = "exceptions";
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private static final Object BUNDLED_INDEX_LOCK = new Object();
+	private static volatile Optional<ListedLicenseIndex> bundledIndex = null;
+
+	private final String licenseListVersion;
+	private final Map<String, String> licenseIdToName;
+	private final Map<String, String> exceptionIdToName;
+
+	/**
+	 * @param licenseListVersion version of the license list the index was created from
+	 * @param licenseIdToName map of listed license IDs to license names
+	 * @param exceptionIdToName map of listed exception IDs to exception names
+	 */
+	public ListedLicenseIndex(String licenseListVersion, Map<String, String> licenseIdToName,
+			Map<String, String> exceptionIdToName) {
+		Objects.requireNonNull(licenseListVersion, "License list version must not be null");
+		Objects.requireNonNull(licenseIdToName, "License IDs must not be null");
+		Objects.requireNonNull(exceptionIdToName, "Exception IDs must not be null");
+		this.licenseListVersion = licenseListVersion;
+		this.licenseIdToName = Collections.unmodifiableMap(new HashMap<>(licenseIdToName));
+		this.exceptionIdToName = Collections.unmodifiableMap(new HashMap<>(exceptionIdToName));
+	}
+
+	/**
+	 * @return the index bundled with this library if it is available
+	 * @throws IOException on errors reading the bundled index
+	 */
+	public static Optional<ListedLicenseIndex> getBundledIndex() throws IOException {
+		Optional<ListedLicenseIndex> retval = bundledIndex;
+		if (Objects.isNull(retval)) {
+			synchronized (BUNDLED_INDEX_LOCK) {
+				retval = bundledIndex;
+				if (Objects.isNull(retval)) {
+					try (InputStream is = ListedLicenseIndex.class.getResourceAsStream(BUNDLED_INDEX_RESOURCE)) {
+						if (Objects.isNull(is)) {
+							logger.warn("No bundled listed license index found");
+							retval = Optional.empty();
+						} else {
+							retval = Optional.of(load(is));
+						}
+					}
+					bundledIndex = retval;
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param stream stream containing a JSON listed license index
+	 * @return the index read from the stream
+	 * @throws IOException on errors reading or parsing the stream
+	 */
+	public static ListedLicenseIndex load(InputStream stream) throws IOException {
+		String licenseListVersion = null;
+		Map<String, String> licenses = new HashMap<>();
+		Map<String, String> exceptions = new HashMap<>();
+		try (JsonParser parser = JSON_FACTORY.createParser(stream)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("Listed license index is not a JSON object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				parser.nextToken();
+				if (LICENSE_LIST_VERSION_PROP.equals(fieldName)) {
+					licenseListVersion = parser.getText();
+				} else if (LICENSES_PROP.equals(fieldName)) {
+					readIdToName(parser, licenses);
+				} else if (EXCEPTIONS_PROP.equals(fieldName)) {
+					readIdToName(parser, exceptions);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		if (Objects.isNull(licenseListVersion)) {
+			throw new IOException("Missing license list version in listed license index");
+		}
+		return new ListedLicenseIndex(licenseListVersion, licenses, exceptions);
+	}
+
+	/**
+	 * @param parser parser positioned at the start of an object of IDs to names
+	 * @param idToName map to add the IDs and names to
+	 * @throws IOException on errors reading or parsing the stream
+	 */
+	private static void readIdToName(JsonParser parser, Map<String, String> idToName) throws IOException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			throw new IOException("Expected a JSON object of IDs to names in the listed license index");
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String id = parser.currentName();
+			parser.nextToken();
+			idToName.put(id, parser.getText());
+		}
+	}
+
+	/**
+	 * Creates an index from the SPDX listed licenses - this may access the network
+	 * @return an index of all current listed licenses and exceptions
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 */
+	public static ListedLicenseIndex fromListedLicenses() throws InvalidSPDXAnalysisException {
+		ListedLicenses listedLicenses = ListedLicenses.getListedLicenses();
+		Map<String, String> licenses = new HashMap<>();
+		for (String id:listedLicenses.getSpdxListedLicenseIds()) {
+			licenses.put(id, listedLicenses.getListedLicenseById(id).getName().orElse(id));
+		}
+		Map<String, String> exceptions = new HashMap<>();
+		for (String id:listedLicenses.getSpdxListedExceptionIds()) {
+			exceptions.put(id, listedLicenses.getListedExceptionById(id).getName().orElse(id));
+		}
+		return new ListedLicenseIndex(listedLicenses.getLicenseListVersion(), licenses, exceptions);
+	}
+
+	/**
+	 * Write the index as JSON
+	 * @param stream stream to write to
+	 * @throws IOException on errors writing to the stream
+	 */
+	public void write(OutputStream stream) throws IOException {
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(stream)) {
+			generator.writeStartObject();
+			generator.writeStringField(LICENSE_LIST_VERSION_PROP, licenseListVersion);
+			writeIdToName(generator, LICENSES_PROP, licenseIdToName);
+			writeIdToName(generator, EXCEPTIONS_PROP, exceptionIdToName);
+			generator.writeEndObject();
+		}
+	}
+
+	/**
+	 * @param generator generator to write to
+	 * @param fieldName name of the field containing the IDs
+	 * @param idToName map of IDs to names, written in ID order
+	 * @throws IOException on errors writing to the generator
+	 */
+	private static void writeIdToName(JsonGenerator generator, String fieldName, Map<String, String> idToName) throws IOException {
+		generator.writeObjectFieldStart(fieldName);
+		for (String id:idToName.keySet().stream().sorted().toArray(String[]::new)) {
+			generator.writeStringField(id, idToName.get(id));
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * @return version of the license list the index was created from
+	 */
+	public String getLicenseListVersion() {
+		return licenseListVersion;
+	}
+
+	/**
+	 * @param id license or exception ID
+	 * @return true if the ID is a listed license ID
+	 */
+	public boolean isListedLicenseId(String id) {
+		return licenseIdToName.containsKey(id);
+	}
+
+	/**
+	 * @param id license or exception ID
+	 * @return true if the ID is a listed exception ID
+	 */
+	public boolean isListedExceptionId(String id) {
+		return exceptionIdToName.containsKey(id);
+	}
+
+	/**
+	 * @param id listed license or exception ID
+	 * @return the name of the listed license or exception if it is in the index
+	 */
+	public Optional<String> getName(String id) {
+		String name = licenseIdToName.get(id);
+		if (Objects.isNull(name)) {
+			name = exceptionIdToName.get(id);
+		}
+		return Optional.ofNullable(name);
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxModelFactory;
+
+/**
+ * Build utility which writes the listed license index bundled with the library
+ *
+ * Run by the build in the <code>process-classes</code> phase with the path of the index resource in the
+ * build output directory, so the index is packaged whether or not the tests are run.  The index is created from
+ * the license list bundled with the SPDX library so that the build does not depend on network access.  To
+ * regenerate the index outside of the build, run this class with the system property
+ * <code>org.spdx.useJARLicenseInfoOnly=true</code> and the path of the file to write.
+ *
+ * @author Gary O'Neall
+ *
+ */
+public final class ListedLicenseIndexGenerator {
+
+	private ListedLicenseIndexGenerator() {
+		// utility class
+	}
+
+	/**
+	 * @param args path of the file to write the index to
+	 * @throws IOException on errors writing the index
+	 * @throws InvalidSPDXAnalysisException on errors reading the listed licenses
+	 */
+	public static void main(String[] args) throws IOException, InvalidSPDXAnalysisException {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: ListedLicenseIndexGenerator indexFile");
+		}
+		SpdxModelFactory.init();
+		Path indexFile = Paths.get(args[0]);
+		if (Objects.nonNull(indexFile.getParent())) {
+			Files.createDirectories(indexFile.getParent());
+		}
+		try (OutputStream os = Files.newOutputStream(indexFile)) {
+			ListedLicenseIndex.fromListedLicenses().write(os);
+		}
+	}
+}
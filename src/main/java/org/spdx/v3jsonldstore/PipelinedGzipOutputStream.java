@@ -0,0 +1,177 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Output stream which gzip compresses its output on a background thread
+ *
+ * Written bytes are collected into chunks which are handed to the compression thread, so the writer only blocks
+ * when <code>MAX_PENDING_CHUNKS</code> chunks are waiting to be compressed.  Closing the stream waits for the compression
+ * to complete and closes the underlying stream.
+ *
+ */
+class PipelinedGzipOutputStream extends OutputStream {
+
+	static final int CHUNK_SIZE = 256 * 1024;
+	static final int MAX_PENDING_CHUNKS = 4;
+	private static final byte[] END_OF_STREAM = new byte[0];
+
+	private final BlockingQueue<byte[]> pending = new ArrayBlockingQueue<>(MAX_PENDING_CHUNKS);
+	private final Thread compressionThread;
+	private volatile IOException failure = null;
+	private byte[] chunk = new byte[CHUNK_SIZE];
+	private int count = 0;
+	private boolean closed = false;
+
+	/**
+	 * @param out stream to write the compressed output to
+	 */
+	PipelinedGzipOutputStream(OutputStream out) {
+		Objects.requireNonNull(out, "Output stream must not be null");
+		compressionThread = new Thread(() -> compress(out), "spdx-jsonld-gzip");
+		compressionThread.setDaemon(true);
+		compressionThread.start();
+	}
+
+	/**
+	 * Compress the pending chunks until the end of the stream
+	 * @param out stream to write the compressed output to
+	 */
+	private void compress(OutputStream out) {
+		boolean reachedEnd = false;
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out, CHUNK_SIZE)) {
+			byte[] next;
+			while ((next = pending.take()) != END_OF_STREAM) {
+				gzip.write(next);
+			}
+			reachedEnd = true;
+		} catch (IOException e) {
+			failure = e;
+			if (!reachedEnd) {
+				// the end of stream has already been taken if finishing the compressed output failed
+				drain();
+			}
+		} catch (InterruptedException e) {
+			failure = new InterruptedIOException("Interrupted compressing output");
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Discard pending chunks after a failure so that the writer does not block
+	 */
+	private void drain() {
+		try {
+			while (pending.take() != END_OF_STREAM) {
+				// discard
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @throws IOException if compression has failed
+	 */
+	private void checkFailure() throws IOException {
+		if (Objects.nonNull(failure)) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Hand the current chunk to the compression thread
+	 * @throws IOException if compression has failed or the writer is interrupted
+	 */
+	private void handOff() throws IOException {
+		checkFailure();
+		if (count == 0) {
+			return;
+		}
+		byte[] full = count == chunk.length ? chunk : Arrays.copyOf(chunk, count);
+		try {
+			pending.put(full);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted writing compressed output");
+		}
+		if (full == chunk) {
+			chunk = new byte[CHUNK_SIZE];
+		}
+		count = 0;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+		if (count == chunk.length) {
+			handOff();
+		}
+		chunk[count++] = (byte)b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		while (len > 0) {
+			if (count == chunk.length) {
+				handOff();
+			}
+			int toCopy = Math.min(len, chunk.length - count);
+			System.arraycopy(b, off, chunk, count, toCopy);
+			count += toCopy;
+			off += toCopy;
+			len -= toCopy;
+		}
+	}
+
+	/**
+	 * Hands any buffered bytes to the compression thread - the compressed output is not flushed
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (!closed) {
+			handOff();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			handOff();
+		} finally {
+			try {
+				pending.put(END_OF_STREAM);
+				compressionThread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted completing compressed output");
+			}
+		}
+		checkFailure();
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * @author Gary O'Neall
+ *
+ * Property values to be written to a single object in a model store in one operation
+ *
+ * The object must already exist in the model store.  The values of non-collection properties are written first,
+ * in the order the properties were first set, followed by the values of collection properties, grouped by property
+ * in the order the properties were first added to and in the order the values were added within each property.
+ *
+ */
+public final class PropertyBatch {
+
+	private final String objectUri;
+	private final Map<PropertyDescriptor, Object> values = new LinkedHashMap<>();
+	private final Map<PropertyDescriptor, List<Object>> collectionValues = new LinkedHashMap<>();
+
+	/**
+	 * @param objectUri object URI of the object the values are written to
+	 */
+	public PropertyBatch(String objectUri) {
+		Objects.requireNonNull(objectUri, "Object URI must not be null");
+		this.objectUri = objectUri;
+	}
+
+	/**
+	 * @return object URI of the object the values are written to
+	 */
+	public String getObjectUri() {
+		return objectUri;
+	}
+
+	/**
+	 * @param propertyDescriptor descriptor of the property
+	 * @param value value to set - replaces any value previously set for the property in this batch
+	 */
+	public void setValue(PropertyDescriptor propertyDescriptor, Object value) {
+		Objects.requireNonNull(propertyDescriptor, "Property descriptor must not be null");
+		Objects.requireNonNull(value, "Value must not be null");
+		values.put(propertyDescriptor, value);
+	}
+
+	/**
+	 * @param propertyDescriptor descriptor of the collection property
+	 * @param value value to add to the collection
+	 */
+	public void addValueToCollection(PropertyDescriptor propertyDescriptor, Object value) {
+		Objects.requireNonNull(propertyDescriptor, "Property descriptor must not be null");
+		Objects.requireNonNull(value, "Value must not be null");
+		collectionValues.computeIfAbsent(propertyDescriptor, pd -> new ArrayList<>()).add(value);
+	}
+
+	/**
+	 * @return values to set for non-collection properties
+	 */
+	public Map<PropertyDescriptor, Object> getValues() {
+		return Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * @return values to add to collection properties
+	 */
+	public Map<PropertyDescriptor, List<Object>> getCollectionValues() {
+		return Collections.unmodifiableMap(collectionValues);
+	}
+
+	/**
+	 * @return true if the batch contains no values
+	 */
+	public boolean isEmpty() {
+		return values.isEmpty() && collectionValues.isEmpty();
+	}
+
+	/**
+	 * Write the values with one model store call per value in the order described for the batch - used for stores
+	 * which do not support bulk writes
+	 * @param modelStore model store to write to
+	 * @throws InvalidSPDXAnalysisException on errors writing to the model store
+	 */
+	public void writeTo(IModelStore modelStore) throws InvalidSPDXAnalysisException {
+		for (Entry<PropertyDescriptor, Object> value:values.entrySet()) {
+			modelStore.setValue(objectUri, value.getKey(), value.getValue());
+		}
+		for (Entry<PropertyDescriptor, List<Object>> collection:collectionValues.entrySet()) {
+			for (Object value:collection.getValue()) {
+				modelStore.addValueToCollection(objectUri, collection.getKey(), value);
+			}
+		}
+	}
+}
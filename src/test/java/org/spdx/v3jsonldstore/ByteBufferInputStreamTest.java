@@ -0,0 +1,58 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Test;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ByteBufferInputStreamTest {
+
+	private static final Path PACKAGE_SBOM_FILE = Paths.get("TestFiles", "package_sbom.json");
+
+	@Test
+	public void testRead() throws IOException {
+		byte[] bytes = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+		try (InputStream is = new ByteBufferInputStream(ByteBuffer.wrap(bytes))) {
+			assertEquals(bytes.length, is.available());
+			assertEquals('{', is.read());
+			assertEquals(2, is.skip(2));
+			byte[] result = new byte[10];
+			assertEquals(bytes.length - 3, is.read(result, 0, result.length));
+			assertEquals(':', result[0]);
+			assertEquals(-1, is.read());
+			assertEquals(-1, is.read(result, 0, result.length));
+		}
+	}
+
+	@Test
+	public void testMappedInputStream() throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (FileChannel channel = FileChannel.open(PACKAGE_SBOM_FILE, StandardOpenOption.READ);
+				InputStream is = ByteBufferInputStream.mappedInputStream(channel)) {
+			byte[] buffer = new byte[100];
+			int count;
+			while ((count = is.read(buffer)) >= 0) {
+				bos.write(buffer, 0, count);
+			}
+		}
+		assertArrayEquals(Files.readAllBytes(PACKAGE_SBOM_FILE), bos.toByteArray());
+	}
+}
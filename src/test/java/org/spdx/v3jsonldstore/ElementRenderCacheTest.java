@@ -0,0 +1,127 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ElementRenderCacheTest {
+
+	private static final String SPEC_VERSION = "3.0.1";
+	private static final String ELEMENT_URI = "http://spdx.example.com/Element1";
+	private static final String NESTED_URI = "http://spdx.example.com/Element1/nested";
+	private static final String REFERENCED_URI = "http://spdx.example.com/Element2";
+
+	private final Map<String, Long> stamps = new HashMap<>();
+	private long modificationCounter = 0;
+
+	private ElementRenderCache createCache(int maxEntries) {
+		return new ElementRenderCache(maxEntries, objectUri -> stamps.getOrDefault(objectUri, 0L));
+	}
+
+	private void objectModified(String objectUri) {
+		stamps.put(objectUri, ++modificationCounter);
+	}
+
+	private JsonNode cache(ElementRenderCache cache, String objectUri, Map<String, String> idToSerializedId) {
+		ElementRenderCache.Dependencies dependencies = new ElementRenderCache.Dependencies();
+		dependencies.addObject(objectUri, cache.getStamp(objectUri));
+		dependencies.addObject(NESTED_URI, cache.getStamp(NESTED_URI));
+		dependencies.addSerializedId(REFERENCED_URI, idToSerializedId.get(REFERENCED_URI));
+		JsonNode tree = new TextNode(objectUri);
+		cache.put(objectUri, objectUri, false, true, SPEC_VERSION, dependencies, tree);
+		return tree;
+	}
+
+	@Test
+	public void testGet() {
+		ElementRenderCache cache = createCache(10);
+		Map<String, String> idToSerializedId = new HashMap<>();
+		assertNull(cache.get(ELEMENT_URI, ELEMENT_URI, false, true, SPEC_VERSION, idToSerializedId));
+		JsonNode tree = cache(cache, ELEMENT_URI, idToSerializedId);
+		assertSame(tree, cache.get(ELEMENT_URI, ELEMENT_URI, false, true, SPEC_VERSION, idToSerializedId));
+		// different serialization settings
+		assertNull(cache.get(ELEMENT_URI, "other", false, true, SPEC_VERSION, idToSerializedId));
+		assertNull(cache.get(ELEMENT_URI, ELEMENT_URI, true, true, SPEC_VERSION, idToSerializedId));
+		assertNull(cache.get(ELEMENT_URI, ELEMENT_URI, false, false, SPEC_VERSION, idToSerializedId));
+		assertNull(cache.get(ELEMENT_URI, ELEMENT_URI, false, true, "3.1.0", idToSerializedId));
+		assertEquals(1, cache.getHits());
+		assertEquals(5, cache.getMisses());
+	}
+
+	@Test
+	public void testModified() {
+		ElementRenderCache cache = createCache(10);
+		Map<String, String> idToSerializedId = new HashMap<>();
+		assertEquals(0, cache.getStamp(ELEMENT_URI));
+		cache(cache, ELEMENT_URI, idToSerializedId);
+		objectModified(ELEMENT_URI);
+		assertTrue(cache.getStamp(ELEMENT_URI) > 0);
+		assertNull(cache.get(ELEMENT_URI, ELEMENT_URI, false, true, SPEC_VERSION, idToSerializedId));
+		cache(cache, ELEMENT_URI, idToSerializedId);
+		objectModified(NESTED_URI);
+		assertNull(cache.get(ELEMENT_URI, ELEMENT_URI, false, true, SPEC_VERSION, idToSerializedId));
+	}
+
+	@Test
+	public void testSerializedIdChanged() {
+		ElementRenderCache cache = createCache(10);
+		Map<String, String> idToSerializedId = new HashMap<>();
+		cache(cache, ELEMENT_URI, idToSerializedId);
+		idToSerializedId.put(REFERENCED_URI, "_:element2");
+		assertNull(cache.get(ELEMENT_URI, ELEMENT_URI, false, true, SPEC_VERSION, idToSerializedId));
+	}
+
+	@Test
+	public void testEviction() {
+		ElementRenderCache cache = createCache(2);
+		Map<String, String> idToSerializedId = new HashMap<>();
+		cache(cache, "http://spdx.example.com/A", idToSerializedId);
+		cache(cache, "http://spdx.example.com/B", idToSerializedId);
+		// access A so that B is the least recently used
+		assertNotNull(cache.get("http://spdx.example.com/A", "http://spdx.example.com/A", false, true, SPEC_VERSION, idToSerializedId));
+		cache(cache, "http://spdx.example.com/C", idToSerializedId);
+		assertEquals(2, cache.size());
+		assertNull(cache.get("http://spdx.example.com/B", "http://spdx.example.com/B", false, true, SPEC_VERSION, idToSerializedId));
+		assertNotNull(cache.get("http://spdx.example.com/A", "http://spdx.example.com/A", false, true, SPEC_VERSION, idToSerializedId));
+		assertNotNull(cache.get("http://spdx.example.com/C", "http://spdx.example.com/C", false, true, SPEC_VERSION, idToSerializedId));
+	}
+
+	@Test
+	public void testEncoded() {
+		ElementRenderCache cache = createCache(10);
+		Map<String, String> idToSerializedId = new HashMap<>();
+		JsonNode tree = cache(cache, ELEMENT_URI, idToSerializedId);
+		SerializableString text = new SerializedString("\"" + ELEMENT_URI + "\"");
+		assertNull(cache.getEncoded(ELEMENT_URI, tree, "compact"));
+		cache.putEncoded(ELEMENT_URI, tree, "compact", text);
+		assertSame(text, cache.getEncoded(ELEMENT_URI, tree, "compact"));
+		assertNull(cache.getEncoded(ELEMENT_URI, tree, "pretty"));
+		// text of a replaced tree is not returned or kept
+		JsonNode replaced = cache(cache, ELEMENT_URI, idToSerializedId);
+		assertNull(cache.getEncoded(ELEMENT_URI, replaced, "compact"));
+		cache.putEncoded(ELEMENT_URI, tree, "compact", text);
+		assertNull(cache.getEncoded(ELEMENT_URI, replaced, "compact"));
+		assertNull(cache.getEncoded(ELEMENT_URI, tree, "compact"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		createCache(0);
+	}
+}
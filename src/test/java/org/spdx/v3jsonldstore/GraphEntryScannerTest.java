@@ -0,0 +1,70 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class GraphEntryScannerTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private static ByteBuffer toBuffer(String json) {
+		return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String toString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testScan() {
+		String first = "{\"name\":\"a } \\\" [ {\",\"list\":[{\"x\":1},2]}";
+		String second = "{\"@graph\":[]}";
+		String json = "{\"@context\":\"@graph\", \"other\": {\"@graph\": 1},\n \"@graph\" : [ " + first + " ,\n" + second + "]}";
+		Optional<List<ByteBuffer>> result = GraphEntryScanner.scan(toBuffer(json));
+		assertTrue(result.isPresent());
+		assertEquals(2, result.get().size());
+		assertEquals(first, toString(result.get().get(0)));
+		assertEquals(second, toString(result.get().get(1)));
+	}
+
+	@Test
+	public void testScanUnrecognized() {
+		assertFalse(GraphEntryScanner.scan(toBuffer("{\"spdxId\":\"a\"}")).isPresent());
+		assertFalse(GraphEntryScanner.scan(toBuffer("{\"@graph\":{}}")).isPresent());
+		assertFalse(GraphEntryScanner.scan(toBuffer("{\"@graph\":[\"a\"]}")).isPresent());
+		assertFalse(GraphEntryScanner.scan(toBuffer("{\"@graph\":[1]}")).isPresent());
+		assertFalse(GraphEntryScanner.scan(toBuffer("{\"@graph\":[{}")).isPresent());
+	}
+
+	@Test
+	public void testParseEntries() throws Exception {
+		byte[] bytes = Files.readAllBytes(Paths.get("TestFiles", "package_sbom.json"));
+		List<ByteBuffer> entries = GraphEntryScanner.scan(ByteBuffer.wrap(bytes)).get();
+		ArrayNode result = GraphEntryScanner.parseEntries(entries, MAPPER, ForkJoinPool.commonPool());
+		JsonNode expected = MAPPER.readTree(bytes).get("@graph");
+		assertEquals(expected, result);
+	}
+}
@@ -0,0 +1,58 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class GzipStreamsTest {
+
+	private static final byte[] CONTENT = "{\"@graph\":[]}".getBytes(StandardCharsets.UTF_8);
+
+	private static byte[] readAll(InputStream is) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		int b;
+		while ((b = is.read()) >= 0) {
+			result.write(b);
+		}
+		return result.toByteArray();
+	}
+
+	private static byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (GZIPOutputStream gz = new GZIPOutputStream(bos)) {
+			gz.write(content);
+		}
+		return bos.toByteArray();
+	}
+
+	@Test
+	public void testDecompressIfGzip() throws IOException {
+		assertArrayEquals(CONTENT, readAll(GzipStreams.decompressIfGzip(new ByteArrayInputStream(CONTENT))));
+		assertArrayEquals(CONTENT, readAll(GzipStreams.decompressIfGzip(new ByteArrayInputStream(gzip(CONTENT)))));
+		assertArrayEquals(new byte[] {'{'}, readAll(GzipStreams.decompressIfGzip(new ByteArrayInputStream(new byte[] {'{'}))));
+		assertEquals(0, readAll(GzipStreams.decompressIfGzip(new ByteArrayInputStream(new byte[0]))).length);
+	}
+
+	@Test
+	public void testIsGzip() throws IOException {
+		assertTrue(GzipStreams.isGzip(ByteBuffer.wrap(gzip(CONTENT))));
+		assertFalse(GzipStreams.isGzip(ByteBuffer.wrap(CONTENT)));
+		assertFalse(GzipStreams.isGzip(ByteBuffer.wrap(new byte[] {0x1f})));
+	}
+}
@@ -6,9 +6,12 @@ package org.spdx.v3jsonldstore;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.After;
 import org.junit.Before;
@@ -33,6 +36,7 @@ import org.spdx.library.model.v3_0_1.software.SpdxPackage;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.simple.InMemSpdxStore;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -47,6 +51,11 @@ import net.jimblackler.jsonschemafriend.GenerationException;
  */
 public class JsonLDDeserializerTest {
 
+	private static final String CREATION_INFO_LAST_SPEC_VERSION = "3.0.0";
+	private static final String CREATION_INFO_LAST_CREATED = "2024-07-18T12:00:00Z";
+	private static final String CREATION_INFO_LAST_PERSON = "https://this/is/a/person";
+	private static final String CREATION_INFO_LAST_PERSON2 = "https://this/is/a/person2";
+
 	IModelStore modelStore;
 	ObjectMapper mapper;
 	/**
@@ -237,6 +246,145 @@ JsonLDDeserializer deserializer = new JsonLDDeserializer(modelStore);
 		assertTrue(verifyResult.isEmpty());
 	}
 
+	@Test
+	public void testDeserializeGraphForwardReferences() throws InvalidSPDXAnalysisException {
+		JsonLDDeserializer deserializer = new JsonLDDeserializer(modelStore);
+		String specVersion = "3.0.1";
+		String created = "2024-07-18T12:00:00Z";
+		String personSpdxId = "https://this/is/a/person";
+		String creationInfoId = "_:creationInfo1";
+		String personName = "My Name Is Gary";
+		
+		// the person refers to the creation info which refers back to the person - both later in the graph
+		ObjectNode personNode = mapper.createObjectNode();
+		personNode.set("type", new TextNode("Person"));
+		personNode.set("spdxId", new TextNode(personSpdxId));
+		personNode.set("name", new TextNode(personName));
+		personNode.set("creationInfo", new TextNode(creationInfoId));
+		ObjectNode creationInfoNode = mapper.createObjectNode();
+		creationInfoNode.set("type", new TextNode("CreationInfo"));
+		creationInfoNode.set("specVersion", new TextNode(specVersion));
+		creationInfoNode.set("created", new TextNode(created));
+		creationInfoNode.set("@id", new TextNode(creationInfoId));
+		ArrayNode createdBysNode = mapper.createArrayNode();
+		createdBysNode.add(new TextNode(personSpdxId));
+		creationInfoNode.set("createdBy", createdBysNode);
+		ArrayNode graph = mapper.createArrayNode();
+		graph.add(personNode);
+		graph.add(creationInfoNode);
+		
+		List<TypedValue> result = deserializer.deserializeGraph(graph);
+		assertEquals(1, result.size());
+		assertEquals(personSpdxId, result.get(0).getObjectUri());
+		assertEquals(specVersion, result.get(0).getSpecVersion());
+		Person personResult = (Person)SpdxModelFactory.inflateModelObject(modelStore, personSpdxId, SpdxConstantsV3.CORE_PERSON, null, specVersion, false, "");
+		assertEquals(personName, personResult.getName().get());
+		CreationInfo creationInfoResult = personResult.getCreationInfo();
+		assertEquals(created, creationInfoResult.getCreated());
+		assertEquals(1, creationInfoResult.getCreatedBys().size());
+		assertEquals(personSpdxId, creationInfoResult.getCreatedBys().toArray(new Agent[1])[0].getObjectUri());
+	}
+
+	@Test
+	public void testDeserializeStreamingCreationInfoLast() throws InvalidSPDXAnalysisException, IOException {
+		JsonLDDeserializer deserializer = new JsonLDDeserializer(modelStore);
+		List<TypedValue> result;
+		try (JsonParser parser = mapper.getFactory().createParser(mapper.writeValueAsBytes(createCreationInfoLastGraph()))) {
+			parser.nextToken();
+			result = deserializer.deserializeGraph(parser, false);
+		}
+		checkCreationInfoLast(result);
+	}
+
+	@Test
+	public void testDeserializeGraphCreationInfoLast() throws InvalidSPDXAnalysisException {
+		JsonLDDeserializer deserializer = new JsonLDDeserializer(modelStore);
+		checkCreationInfoLast(deserializer.deserializeGraph(createCreationInfoLastGraph()));
+	}
+
+	/**
+	 * @return graph where both persons are created before the creation info for an older spec version is read
+	 */
+	private ArrayNode createCreationInfoLastGraph() {
+		String creationInfoId = "_:creationInfo1";
+		ArrayNode graph = mapper.createArrayNode();
+		for (String spdxId:Arrays.asList(CREATION_INFO_LAST_PERSON, CREATION_INFO_LAST_PERSON2)) {
+			ObjectNode personNode = mapper.createObjectNode();
+			personNode.set("type", new TextNode("Person"));
+			personNode.set("spdxId", new TextNode(spdxId));
+			personNode.set("name", new TextNode("Name of " + spdxId));
+			personNode.set("creationInfo", new TextNode(creationInfoId));
+			graph.add(personNode);
+		}
+		ObjectNode creationInfoNode = mapper.createObjectNode();
+		creationInfoNode.set("type", new TextNode("CreationInfo"));
+		creationInfoNode.set("specVersion", new TextNode(CREATION_INFO_LAST_SPEC_VERSION));
+		creationInfoNode.set("created", new TextNode(CREATION_INFO_LAST_CREATED));
+		creationInfoNode.set("@id", new TextNode(creationInfoId));
+		ArrayNode createdBysNode = mapper.createArrayNode();
+		createdBysNode.add(new TextNode(CREATION_INFO_LAST_PERSON));
+		createdBysNode.add(new TextNode(CREATION_INFO_LAST_PERSON2));
+		creationInfoNode.set("createdBy", createdBysNode);
+		graph.add(creationInfoNode);
+		return graph;
+	}
+
+	private void checkCreationInfoLast(List<TypedValue> result) throws InvalidSPDXAnalysisException {
+		String specVersion = CREATION_INFO_LAST_SPEC_VERSION;
+		assertEquals(2, result.size());
+		for (TypedValue tv:result) {
+			assertEquals(specVersion, tv.getSpecVersion());
+			assertEquals(specVersion, modelStore.getTypedValue(tv.getObjectUri()).get().getSpecVersion());
+		}
+		Person personResult = (Person)SpdxModelFactory.inflateModelObject(modelStore, CREATION_INFO_LAST_PERSON, SpdxConstantsV3.CORE_PERSON, null, specVersion, false, "");
+		assertEquals("Name of " + CREATION_INFO_LAST_PERSON, personResult.getName().get());
+		CreationInfo creationInfoResult = personResult.getCreationInfo();
+		assertEquals(CREATION_INFO_LAST_CREATED, creationInfoResult.getCreated());
+		// the order of the collection is unchanged
+		Agent[] createdBys = creationInfoResult.getCreatedBys().toArray(new Agent[2]);
+		assertEquals(CREATION_INFO_LAST_PERSON, createdBys[0].getObjectUri());
+		assertEquals(CREATION_INFO_LAST_PERSON2, createdBys[1].getObjectUri());
+	}
+
+	@Test
+	public void testDeserializeParallelSharedBlankNode() throws InvalidSPDXAnalysisException {
+		JsonLDDeserializer deserializer = new JsonLDDeserializer(modelStore);
+		deserializer.setExecutor(ForkJoinPool.commonPool());
+		String specVersion = "3.0.1";
+		String created = "2024-07-18T12:00:00Z";
+		String creationInfoId = "_:creationInfo1";
+		int numPersons = 500;
+		
+		// every person inlines the same creation info blank node, so the partitions race to create it
+		ArrayNode graph = mapper.createArrayNode();
+		for (int i = 0; i < numPersons; i++) {
+			ObjectNode creationInfoNode = mapper.createObjectNode();
+			creationInfoNode.set("type", new TextNode("CreationInfo"));
+			creationInfoNode.set("@id", new TextNode(creationInfoId));
+			creationInfoNode.set("specVersion", new TextNode(specVersion));
+			creationInfoNode.set("created", new TextNode(created));
+			ObjectNode personNode = mapper.createObjectNode();
+			personNode.set("type", new TextNode("Person"));
+			personNode.set("spdxId", new TextNode("https://this/is/a/person" + i));
+			personNode.set("creationInfo", creationInfoNode);
+			graph.add(personNode);
+		}
+		
+		List<TypedValue> result = deserializer.deserializeGraph(graph);
+		assertEquals(numPersons, result.size());
+		String creationInfoUri = null;
+		for (TypedValue tv:result) {
+			Person personResult = (Person)SpdxModelFactory.inflateModelObject(modelStore, tv.getObjectUri(), SpdxConstantsV3.CORE_PERSON, null, specVersion, false, "");
+			CreationInfo creationInfoResult = personResult.getCreationInfo();
+			assertEquals(created, creationInfoResult.getCreated());
+			if (Objects.isNull(creationInfoUri)) {
+				creationInfoUri = creationInfoResult.getObjectUri();
+			} else {
+				assertEquals(creationInfoUri, creationInfoResult.getObjectUri());
+			}
+		}
+	}
+
 	@Test
 	public void testDeserializeMultipleCreationInfos() throws GenerationException, InvalidSPDXAnalysisException {
 		JsonLDDeserializer deserializer = new JsonLDDeserializer(modelStore);
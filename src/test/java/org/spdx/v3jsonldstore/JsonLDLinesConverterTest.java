@@ -0,0 +1,70 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class JsonLDLinesConverterTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDLinesConverter#toJsonLines(java.io.InputStream, java.io.OutputStream)}.
+	 * @throws IOException
+	 */
+	@Test
+	public void testRoundTrip() throws IOException {
+		byte[] jsonLd = Files.readAllBytes(Paths.get("TestFiles", "package_sbom.json"));
+		JsonNode expected = MAPPER.readTree(jsonLd);
+		ByteArrayOutputStream lines = new ByteArrayOutputStream();
+		JsonLDLinesConverter.toJsonLines(new ByteArrayInputStream(jsonLd), lines);
+		String[] lineArray = new String(lines.toByteArray(), StandardCharsets.UTF_8).split("\n");
+		assertEquals(expected.get("@graph").size() + 1, lineArray.length);
+		assertEquals(expected.get("@context"), MAPPER.readTree(lineArray[0]).get("@context"));
+		assertEquals(expected.get("@graph").get(0), MAPPER.readTree(lineArray[1]));
+		
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		JsonLDLinesConverter.fromJsonLines(new ByteArrayInputStream(lines.toByteArray()), result, true);
+		assertEquals(expected, MAPPER.readTree(result.toByteArray()));
+	}
+
+	@Test
+	public void testFromJsonLinesNoHeader() throws IOException {
+		String lines = "{\"type\":\"Person\",\"spdxId\":\"urn:a\"}\n{\"type\":\"Person\",\"spdxId\":\"urn:b\"}\n";
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		JsonLDLinesConverter.fromJsonLines(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), result, false);
+		JsonNode root = MAPPER.readTree(result.toByteArray());
+		assertFalse(root.has("@context"));
+		assertEquals(2, root.get("@graph").size());
+		assertEquals("urn:b", root.get("@graph").get(1).get("spdxId").asText());
+	}
+
+	@Test
+	public void testToJsonLinesFieldAfterGraph() {
+		String jsonLd = "{\"@graph\":[],\"@context\":\"https://spdx.org/rdf/3.0.1/spdx-context.jsonld\"}";
+		try {
+			JsonLDLinesConverter.toJsonLines(new ByteArrayInputStream(jsonLd.getBytes(StandardCharsets.UTF_8)), new ByteArrayOutputStream());
+			fail("Fields following the graph can not be converted");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+}
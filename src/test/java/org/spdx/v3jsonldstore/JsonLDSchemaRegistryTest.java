@@ -0,0 +1,76 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.library.SpdxModelFactory;
+
+import net.jimblackler.jsonschemafriend.GenerationException;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class JsonLDSchemaRegistryTest {
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+	}
+
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDSchemaRegistry#getSchema(java.lang.String)}.
+	 * @throws GenerationException
+	 */
+	@Test
+	public void testGetSchema() throws GenerationException {
+		JsonLDSchema schema = JsonLDSchemaRegistry.getSchema("3.0.1");
+		assertTrue(schema.getElementTypes().contains("Software.SpdxPackage"));
+		assertSame(schema, JsonLDSchemaRegistry.getSchema("3.0.1"));
+		assertNotSame(schema, JsonLDSchemaRegistry.getSchema("3.0.0"));
+	}
+
+	@Test
+	public void testGetSchemaInvalidVersion() {
+		try {
+			JsonLDSchemaRegistry.getSchema("0.0.1");
+			fail("Expected a generation exception for a missing schema");
+		} catch (GenerationException e) {
+			// expected
+		}
+		assertFalse(JsonLDSchemaRegistry.isLoaded("0.0.1"));
+	}
+
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDSchemaRegistry#preload(java.lang.String[])}.
+	 * @throws GenerationException
+	 */
+	@Test
+	public void testPreload() throws GenerationException {
+		JsonLDSchemaRegistry.preload();
+		assertTrue(JsonLDSchemaRegistry.isLoaded(SpdxModelFactory.getLatestSpecVersion()));
+		JsonLDSchemaRegistry.preload("3.0.0", "3.0.1");
+		assertTrue(JsonLDSchemaRegistry.isLoaded("3.0.0"));
+		assertTrue(JsonLDSchemaRegistry.isLoaded("3.0.1"));
+	}
+
+	@Test
+	public void testGetLoadTimesMillis() throws GenerationException {
+		JsonLDSchemaRegistry.preload("3.0.1");
+		assertTrue(JsonLDSchemaRegistry.getLoadTimeMillis("3.0.1").isPresent());
+		assertTrue(JsonLDSchemaRegistry.getLoadTimeMillis("3.0.1").get() >= 0);
+		assertFalse(JsonLDSchemaRegistry.getLoadTimeMillis("0.0.1").isPresent());
+		Map<String, Long> loadTimes = JsonLDSchemaRegistry.getLoadTimesMillis();
+		assertTrue(loadTimes.containsKey("3.0.1"));
+	}
+}
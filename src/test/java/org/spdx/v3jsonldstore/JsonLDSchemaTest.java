@@ -119,6 +119,22 @@ public class JsonLDSchemaTest {
 		assertFalse(retval.contains("Core.CreationInfo"));
 	}
 	
+	@Test
+	public void testGetTypeCategory() throws GenerationException {
+		JsonLDSchema schema = new JsonLDSchema("schema-v3.0.1.json", "spdx-context-v3.0.1.jsonld", "spdx-model-v3.0.1.jsonld");
+		assertEquals(JsonLDSchema.TypeCategory.ELEMENT, schema.getTypeCategory("Software.SpdxPackage"));
+		assertEquals(JsonLDSchema.TypeCategory.ELEMENT, schema.getTypeCategory("SimpleLicensing.LicenseExpression"));
+		assertEquals(JsonLDSchema.TypeCategory.CREATION_INFO, schema.getTypeCategory("Core.CreationInfo"));
+		assertEquals(JsonLDSchema.TypeCategory.INLINE, schema.getTypeCategory("Core.Hash"));
+		assertEquals(JsonLDSchema.TypeCategory.INLINE, schema.getTypeCategory("Not.AType"));
+		for (String type:schema.getElementTypes()) {
+			assertEquals(JsonLDSchema.TypeCategory.ELEMENT, schema.getTypeCategory(type));
+		}
+		for (String type:schema.getAnyLicenseInfoTypes()) {
+			assertNotEquals(JsonLDSchema.TypeCategory.INLINE, schema.getTypeCategory(type));
+		}
+	}
+	
 	@Test
 	public void testGetPropertyType() throws GenerationException {
 		JsonLDSchema schema = new JsonLDSchema("schema-v3.0.1.json", "spdx-context-v3.0.1.jsonld", "spdx-model-v3.0.1.jsonld");
@@ -146,6 +162,55 @@ public class JsonLDSchemaTest {
 		assertEquals(SpdxConstantsV3.PROP_BEGIN_INTEGER_RANGE, result.get());
 	}
 	
+	@Test
+	public void testGetPropertyDescriptorProfile() throws GenerationException {
+		JsonLDSchema schema = new JsonLDSchema("schema-v3.0.1.json", "spdx-context-v3.0.1.jsonld", "spdx-model-v3.0.1.jsonld");
+		assertFalse(schema.getPropertyDescriptor("notAProperty").isPresent());
+		Optional<PropertyDescriptor> result = schema.getPropertyDescriptor("software_primaryPurpose");
+		assertTrue(result.isPresent());
+		assertEquals(SpdxConstantsV3.PROP_PRIMARY_PURPOSE, result.get());
+		assertSame(result.get(), schema.getPropertyDescriptor("software_primaryPurpose").get());
+	}
+	
+	@Test
+	public void testGetJsonPropertyName() throws GenerationException {
+		JsonLDSchema schema = new JsonLDSchema("schema-v3.0.1.json", "spdx-context-v3.0.1.jsonld", "spdx-model-v3.0.1.jsonld");
+		assertEquals("beginIntegerRange", schema.getJsonPropertyName(SpdxConstantsV3.PROP_BEGIN_INTEGER_RANGE));
+		assertEquals("software_primaryPurpose", schema.getJsonPropertyName(SpdxConstantsV3.PROP_PRIMARY_PURPOSE));
+		assertEquals("newprofile_newProp", schema.getJsonPropertyName(
+				new PropertyDescriptor("newProp", "https://spdx.org/rdf/3.0.1/terms/NewProfile/")));
+	}
+	
+	@Test
+	public void testGetJsonType() {
+		assertEquals("software_Package", JsonLDSchema.getJsonType("Software.SpdxPackage"));
+		assertEquals("Relationship", JsonLDSchema.getJsonType("Core.Relationship"));
+		assertEquals("software_File", JsonLDSchema.getJsonType("Software.SpdxFile"));
+		assertEquals("Software.SpdxPackage", JsonLDSchema.JSON_TYPE_TO_MODEL_TYPE.get("software_Package"));
+		assertEquals("newprofile_NewType", JsonLDSchema.getJsonType("NewProfile.NewType"));
+	}
+	
+	@Test
+	public void testGetFieldPlan() throws GenerationException {
+		JsonLDSchema schema = new JsonLDSchema("schema-v3.0.1.json", "spdx-context-v3.0.1.jsonld", "spdx-model-v3.0.1.jsonld");
+		JsonLDSchema.FieldPlan plan = schema.getFieldPlan("externalRefType");
+		assertFalse(plan.isSpdxObject());
+		assertEquals(schema.getVocab("externalRefType"), plan.getEnumVocab());
+		plan = schema.getFieldPlan("element");
+		assertTrue(plan.isSpdxObject());
+		assertFalse(plan.getEnumVocab().isPresent());
+		plan = schema.getFieldPlan("endTime");
+		assertFalse(plan.isSpdxObject());
+		assertEquals(JsonLDSchema.LiteralType.STRING, plan.getLiteralType());
+		plan = schema.getFieldPlan("beginIntegerRange");
+		assertEquals(JsonLDSchema.LiteralType.INTEGER, plan.getLiteralType());
+		assertEquals(SpdxConstantsV3.PROP_BEGIN_INTEGER_RANGE, plan.getProperty().get());
+		assertSame(plan, schema.getFieldPlan("beginIntegerRange"));
+		plan = schema.getFieldPlan("notAProperty");
+		assertFalse(plan.getProperty().isPresent());
+		assertEquals(JsonLDSchema.LiteralType.UNTYPED, plan.getLiteralType());
+	}
+	
 	@Test
 	public void testIsEnum()  throws GenerationException {
 		JsonLDSchema schema = new JsonLDSchema("schema-v3.0.1.json", "spdx-context-v3.0.1.jsonld", "spdx-model-v3.0.1.jsonld");
@@ -6,9 +6,12 @@ package org.spdx.v3jsonldstore;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.After;
 import org.junit.Before;
@@ -27,9 +30,11 @@ import org.spdx.library.model.v3_0_1.core.SpdxDocument;
 import org.spdx.library.model.v3_0_1.software.SpdxFile;
 import org.spdx.library.model.v3_0_1.software.SpdxPackage;
 import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IModelStoreLock;
 import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.simple.InMemSpdxStore;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -196,6 +201,139 @@ public class JsonLDSerializerTest {
 		assertTrue(serializer.getSchema().validate(result));
 	}
 	
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDSerializer#serialize(com.fasterxml.jackson.core.JsonGenerator, org.spdx.core.CoreModelObject)}.
+	 */
+	@Test
+	public void testSerializeGenerator() throws Exception {
+		JsonLDSerializer serializer = new JsonLDSerializer(mapper, true, false, SpdxModelFactory.getLatestSpecVersion(), modelStore);
+		String prefix = "http://test.uri#";
+		ModelCopyManager copyManager = new ModelCopyManager();
+		SpdxPackage pkg = new SpdxPackage(modelStore, prefix + "PACKAGE", copyManager, true, prefix);
+		CreationInfo creationInfo = pkg.createCreationInfo(modelStore.getNextId(IdType.Anonymous))
+				.setCreated("2024-07-22T16:01:15Z")
+				.setSpecVersion("3.0.1")
+				.build();
+		Agent createdBy = pkg.createPerson(prefix + "AGENT")
+				.setCreationInfo(creationInfo)
+				.setName("Creator")
+				.build();
+		creationInfo.getCreatedBys().add(createdBy);
+		pkg.setCreationInfo(creationInfo);
+		pkg.setName("Package Name");
+		pkg.getVerifiedUsings().add(pkg.createHash(modelStore.getNextId(IdType.Anonymous))
+				.setAlgorithm(HashAlgorithm.SHA256)
+				.setHashValue("d301fcd0b7c84c879456eb041af246fbc7edbfea54f6470a859d8bd4073a47b8")
+				.build());
+		pkg.createSpdxFile(prefix + "FILE")
+				.setName("File")
+				.build();
+		
+		StringWriter treeWriter = new StringWriter();
+		try (JsonGenerator jgen = mapper.getFactory().createGenerator(treeWriter)) {
+			jgen.useDefaultPrettyPrinter();
+			mapper.writeTree(jgen, serializer.serialize(null));
+		}
+		StringWriter streamWriter = new StringWriter();
+		try (JsonGenerator jgen = mapper.getFactory().createGenerator(streamWriter)) {
+			jgen.useDefaultPrettyPrinter();
+			serializer.serialize(jgen, null);
+		}
+		assertEquals(treeWriter.toString(), streamWriter.toString());
+		assertTrue(serializer.getSchema().validate(mapper.readTree(streamWriter.toString())));
+	}
+	
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDSerializer#setExecutor(java.util.concurrent.Executor)}.
+	 */
+	@Test
+	public void testSerializeParallel() throws Exception {
+		String prefix = "http://test.uri#";
+		ModelCopyManager copyManager = new ModelCopyManager();
+		SpdxPackage pkg = new SpdxPackage(modelStore, prefix + "PACKAGE", copyManager, true, prefix);
+		CreationInfo creationInfo = pkg.createCreationInfo(modelStore.getNextId(IdType.Anonymous))
+				.setCreated("2024-07-22T16:01:15Z")
+				.setSpecVersion("3.0.1")
+				.build();
+		pkg.setCreationInfo(creationInfo);
+		pkg.setName("Package Name");
+		pkg.getVerifiedUsings().add(pkg.createHash(modelStore.getNextId(IdType.Anonymous))
+				.setAlgorithm(HashAlgorithm.SHA256)
+				.setHashValue("d301fcd0b7c84c879456eb041af246fbc7edbfea54f6470a859d8bd4073a47b8")
+				.build());
+		for (int i = 0; i < 50; i++) {
+			pkg.createSpdxFile(prefix + "FILE" + i)
+					.setName("File" + i)
+					.build();
+		}
+		for (boolean pretty:new boolean[] {true, false}) {
+			JsonLDSerializer serializer = new JsonLDSerializer(mapper, pretty, false, SpdxModelFactory.getLatestSpecVersion(), modelStore);
+			StringWriter sequentialWriter = new StringWriter();
+			try (JsonGenerator jgen = mapper.getFactory().createGenerator(sequentialWriter)) {
+				if (pretty) {
+					jgen.useDefaultPrettyPrinter();
+				}
+				serializer.serialize(jgen, null);
+			}
+			serializer.setExecutor(ForkJoinPool.commonPool());
+			StringWriter parallelWriter = new StringWriter();
+			try (JsonGenerator jgen = mapper.getFactory().createGenerator(parallelWriter)) {
+				if (pretty) {
+					jgen.useDefaultPrettyPrinter();
+				}
+				serializer.serialize(jgen, null);
+			}
+			assertEquals(sequentialWriter.toString(), parallelWriter.toString());
+		}
+		// entries encoded on the executor use the encoding and escaping of the generator
+		pkg.setDescription("Description \u00e9\u4e2d");
+		for (boolean escapeNonAscii:new boolean[] {true, false}) {
+			JsonLDSerializer serializer = new JsonLDSerializer(mapper, true, false, SpdxModelFactory.getLatestSpecVersion(), modelStore);
+			ByteArrayOutputStream sequentialOutput = new ByteArrayOutputStream();
+			try (JsonGenerator jgen = mapper.getFactory().createGenerator(sequentialOutput)) {
+				jgen.useDefaultPrettyPrinter();
+				jgen.configure(JsonGenerator.Feature.ESCAPE_NON_ASCII, escapeNonAscii);
+				serializer.serialize(jgen, null);
+			}
+			serializer.setExecutor(ForkJoinPool.commonPool());
+			ByteArrayOutputStream parallelOutput = new ByteArrayOutputStream();
+			try (JsonGenerator jgen = mapper.getFactory().createGenerator(parallelOutput)) {
+				jgen.useDefaultPrettyPrinter();
+				jgen.configure(JsonGenerator.Feature.ESCAPE_NON_ASCII, escapeNonAscii);
+				serializer.serialize(jgen, null);
+			}
+			assertArrayEquals(sequentialOutput.toByteArray(), parallelOutput.toByteArray());
+		}
+	}
+	
+	@Test
+	public void testAnonymousElementIds() throws Exception {
+		ModelCopyManager copyManager = new ModelCopyManager();
+		SpdxPackage pkg = new SpdxPackage(modelStore, modelStore.getNextId(IdType.Anonymous), copyManager, true, "http://test.uri#");
+		pkg.setCreationInfo(pkg.createCreationInfo(modelStore.getNextId(IdType.Anonymous))
+				.setCreated("2024-07-22T16:01:15Z")
+				.setSpecVersion("3.0.1")
+				.build());
+		pkg.setName("Package Name");
+		JsonLDSerializer serializer = new JsonLDSerializer(mapper, true, false, SpdxModelFactory.getLatestSpecVersion(), modelStore);
+		String generatedId = findPackageId(serializer.serialize(null));
+		assertTrue(generatedId.startsWith(serializer.getGeneratedIdPrefix()));
+		// the generated ID is the same in every serialization so cached graph entries remain valid
+		assertEquals(generatedId, findPackageId(serializer.serialize(null)));
+		serializer.setGeneratedIdPrefix(JsonLDSerializer.GENERATED_SERIALIZED_ID_PREFIX + "store#");
+		assertTrue(findPackageId(serializer.serialize(null)).startsWith(JsonLDSerializer.GENERATED_SERIALIZED_ID_PREFIX + "store#"));
+	}
+	
+	private String findPackageId(JsonNode result) {
+		for (JsonNode entry:result.get("@graph")) {
+			if ("software_Package".equals(entry.get("type").asText())) {
+				return entry.get("spdxId").asText();
+			}
+		}
+		fail("Package not found in graph");
+		return null;
+	}
+	
 	@Test
 	public void testSerializeSingleElement() throws GenerationException, InvalidSPDXAnalysisException {
 		JsonLDSerializer serializer = new JsonLDSerializer(mapper, true, false, SpdxModelFactory.getLatestSpecVersion(), modelStore);
@@ -267,6 +405,41 @@ public class JsonLDSerializerTest {
 		assertTrue(serializer.getSchema().validate(result));
 	}
 	
+	@Test
+	public void testSerializeReadLock() throws Exception {
+		List<Boolean> lockRequests = new ArrayList<>();
+		IModelStore lockRecordingStore = new InMemSpdxStore() {
+			@Override
+			public IModelStoreLock enterCriticalSection(boolean readLockRequested) {
+				lockRequests.add(readLockRequested);
+				return super.enterCriticalSection(readLockRequested);
+			}
+		};
+		String prefix = "http://test.uri#";
+		ModelCopyManager copyManager = new ModelCopyManager();
+		SpdxPackage pkg = new SpdxPackage(lockRecordingStore, prefix + "PACKAGE", copyManager, true, prefix);
+		CreationInfo creationInfo = pkg.createCreationInfo(lockRecordingStore.getNextId(IdType.Anonymous))
+				.setCreated("2024-07-22T16:01:15Z")
+				.setSpecVersion("3.0.1")
+				.build();
+		creationInfo.getCreatedBys().add(pkg.createPerson(prefix + "AGENT")
+				.setCreationInfo(creationInfo)
+				.setName("Creator")
+				.build());
+		pkg.setCreationInfo(creationInfo);
+		pkg.setName("Package Name");
+		SpdxDocument spdxDoc = pkg.createSpdxDocument("urn:my:document")
+				.addRootElement(pkg)
+				.addElement(pkg)
+				.build();
+		JsonLDSerializer serializer = new JsonLDSerializer(mapper, true, false, SpdxModelFactory.getLatestSpecVersion(), lockRecordingStore);
+		lockRequests.clear();
+		serializer.serialize(spdxDoc);
+		serializer.serialize(null);
+		assertFalse(lockRequests.isEmpty());
+		assertFalse("Serialization should only request read locks", lockRequests.contains(false));
+	}
+	
 	@Test
 	public void testSerializeSpdxDocumentElement() throws GenerationException, InvalidSPDXAnalysisException {
 		JsonLDSerializer serializer = new JsonLDSerializer(mapper, true, false, SpdxModelFactory.getLatestSpecVersion(), modelStore);
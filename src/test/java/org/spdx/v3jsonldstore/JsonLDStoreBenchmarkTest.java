@@ -0,0 +1,328 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Timings for serializing and deserializing a large generated graph
+ *
+ * Ignored by default since the timings depend on the machine and are only reported, not asserted.  Run with
+ * <code>mvn test -Dtest=JsonLDStoreBenchmarkTest</code> after removing the <code>@Ignore</code>.  The number of
+ * generated packages may be set with the system property <code>benchmark.elements</code>.
+ *
+ * @author Gary O'Neall
+ *
+ */
+@Ignore("Benchmark - run manually")
+public class JsonLDStoreBenchmarkTest {
+
+	private static final int DEFAULT_ELEMENTS = 100000;
+	private static final int WARMUP_RUNS = 2;
+	private static final int TIMED_RUNS = 3;
+	private static final String PREFIX = "http://spdx.example.com/benchmark/";
+
+	private Path graphFile;
+	private int elementCount;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		elementCount = Integer.getInteger("benchmark.elements", DEFAULT_ELEMENTS);
+		graphFile = Files.createTempFile("benchmark", ".json");
+		writeGraph(graphFile, elementCount);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(graphFile);
+	}
+
+	/**
+	 * Write an SPDX document containing a creation info, an agent and <code>elementCount</code> packages each with an
+	 * inlined hash
+	 * @param file file to write
+	 * @param elementCount number of packages
+	 * @throws Exception on errors writing the file
+	 */
+	private static void writeGraph(Path file, int elementCount) throws Exception {
+		ObjectMapper mapper = new ObjectMapper();
+		ObjectNode root = mapper.createObjectNode();
+		root.put("@context", "https://spdx.org/rdf/3.0.1/spdx-context.jsonld");
+		ArrayNode graph = root.putArray("@graph");
+		ObjectNode creationInfo = graph.addObject();
+		creationInfo.put("type", "CreationInfo");
+		creationInfo.put("@id", "_:creationinfo");
+		creationInfo.putArray("createdBy").add(PREFIX + "Agent");
+		creationInfo.put("specVersion", "3.0.1");
+		creationInfo.put("created", "2024-03-06T00:00:00Z");
+		ObjectNode agent = graph.addObject();
+		agent.put("type", "Person");
+		agent.put("spdxId", PREFIX + "Agent");
+		agent.put("name", "Benchmark Agent");
+		agent.put("creationInfo", "_:creationinfo");
+		ObjectNode document = graph.addObject();
+		document.put("type", "SpdxDocument");
+		document.put("spdxId", PREFIX + "Document");
+		document.put("creationInfo", "_:creationinfo");
+		document.putArray("rootElement").add(PREFIX + "Package0");
+		for (int i = 0; i < elementCount; i++) {
+			ObjectNode pkg = graph.addObject();
+			pkg.put("type", "software_Package");
+			pkg.put("spdxId", PREFIX + "Package" + i);
+			pkg.put("creationInfo", "_:creationinfo");
+			pkg.put("name", "package-" + i);
+			pkg.put("software_packageVersion", "1.0." + i);
+			pkg.put("software_downloadLocation", "http://dl.example.com/package-" + i + ".tar");
+			pkg.putArray("originatedBy").add(PREFIX + "Agent");
+			ObjectNode hash = pkg.putArray("verifiedUsing").addObject();
+			hash.put("type", "Hash");
+			hash.put("algorithm", "sha256");
+			hash.put("hashValue", String.format("%064x", i));
+		}
+		try (OutputStream os = Files.newOutputStream(file)) {
+			mapper.writeValue(os, root);
+		}
+	}
+
+	/**
+	 * @return thread counts from 1 to the number of available processors, doubling each time
+	 */
+	private static List<Integer> threadCounts() {
+		List<Integer> retval = new ArrayList<>();
+		int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads < processors; threads *= 2) {
+			retval.add(threads);
+		}
+		retval.add(processors);
+		return retval;
+	}
+
+	/**
+	 * @param threads number of threads for the deserialization executor
+	 * @return milliseconds to deserialize the graph file into an empty store
+	 * @throws Exception on deserialization errors
+	 */
+	private long timeDeserialize(int threads) throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try (JsonLDStore store = new JsonLDStore(new InMemSpdxStore())) {
+			store.setDeserializationExecutor(pool);
+			long start = System.nanoTime();
+			store.deSerialize(graphFile, false);
+			long retval = (System.nanoTime() - start) / 1000000;
+			assertEquals(elementCount, store.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE).count());
+			return retval;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * @param threads number of threads for the serialization executor
+	 * @return milliseconds to serialize the graph
+	 * @throws Exception on serialization errors
+	 */
+	private long timeSerialize(int threads) throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try (JsonLDStore store = new JsonLDStore(new InMemSpdxStore(), false)) {
+			store.deSerialize(graphFile, false);
+			store.setSerializationExecutor(pool);
+			long start = System.nanoTime();
+			try (OutputStream os = new CountingOutputStream()) {
+				store.serialize(os);
+			}
+			return (System.nanoTime() - start) / 1000000;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Output stream which counts and discards the bytes written
+	 */
+	private static class CountingOutputStream extends OutputStream {
+		private long count = 0;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+
+		long getCount() {
+			return count;
+		}
+	}
+
+	/**
+	 * @param store store to serialize
+	 * @param gzip true if the output is gzip compressed
+	 * @param sizes array to store the number of bytes written at index 0
+	 * @return milliseconds to serialize the store
+	 * @throws Exception on serialization errors
+	 */
+	private static long timeSerialize(JsonLDStore store, boolean gzip, long[] sizes) throws Exception {
+		store.setGzipOutput(gzip);
+		CountingOutputStream os = new CountingOutputStream();
+		long start = System.nanoTime();
+		store.serialize(os);
+		os.close();
+		long retval = (System.nanoTime() - start) / 1000000;
+		sizes[0] = os.getCount();
+		return retval;
+	}
+
+	/**
+	 * Reports the median time to deserialize the graph from a memory mapped file with 1 to N threads
+	 * @throws Exception on deserialization errors
+	 */
+	@Test
+	public void testDeserializeScaling() throws Exception {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			timeDeserialize(1);
+		}
+		for (int threads:threadCounts()) {
+			long[] timings = new long[TIMED_RUNS];
+			for (int i = 0; i < TIMED_RUNS; i++) {
+				timings[i] = timeDeserialize(threads);
+			}
+			report("deserialize", threads, timings);
+		}
+	}
+
+	/**
+	 * Reports the median time to serialize the graph with 1 to N threads
+	 * @throws Exception on serialization errors
+	 */
+	@Test
+	public void testSerializeScaling() throws Exception {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			timeSerialize(1);
+		}
+		for (int threads:threadCounts()) {
+			long[] timings = new long[TIMED_RUNS];
+			for (int i = 0; i < TIMED_RUNS; i++) {
+				timings[i] = timeSerialize(threads);
+			}
+			report("serialize", threads, timings);
+		}
+	}
+
+	/**
+	 * Reports the median time and output size for serializing the graph without and with gzip compression
+	 * @throws Exception on serialization errors
+	 */
+	@Test
+	public void testGzipThroughput() throws Exception {
+		try (JsonLDStore store = new JsonLDStore(new InMemSpdxStore(), false)) {
+			store.deSerialize(graphFile, false);
+			long rawSize = 0;
+			for (boolean gzip:new boolean[] {false, true}) {
+				long[] size = new long[1];
+				for (int i = 0; i < WARMUP_RUNS; i++) {
+					timeSerialize(store, gzip, size);
+				}
+				long[] timings = new long[TIMED_RUNS];
+				for (int i = 0; i < TIMED_RUNS; i++) {
+					timings[i] = timeSerialize(store, gzip, size);
+				}
+				if (!gzip) {
+					rawSize = size[0];
+				}
+				long median = median(timings);
+				System.out.printf("serialize %s %d elements: %d ms, %d bytes, %.1f MB/s of JSON%n", gzip ? "gzip" : "raw",
+						elementCount, median, size[0], rawSize / 1048576.0 / Math.max(median, 1) * 1000);
+			}
+		}
+	}
+
+	/**
+	 * Reports the median serialization time, deserialization time and size for each encoding
+	 * @throws Exception on serialization or deserialization errors
+	 */
+	@Test
+	public void testEncodings() throws Exception {
+		try (JsonLDStore store = new JsonLDStore(new InMemSpdxStore(), false)) {
+			store.deSerialize(graphFile, false);
+			for (JsonLDEncoding encoding:JsonLDEncoding.values()) {
+				store.setEncoding(encoding);
+				byte[] serialized = null;
+				long[] serializeTimings = new long[TIMED_RUNS];
+				long[] deserializeTimings = new long[TIMED_RUNS];
+				for (int i = -WARMUP_RUNS; i < TIMED_RUNS; i++) {
+					ByteArrayOutputStream bos = new ByteArrayOutputStream();
+					long start = System.nanoTime();
+					store.serialize(bos);
+					long serializeTime = (System.nanoTime() - start) / 1000000;
+					serialized = bos.toByteArray();
+					try (JsonLDStore result = new JsonLDStore(new InMemSpdxStore())) {
+						result.setEncoding(encoding);
+						start = System.nanoTime();
+						result.deSerialize(new ByteArrayInputStream(serialized), false);
+						long deserializeTime = (System.nanoTime() - start) / 1000000;
+						if (i >= 0) {
+							serializeTimings[i] = serializeTime;
+							deserializeTimings[i] = deserializeTime;
+						}
+					}
+				}
+				System.out.printf("%s %d elements: %d bytes, serialize %d ms, deserialize %d ms%n", encoding,
+						elementCount, serialized.length, median(serializeTimings), median(deserializeTimings));
+			}
+		}
+	}
+
+	/**
+	 * @param timings timings in milliseconds
+	 * @return median of the timings
+	 */
+	private static long median(long[] timings) {
+		long[] sorted = timings.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	/**
+	 * @param operation name of the operation timed
+	 * @param threads number of threads used
+	 * @param timings timings in milliseconds
+	 */
+	private void report(String operation, int threads, long[] timings) {
+		System.out.printf("%s %d elements, %d threads: %d ms (median of %d)%n", operation, elementCount, threads,
+				median(timings), timings.length);
+	}
+}
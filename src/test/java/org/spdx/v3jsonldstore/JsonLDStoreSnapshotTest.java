@@ -0,0 +1,196 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.library.model.v3_0_1.core.Agent;
+import org.spdx.library.model.v3_0_1.core.CreationInfo;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class JsonLDStoreSnapshotTest {
+
+	private static final String PACKAGE_SBOM_FILE = "TestFiles/package_sbom.json";
+	private static final String PACKAGE_URI = "http://spdx.example.com/Package1";
+	private static final String FILE_URI = "http://spdx.example.com/Package1/myprogram";
+	private static final String NEW_URI = "http://spdx.example.com/Package2";
+
+	JsonLDStore store;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		store = new JsonLDStore(new InMemSpdxStore());
+		try (FileInputStream input = new FileInputStream(PACKAGE_SBOM_FILE)) {
+			store.deSerialize(input, false);
+		}
+	}
+
+	@Test
+	public void testModifiedAfterSnapshot() throws Exception {
+		try (JsonLDStoreSnapshot snapshot = store.createSnapshot()) {
+			assertEquals(0, snapshot.getPreservedCount());
+			store.setValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME, "new name");
+			store.setValue(PACKAGE_URI, SpdxConstantsV3.PROP_PACKAGE_VERSION, "2.0");
+			assertEquals("new name", store.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME).get());
+			assertEquals("my-package", snapshot.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME).get());
+			assertEquals("1.0", snapshot.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_PACKAGE_VERSION).get());
+			// the state is preserved once per object
+			assertEquals(1, snapshot.getPreservedCount());
+			// unmodified objects are read from the live store
+			assertEquals("myprogram", snapshot.getValue(FILE_URI, SpdxConstantsV3.PROP_NAME).get());
+		}
+	}
+
+	@Test
+	public void testCreateAndDelete() throws Exception {
+		try (JsonLDStoreSnapshot snapshot = store.createSnapshot()) {
+			long packageCount = snapshot.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE).count();
+			store.create(new TypedValue(NEW_URI, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, "3.0.1"));
+			store.delete(FILE_URI);
+			assertTrue(store.exists(NEW_URI));
+			assertFalse(store.exists(FILE_URI));
+			assertFalse(snapshot.exists(NEW_URI));
+			assertTrue(snapshot.exists(FILE_URI));
+			assertEquals("myprogram", snapshot.getValue(FILE_URI, SpdxConstantsV3.PROP_NAME).get());
+			assertEquals(packageCount, snapshot.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE).count());
+			assertEquals(1, snapshot.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_FILE).count());
+		}
+	}
+
+	@Test
+	public void testGetAllItemsOfRecreatedObject() throws Exception {
+		try (JsonLDStoreSnapshot snapshot = store.createSnapshot()) {
+			store.delete(FILE_URI);
+			store.create(new TypedValue(FILE_URI, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, "3.0.1"));
+			// the type when the snapshot was created is used for the filter and the object is included once
+			assertEquals(1, snapshot.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_FILE)
+					.filter(tv -> FILE_URI.equals(tv.getObjectUri())).count());
+			assertEquals(0, snapshot.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE)
+					.filter(tv -> FILE_URI.equals(tv.getObjectUri())).count());
+			assertEquals(1, snapshot.getAllItems(null, null)
+					.filter(tv -> FILE_URI.equals(tv.getObjectUri())).count());
+		}
+	}
+
+	@Test
+	public void testReadsOfPreservedState() throws Exception {
+		try (JsonLDStoreSnapshot snapshot = store.createSnapshot()) {
+			TypedValue creationInfo = (TypedValue)store.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_CREATION_INFO).get();
+			Object originator = store.listValues(PACKAGE_URI, SpdxConstantsV3.PROP_ORIGINATED_BY).next();
+			store.removeProperty(PACKAGE_URI, SpdxConstantsV3.PROP_CREATION_INFO);
+			store.clearValueCollection(PACKAGE_URI, SpdxConstantsV3.PROP_ORIGINATED_BY);
+			store.delete(FILE_URI);
+			assertFalse(store.isPropertyValueAssignableTo(PACKAGE_URI, SpdxConstantsV3.PROP_CREATION_INFO, CreationInfo.class, "3.0.1"));
+			
+			// every read of a modified object returns the state when the snapshot was created
+			assertTrue(snapshot.exists(PACKAGE_URI));
+			assertEquals(SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, snapshot.getTypedValue(PACKAGE_URI).get().getType());
+			assertTrue(snapshot.getPropertyValueDescriptors(PACKAGE_URI).contains(SpdxConstantsV3.PROP_CREATION_INFO));
+			assertEquals(creationInfo, snapshot.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_CREATION_INFO).get());
+			assertEquals(originator, snapshot.listValues(PACKAGE_URI, SpdxConstantsV3.PROP_ORIGINATED_BY).next());
+			assertTrue(snapshot.isCollectionProperty(PACKAGE_URI, SpdxConstantsV3.PROP_ORIGINATED_BY));
+			assertEquals(1, snapshot.collectionSize(PACKAGE_URI, SpdxConstantsV3.PROP_ORIGINATED_BY));
+			assertTrue(snapshot.collectionContains(PACKAGE_URI, SpdxConstantsV3.PROP_ORIGINATED_BY, originator));
+			assertTrue(snapshot.isCollectionMembersAssignableTo(PACKAGE_URI, SpdxConstantsV3.PROP_ORIGINATED_BY, Agent.class));
+			assertTrue(snapshot.isPropertyValueAssignableTo(PACKAGE_URI, SpdxConstantsV3.PROP_CREATION_INFO, CreationInfo.class, "3.0.1"));
+			assertFalse(snapshot.isPropertyValueAssignableTo(PACKAGE_URI, SpdxConstantsV3.PROP_CREATION_INFO, String.class, "3.0.1"));
+			assertTrue(snapshot.isPropertyValueAssignableTo(PACKAGE_URI, SpdxConstantsV3.PROP_NAME, String.class, "3.0.1"));
+			assertEquals(1, snapshot.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_FILE).count());
+			assertFalse(store.getCaseSensisitiveId("http://spdx.example.com/Package1/", "MYPROGRAM").isPresent());
+			assertEquals("myprogram", snapshot.getCaseSensisitiveId("http://spdx.example.com/Package1/", "MYPROGRAM").get());
+		}
+	}
+
+	@Test
+	public void testReadOnly() throws Exception {
+		try (JsonLDStoreSnapshot snapshot = store.createSnapshot()) {
+			try {
+				snapshot.setValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME, "new name");
+				fail("Snapshot should be read only");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		JsonLDStoreSnapshot snapshot = store.createSnapshot();
+		snapshot.close();
+		store.setValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME, "new name");
+		assertEquals(0, snapshot.getPreservedCount());
+		try {
+			snapshot.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME);
+			fail("Closed snapshot should not be readable");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+		// the live store remains open
+		assertEquals("new name", store.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME).get());
+	}
+
+	@Test
+	public void testSerializeSnapshot() throws Exception {
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		store.serialize(expected);
+		ByteArrayOutputStream snapshotOutput = new ByteArrayOutputStream();
+		store.serializeSnapshot(snapshotOutput, null);
+		assertEquals(expected.toString("UTF-8"), snapshotOutput.toString("UTF-8"));
+		JsonLDStore result = new JsonLDStore(new InMemSpdxStore());
+		result.deSerialize(new ByteArrayInputStream(snapshotOutput.toByteArray()), false);
+		assertEquals("my-package", result.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME).get());
+	}
+
+	@Test
+	public void testSerializeDoesNotBlockWriters() throws Exception {
+		Thread writer = new Thread(() -> {
+			try {
+				store.setValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME, "new name");
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		ByteArrayOutputStream output = new ByteArrayOutputStream() {
+			@Override
+			public synchronized void write(byte[] b, int off, int len) {
+				if (writer.getState() == Thread.State.NEW) {
+					// modify the store while the output is being written
+					writer.start();
+					try {
+						writer.join(10000);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				super.write(b, off, len);
+			}
+		};
+		store.serialize(output);
+		assertFalse(writer.isAlive());
+		assertEquals("new name", store.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME).get());
+		// the output is the state of the store when the serialization started
+		JsonLDStore result = new JsonLDStore(new InMemSpdxStore());
+		result.deSerialize(new ByteArrayInputStream(output.toByteArray()), false);
+		assertEquals("my-package", result.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME).get());
+	}
+}
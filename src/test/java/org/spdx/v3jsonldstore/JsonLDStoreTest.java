@@ -6,17 +6,24 @@ package org.spdx.v3jsonldstore;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.spdx.core.IndividualUriValue;
 import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
 import org.spdx.library.ModelCopyManager;
 import org.spdx.library.SpdxModelFactory;
 import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
@@ -34,11 +41,14 @@ import org.spdx.library.model.v3_0_1.software.SpdxFile;
 import org.spdx.library.model.v3_0_1.software.SpdxPackage;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.PropertyDescriptor;
 import org.spdx.storage.simple.InMemSpdxStore;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * @author gary
@@ -229,5 +239,537 @@ public class JsonLDStoreTest {
 			}
 		}
 	}
+	
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDStore#setDeserializationExecutor(java.util.concurrent.Executor)}.
+	 * @throws Exception 
+	 */
+	@Test
+	public void testDeSerializeParallel() throws Exception {
+		String specVersion = "3.0.1";
+		String documentSpdxId = "http://spdx.example.com/Document1";
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String fileSpdxId = "http://spdx.example.com/Package1/myprogram";
+		String relationshipSpdxId = "http://spdx.example.com/Relationship/1";
+		String personName = "Joshua Watt";
+		
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			ldStore.setDeserializationExecutor(ForkJoinPool.commonPool());
+			assertEquals(ForkJoinPool.commonPool(), ldStore.getDeserializationExecutor());
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			
+			SpdxDocument documentResult = (SpdxDocument)SpdxModelFactory.inflateModelObject(ldStore, documentSpdxId, SpdxConstantsV3.CORE_SPDX_DOCUMENT, null, specVersion, false, "");
+			assertEquals(personName, documentResult.getCreationInfo().getCreatedBys().toArray(new Agent[documentResult.getCreationInfo().getCreatedBys().size()])[0].getName().get());
+			Relationship relationshipResult = (Relationship)SpdxModelFactory.inflateModelObject(ldStore, relationshipSpdxId, SpdxConstantsV3.CORE_RELATIONSHIP, null, specVersion, false, "");
+			assertEquals(packageSpdxId, relationshipResult.getFrom().getObjectUri());
+			assertEquals(fileSpdxId, relationshipResult.getTos().toArray(new Element[1])[0].getObjectUri());
+			assertTrue(documentResult.verify().isEmpty());
+		}
+	}
+	
+	@Test
+	public void testDeSerializePath() throws Exception {
+		String specVersion = "3.0.1";
+		String documentSpdxId = "http://spdx.example.com/Document1";
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String packageName = "my-package";
+		
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			SpdxDocument result = ldStore.deSerialize(Paths.get(PACKAGE_SBOM_FILE), false);
+			assertEquals(documentSpdxId, result.getObjectUri());
+			SpdxPackage packageResult = (SpdxPackage)SpdxModelFactory.inflateModelObject(ldStore, packageSpdxId, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, null, specVersion, false, "");
+			assertEquals(packageName, packageResult.getName().get());
+			assertTrue(result.verify().isEmpty());
+		}
+	}
+	
+	@Test
+	public void testDeSerializePathParallel() throws Exception {
+		String specVersion = "3.0.1";
+		String documentSpdxId = "http://spdx.example.com/Document1";
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String fileSpdxId = "http://spdx.example.com/Package1/myprogram";
+		String relationshipSpdxId = "http://spdx.example.com/Relationship/1";
+		
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			ldStore.setDeserializationExecutor(ForkJoinPool.commonPool());
+			SpdxDocument result = ldStore.deSerialize(Paths.get(PACKAGE_SBOM_FILE), false);
+			assertEquals(documentSpdxId, result.getObjectUri());
+			Relationship relationshipResult = (Relationship)SpdxModelFactory.inflateModelObject(ldStore, relationshipSpdxId, SpdxConstantsV3.CORE_RELATIONSHIP, null, specVersion, false, "");
+			assertEquals(packageSpdxId, relationshipResult.getFrom().getObjectUri());
+			assertEquals(fileSpdxId, relationshipResult.getTos().toArray(new Element[1])[0].getObjectUri());
+			assertTrue(result.verify().isEmpty());
+		}
+	}
+	
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDStore#pinBundledListedLicenseIndex()}.
+	 * @throws Exception 
+	 */
+	@Test
+	public void testPinBundledListedLicenseIndex() throws Exception {
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String relationshipSpdxId = "http://spdx.example.com/Relationship/license";
+		String licenseUri = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + "Apache-2.0";
+		ObjectMapper mapper = new ObjectMapper();
+		JsonNode root = mapper.readTree(new File(PACKAGE_SBOM_FILE));
+		ObjectNode relationshipNode = mapper.createObjectNode();
+		relationshipNode.put("type", "Relationship");
+		relationshipNode.put("spdxId", relationshipSpdxId);
+		relationshipNode.put("creationInfo", "_:creationinfo");
+		relationshipNode.put("from", packageSpdxId);
+		relationshipNode.put("relationshipType", "hasDeclaredLicense");
+		relationshipNode.putArray("to").add(licenseUri);
+		((ArrayNode)root.get("@graph")).add(relationshipNode);
+		
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			ldStore.pinBundledListedLicenseIndex();
+			assertTrue(ldStore.getListedLicenseCache().getIndex().isPresent());
+			ldStore.deSerialize(new ByteArrayInputStream(mapper.writeValueAsBytes(root)), false);
+			
+			// the listed license is stored as an external reference rather than an incomplete copy
+			assertFalse(ldStore.exists(licenseUri));
+			List<Object> tos = new ArrayList<>();
+			ldStore.listValues(relationshipSpdxId, SpdxConstantsV3.PROP_TO).forEachRemaining(tos::add);
+			assertEquals(1, tos.size());
+			assertTrue(tos.get(0) instanceof IndividualUriValue);
+			assertEquals(licenseUri, ((IndividualUriValue)tos.get(0)).getIndividualURI());
+			
+			// serializing writes the reference without a graph entry for the listed license
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			ldStore.serialize(bos);
+			JsonNode result = mapper.readTree(bos.toByteArray());
+			boolean foundRelationship = false;
+			for (JsonNode node:result.get("@graph")) {
+				assertNotEquals(licenseUri, node.path("spdxId").asText());
+				if (relationshipSpdxId.equals(node.path("spdxId").asText())) {
+					foundRelationship = true;
+					assertEquals(licenseUri, node.get("to").get(0).asText());
+				}
+			}
+			assertTrue(foundRelationship);
+		}
+	}
+	
+	@Test
+	public void testJsonLines() throws Exception {
+		String specVersion = "3.0.1";
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String fileSpdxId = "http://spdx.example.com/Package1/myprogram";
+		String relationshipSpdxId = "http://spdx.example.com/Relationship/1";
+		
+		String lines;
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			ldStore.setJsonLines(true);
+			assertTrue(ldStore.getJsonLines());
+			try (ByteArrayOutputStream bas = new ByteArrayOutputStream()) {
+				ldStore.serialize(bas);
+				lines = bas.toString("UTF-8");
+			}
+		}
+		String[] lineArray = lines.split("\n");
+		assertTrue(lineArray[0].startsWith("{\"@context\""));
+		for (String line:lineArray) {
+			assertFalse(line.isEmpty());
+		}
+		
+		try (JsonLDStore ldStore = new JsonLDStore(new InMemSpdxStore())) {
+			ldStore.setJsonLines(true);
+			SpdxDocument result = ldStore.deSerialize(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), false);
+			assertTrue(result.verify().isEmpty());
+			Relationship relationshipResult = (Relationship)SpdxModelFactory.inflateModelObject(ldStore, relationshipSpdxId, SpdxConstantsV3.CORE_RELATIONSHIP, null, specVersion, false, "");
+			assertEquals(packageSpdxId, relationshipResult.getFrom().getObjectUri());
+			assertEquals(fileSpdxId, relationshipResult.getTos().toArray(new Element[1])[0].getObjectUri());
+		}
+	}
+	
+	@Test
+	public void testGzip() throws Exception {
+		String specVersion = "3.0.1";
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String packageName = "my-package";
+		
+		byte[] compressed;
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			ldStore.setGzipOutput(true);
+			assertTrue(ldStore.getGzipOutput());
+			try (ByteArrayOutputStream bas = new ByteArrayOutputStream()) {
+				ldStore.serialize(bas);
+				compressed = bas.toByteArray();
+			}
+		}
+		assertEquals(0x1f, compressed[0] & 0xFF);
+		assertEquals(0x8b, compressed[1] & 0xFF);
+		
+		try (JsonLDStore ldStore = new JsonLDStore(new InMemSpdxStore())) {
+			SpdxDocument result = ldStore.deSerialize(new ByteArrayInputStream(compressed), false);
+			assertTrue(result.verify().isEmpty());
+			SpdxPackage packageResult = (SpdxPackage)SpdxModelFactory.inflateModelObject(ldStore, packageSpdxId, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, null, specVersion, false, "");
+			assertEquals(packageName, packageResult.getName().get());
+		}
+	}
+	
+	@Test
+	public void testRenderCache() throws Exception {
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			assertEquals(0, ldStore.getRenderCacheSize());
+			ByteArrayOutputStream uncached = new ByteArrayOutputStream();
+			ldStore.serialize(uncached);
+			ldStore.setRenderCacheSize(100);
+			assertEquals(100, ldStore.getRenderCacheSize());
+			ByteArrayOutputStream first = new ByteArrayOutputStream();
+			ldStore.serialize(first);
+			assertEquals(uncached.toString("UTF-8"), first.toString("UTF-8"));
+			ElementRenderCache cache = ldStore.getRenderCache();
+			long graphSize = cache.getMisses();
+			assertTrue(graphSize > 0);
+			assertEquals(0, cache.getHits());
+			
+			ByteArrayOutputStream second = new ByteArrayOutputStream();
+			ldStore.serialize(second);
+			assertEquals(first.toString("UTF-8"), second.toString("UTF-8"));
+			assertEquals(graphSize, cache.getHits());
+			assertEquals(graphSize, cache.getMisses());
+			
+			// only the modified element is converted again
+			ldStore.setValue(packageSpdxId, SpdxConstantsV3.PROP_NAME, "new-name");
+			ByteArrayOutputStream third = new ByteArrayOutputStream();
+			ldStore.serialize(third);
+			assertEquals(graphSize + 1, cache.getMisses());
+			assertTrue(third.toString("UTF-8").contains("new-name"));
+			ldStore.setRenderCacheSize(0);
+			ByteArrayOutputStream expected = new ByteArrayOutputStream();
+			ldStore.serialize(expected);
+			assertEquals(expected.toString("UTF-8"), third.toString("UTF-8"));
+		}
+	}
+	
+	@Test
+	public void testSerializeChanges() throws Exception {
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String newFileSpdxId = "http://spdx.example.com/Package1/newfile";
+		String deletedFileSpdxId = "http://spdx.example.com/Package1/deletedfile";
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore);
+				JsonLDStore targetStore = new JsonLDStore(new InMemSpdxStore())) {
+			for (JsonLDStore store:Arrays.asList(ldStore, targetStore)) {
+				try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+					store.deSerialize(fis, false);
+				}
+				store.create(new TypedValue(deletedFileSpdxId, SpdxConstantsV3.SOFTWARE_SPDX_FILE, "3.0.1"));
+			}
+			String checkpoint = ldStore.createCheckpoint();
+			ldStore.setValue(packageSpdxId, SpdxConstantsV3.PROP_NAME, "new-name");
+			ldStore.create(new TypedValue(newFileSpdxId, SpdxConstantsV3.SOFTWARE_SPDX_FILE, "3.0.1"));
+			ldStore.setValue(newFileSpdxId, SpdxConstantsV3.PROP_NAME, "newfile");
+			ldStore.setValue(newFileSpdxId, SpdxConstantsV3.PROP_CREATION_INFO, 
+					ldStore.getValue(packageSpdxId, SpdxConstantsV3.PROP_CREATION_INFO).get());
+			ldStore.delete(deletedFileSpdxId);
+			
+			ByteArrayOutputStream changes = new ByteArrayOutputStream();
+			String nextCheckpoint = ldStore.serializeChanges(changes, checkpoint);
+			assertNotEquals(checkpoint, nextCheckpoint);
+			JsonNode root = new ObjectMapper().readTree(changes.toByteArray());
+			List<String> graphIds = new ArrayList<>();
+			for (JsonNode node:root.get("@graph")) {
+				graphIds.add(node.has("spdxId") ? node.get("spdxId").asText() : node.get("@id").asText());
+			}
+			assertEquals(Arrays.asList("_:creationInfo_0", packageSpdxId, newFileSpdxId), graphIds);
+			assertEquals(1, root.get("deleted").size());
+			assertEquals(deletedFileSpdxId, root.get("deleted").get(0).asText());
+			
+			targetStore.applyChanges(new ByteArrayInputStream(changes.toByteArray()));
+			SpdxPackage packageResult = (SpdxPackage)SpdxModelFactory.inflateModelObject(targetStore, packageSpdxId, 
+					SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, null, "3.0.1", false, "");
+			assertEquals("new-name", packageResult.getName().get());
+			assertEquals("1.0", packageResult.getPackageVersion().get());
+			assertEquals("newfile", targetStore.getValue(newFileSpdxId, SpdxConstantsV3.PROP_NAME).get());
+			assertFalse(targetStore.exists(deletedFileSpdxId));
+			
+			// nothing has changed since the new checkpoint
+			changes = new ByteArrayOutputStream();
+			ldStore.serializeChanges(changes, nextCheckpoint);
+			root = new ObjectMapper().readTree(changes.toByteArray());
+			assertEquals(0, root.get("@graph").size());
+			assertEquals(0, root.get("deleted").size());
+			
+			try {
+				ldStore.serializeChanges(new ByteArrayOutputStream(), targetStore.createCheckpoint());
+				fail("Checkpoint from another store should not be accepted");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+		}
+	}
+	
+	@Test
+	public void testSerializeChangedInlinedObject() throws Exception {
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			String hashUri = ldStore.getNextId(IdType.Anonymous);
+			TypedValue hash = new TypedValue(hashUri, SpdxConstantsV3.CORE_HASH, "3.0.1");
+			ldStore.create(hash);
+			ldStore.setValue(hashUri, SpdxConstantsV3.PROP_HASH_VALUE, "d301fcd0b7c84c879456eb041af246fbc7edbfea54f6470a859d8bd4073a47b8");
+			ldStore.addValueToCollection(packageSpdxId, SpdxConstantsV3.PROP_VERIFIED_USING, hash);
+			assertEquals(Collections.singleton(packageSpdxId), ldStore.getInlinedOwners(hashUri));
+			
+			String checkpoint = ldStore.createCheckpoint();
+			ldStore.setValue(hashUri, SpdxConstantsV3.PROP_HASH_VALUE, "0000fcd0b7c84c879456eb041af246fbc7edbfea54f6470a859d8bd4073a47b8");
+			ByteArrayOutputStream changes = new ByteArrayOutputStream();
+			ldStore.serializeChanges(changes, checkpoint);
+			JsonNode root = new ObjectMapper().readTree(changes.toByteArray());
+			List<String> graphIds = new ArrayList<>();
+			for (JsonNode node:root.get("@graph")) {
+				graphIds.add(node.has("spdxId") ? node.get("spdxId").asText() : node.get("@id").asText());
+			}
+			// the element the hash is inlined in is serialized with the modified hash
+			assertEquals(Arrays.asList("_:creationInfo_0", packageSpdxId), graphIds);
+			assertTrue(changes.toString("UTF-8").contains("0000fcd0b7c84c879456eb041af246fbc7edbfea54f6470a859d8bd4073a47b8"));
+		}
+	}
+	
+	@Test
+	public void testApplyChangesRepeatedly() throws Exception {
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore);
+				JsonLDStore targetStore = new JsonLDStore(new InMemSpdxStore())) {
+			for (JsonLDStore store:Arrays.asList(ldStore, targetStore)) {
+				try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+					store.deSerialize(fis, false);
+				}
+			}
+			String checkpoint = ldStore.createCheckpoint();
+			SpdxPackage pkg = (SpdxPackage)SpdxModelFactory.inflateModelObject(ldStore, packageSpdxId, 
+					SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, null, "3.0.1", false, "");
+			pkg.getVerifiedUsings().add(pkg.createHash(ldStore.getNextId(IdType.Anonymous))
+					.setAlgorithm(HashAlgorithm.SHA256)
+					.setHashValue("d301fcd0b7c84c879456eb041af246fbc7edbfea54f6470a859d8bd4073a47b8")
+					.build());
+			ByteArrayOutputStream changes = new ByteArrayOutputStream();
+			ldStore.serializeChanges(changes, checkpoint);
+			
+			long creationInfoCount = targetStore.getAllItems(null, SpdxConstantsV3.CORE_CREATION_INFO).count();
+			targetStore.applyChanges(new ByteArrayInputStream(changes.toByteArray()));
+			List<Object> hashes = new ArrayList<>();
+			targetStore.listValues(packageSpdxId, SpdxConstantsV3.PROP_VERIFIED_USING).forEachRemaining(hashes::add);
+			assertEquals(1, hashes.size());
+			String firstHashUri = ((TypedValue)hashes.get(0)).getObjectUri();
+			long anonCount = targetStore.getAllItems(null, null).filter(tv -> targetStore.isAnon(tv.getObjectUri())).count();
+			// the creation info in the changes matches the existing creation info
+			assertEquals(creationInfoCount, targetStore.getAllItems(null, SpdxConstantsV3.CORE_CREATION_INFO).count());
+			
+			for (int i = 0; i < 3; i++) {
+				targetStore.applyChanges(new ByteArrayInputStream(changes.toByteArray()));
+			}
+			hashes.clear();
+			targetStore.listValues(packageSpdxId, SpdxConstantsV3.PROP_VERIFIED_USING).forEachRemaining(hashes::add);
+			assertEquals(1, hashes.size());
+			assertFalse(targetStore.exists(firstHashUri));
+			assertEquals(anonCount, targetStore.getAllItems(null, null).filter(tv -> targetStore.isAnon(tv.getObjectUri())).count());
+			assertEquals(creationInfoCount, targetStore.getAllItems(null, SpdxConstantsV3.CORE_CREATION_INFO).count());
+			assertTrue(targetStore.getValue(packageSpdxId, SpdxConstantsV3.PROP_CREATION_INFO).isPresent());
+		}
+	}
+	
+	@Test
+	public void testPruneModificationStamps() throws Exception {
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String deletedFileSpdxId = "http://spdx.example.com/Package1/deletedfile";
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			String checkpoint = ldStore.createCheckpoint();
+			ldStore.create(new TypedValue(deletedFileSpdxId, SpdxConstantsV3.SOFTWARE_SPDX_FILE, "3.0.1"));
+			ldStore.delete(deletedFileSpdxId);
+			ldStore.setValue(packageSpdxId, SpdxConstantsV3.PROP_NAME, "new-name");
+			long packageStamp = ldStore.getModificationStamp(packageSpdxId);
+			assertEquals(2, ldStore.getModificationStampCount());
+			String nextCheckpoint = ldStore.createCheckpoint();
+			ldStore.setValue(packageSpdxId, SpdxConstantsV3.PROP_PACKAGE_VERSION, "2.0");
+			
+			ldStore.pruneModificationStamps(nextCheckpoint);
+			// only the package was modified after the checkpoint
+			assertEquals(1, ldStore.getModificationStampCount());
+			assertNotEquals(packageStamp, ldStore.getModificationStamp(packageSpdxId));
+			// stamps of pruned objects never repeat an earlier value
+			assertTrue(ldStore.getModificationStamp(deletedFileSpdxId) >= packageStamp);
+			
+			ByteArrayOutputStream changes = new ByteArrayOutputStream();
+			ldStore.serializeChanges(changes, nextCheckpoint);
+			JsonNode root = new ObjectMapper().readTree(changes.toByteArray());
+			assertEquals(0, root.get("deleted").size());
+			try {
+				ldStore.serializeChanges(new ByteArrayOutputStream(), checkpoint);
+				fail("Checkpoint created before pruning should not be accepted");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+		}
+	}
+	
+	/**
+	 * Model store recording bulk writes and the writes made one value at a time
+	 */
+	static class BulkWriteStore extends InMemSpdxStore implements IBulkWriteModelStore {
+		int bulkWrites = 0;
+		int singleWrites = 0;
+		private boolean writingBatches = false;
+		
+		@Override
+		public void writeProperties(List<PropertyBatch> batches) throws InvalidSPDXAnalysisException {
+			bulkWrites++;
+			writingBatches = true;
+			try {
+				for (PropertyBatch batch:batches) {
+					batch.writeTo(this);
+				}
+			} finally {
+				writingBatches = false;
+			}
+		}
+		
+		@Override
+		public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+			if (!writingBatches) {
+				singleWrites++;
+			}
+			super.setValue(objectUri, propertyDescriptor, value);
+		}
+		
+		@Override
+		public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+			if (!writingBatches) {
+				singleWrites++;
+			}
+			return super.addValueToCollection(objectUri, propertyDescriptor, value);
+		}
+	}
+	
+	@Test
+	public void testBulkWrites() throws Exception {
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			ldStore.serialize(expected);
+		}
+		BulkWriteStore bulkStore = new BulkWriteStore();
+		try (JsonLDStore ldStore = new JsonLDStore(bulkStore)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			assertTrue(bulkStore.bulkWrites > 0);
+			int singleWrites = bulkStore.singleWrites;
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			ldStore.serialize(result);
+			assertEquals(expected.toString("UTF-8"), result.toString("UTF-8"));
+			
+			// writes made directly to the JSON LD store are written one value at a time
+			ldStore.setValue("http://spdx.example.com/Package1", SpdxConstantsV3.PROP_NAME, "new-name");
+			assertEquals(singleWrites + 1, bulkStore.singleWrites);
+		}
+	}
+	
+	@Test
+	public void testBinaryEncodings() throws Exception {
+		String specVersion = "3.0.1";
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String packageName = "my-package";
+		
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore, false)) {
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			byte[] text;
+			try (ByteArrayOutputStream bas = new ByteArrayOutputStream()) {
+				ldStore.serialize(bas);
+				text = bas.toByteArray();
+			}
+			JsonNode textRoot = JsonLDStore.JSON_MAPPER.readTree(text);
+			for (JsonLDEncoding encoding:new JsonLDEncoding[] {JsonLDEncoding.SMILE, JsonLDEncoding.CBOR}) {
+				ldStore.setEncoding(encoding);
+				assertEquals(encoding, ldStore.getEncoding());
+				byte[] binary;
+				try (ByteArrayOutputStream bas = new ByteArrayOutputStream()) {
+					ldStore.serialize(bas);
+					binary = bas.toByteArray();
+				}
+				assertTrue(binary.length < text.length);
+				ObjectMapper binaryMapper = encoding == JsonLDEncoding.SMILE ? JsonLDStore.SMILE_MAPPER : JsonLDStore.CBOR_MAPPER;
+				assertEquals(textRoot, binaryMapper.readTree(binary));
+				
+				try (JsonLDStore binaryStore = new JsonLDStore(new InMemSpdxStore())) {
+					binaryStore.setEncoding(encoding);
+					SpdxDocument result = binaryStore.deSerialize(new ByteArrayInputStream(binary), false);
+					assertTrue(result.verify().isEmpty());
+					SpdxPackage packageResult = (SpdxPackage)SpdxModelFactory.inflateModelObject(binaryStore, packageSpdxId, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, null, specVersion, false, "");
+					assertEquals(packageName, packageResult.getName().get());
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.JsonLDStore#setStreamingDeserialization(boolean)}.
+	 * @throws Exception 
+	 */
+	@Test
+	public void testDeSerializeStreaming() throws Exception {
+		String specVersion = "3.0.1";
+		String documentSpdxId = "http://spdx.example.com/Document1";
+		String sbomSpdxId = "http://spdx.example.com/BOM1";
+		String packageSpdxId = "http://spdx.example.com/Package1";
+		String fileSpdxId = "http://spdx.example.com/Package1/myprogram";
+		String relationshipSpdxId = "http://spdx.example.com/Relationship/1";
+		String personName = "Joshua Watt";
+		
+		try (JsonLDStore ldStore = new JsonLDStore(innerStore)) {
+			ldStore.setStreamingDeserialization(true);
+			assertTrue(ldStore.getStreamingDeserialization());
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				ldStore.deSerialize(fis, false);
+			}
+			
+			SpdxDocument documentResult = (SpdxDocument)SpdxModelFactory.inflateModelObject(ldStore, documentSpdxId, SpdxConstantsV3.CORE_SPDX_DOCUMENT, null, specVersion, false, "");
+			// the SBOM is a forward reference from the document
+			assertEquals(1, documentResult.getRootElements().size());
+			assertEquals(sbomSpdxId, documentResult.getRootElements().toArray(new Element[1])[0].getObjectUri());
+			assertEquals(personName, documentResult.getCreationInfo().getCreatedBys().toArray(new Agent[documentResult.getCreationInfo().getCreatedBys().size()])[0].getName().get());
+			
+			Sbom sbomResult = (Sbom)SpdxModelFactory.inflateModelObject(ldStore, sbomSpdxId, SpdxConstantsV3.SOFTWARE_SBOM, null, specVersion, false, "");
+			assertEquals(packageSpdxId, sbomResult.getRootElements().toArray(new Element[1])[0].getObjectUri());
+			
+			Relationship relationshipResult = (Relationship)SpdxModelFactory.inflateModelObject(ldStore, relationshipSpdxId, SpdxConstantsV3.CORE_RELATIONSHIP, null, specVersion, false, "");
+			assertEquals(packageSpdxId, relationshipResult.getFrom().getObjectUri());
+			assertEquals(fileSpdxId, relationshipResult.getTos().toArray(new Element[1])[0].getObjectUri());
+			
+			assertTrue(documentResult.verify().isEmpty());
+			
+			try (FileInputStream fis = new FileInputStream(new File(PACKAGE_SBOM_FILE))) {
+				try {
+					ldStore.deSerialize(fis, false);
+					fail("No overwrite should faild here");
+				} catch (InvalidSPDXAnalysisException ex) {
+					//expected
+				}
+			}
+		}
+	}
 
 }
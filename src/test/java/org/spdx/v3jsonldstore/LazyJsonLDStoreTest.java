@@ -0,0 +1,166 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.library.model.v3_0_1.core.SpdxDocument;
+import org.spdx.library.model.v3_0_1.software.SpdxFile;
+import org.spdx.library.model.v3_0_1.software.SpdxPackage;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class LazyJsonLDStoreTest {
+
+	private static final Path PACKAGE_SBOM_FILE = Paths.get("TestFiles", "package_sbom.json");
+	private static final String PACKAGE_URI = "http://spdx.example.com/Package1";
+	private static final String FILE_URI = "http://spdx.example.com/Package1/myprogram";
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+	}
+
+	@Test
+	public void testIndex() throws Exception {
+		try (LazyJsonLDStore store = new LazyJsonLDStore(new InMemSpdxStore(), PACKAGE_SBOM_FILE)) {
+			assertEquals(7, store.getIndexedCount());
+			assertEquals(0, store.getInflatedCount());
+			assertTrue(store.exists(PACKAGE_URI));
+			assertEquals(SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, store.getTypedValue(PACKAGE_URI).get().getType());
+			assertEquals(1, store.getAllItems(null, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE).count());
+			assertEquals(0, store.getInflatedCount());
+		}
+	}
+
+	@Test
+	public void testInflateOnDemand() throws Exception {
+		try (LazyJsonLDStore store = new LazyJsonLDStore(new InMemSpdxStore(), PACKAGE_SBOM_FILE)) {
+			SpdxPackage pkg = (SpdxPackage)SpdxModelFactory.inflateModelObject(store, PACKAGE_URI,
+					SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, null, "3.0.1", false, null);
+			assertEquals("my-package", pkg.getName().get());
+			assertEquals("1.0", pkg.getPackageVersion().get());
+			assertEquals("3.0.1", pkg.getCreationInfo().getSpecVersion());
+			SpdxDocument doc = store.getSpdxDocument().get();
+			assertEquals(1, doc.getRootElements().size());
+		}
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		try (LazyJsonLDStore store = new LazyJsonLDStore(new InMemSpdxStore(), PACKAGE_SBOM_FILE, 1)) {
+			SpdxPackage pkg = (SpdxPackage)SpdxModelFactory.inflateModelObject(store, PACKAGE_URI,
+					SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, null, "3.0.1", false, null);
+			SpdxFile file = (SpdxFile)SpdxModelFactory.inflateModelObject(store, FILE_URI,
+					SpdxConstantsV3.SOFTWARE_SPDX_FILE, null, "3.0.1", false, null);
+			assertEquals("myprogram", file.getName().get());
+			assertEquals(1, store.getInflatedCount());
+			// evicted elements are inflated again when accessed
+			assertEquals("my-package", pkg.getName().get());
+			assertEquals(1, store.getInflatedCount());
+		}
+	}
+
+	@Test
+	public void testNestedObjectAfterEviction() throws Exception {
+		String hashValue = "d301fcd0b7c84c879456eb041af246fbc7edbfea54f6470a859d8bd4073a47b8";
+		Path sbomFile = Files.createTempFile("lazy", ".json");
+		try {
+			try (JsonLDStore source = new JsonLDStore(new InMemSpdxStore())) {
+				try (InputStream input = Files.newInputStream(PACKAGE_SBOM_FILE)) {
+					source.deSerialize(input, false);
+				}
+				TypedValue hash = new TypedValue(source.getNextId(IdType.Anonymous), SpdxConstantsV3.CORE_HASH, "3.0.1");
+				source.create(hash);
+				source.setValue(hash.getObjectUri(), SpdxConstantsV3.PROP_HASH_VALUE, hashValue);
+				source.addValueToCollection(PACKAGE_URI, SpdxConstantsV3.PROP_VERIFIED_USING, hash);
+				try (OutputStream output = Files.newOutputStream(sbomFile)) {
+					source.serialize(output);
+				}
+			}
+			try (LazyJsonLDStore store = new LazyJsonLDStore(new InMemSpdxStore(), sbomFile, 1)) {
+				TypedValue hash = (TypedValue)store.listValues(PACKAGE_URI, SpdxConstantsV3.PROP_VERIFIED_USING).next();
+				assertEquals(hashValue, store.getValue(hash.getObjectUri(), SpdxConstantsV3.PROP_HASH_VALUE).get());
+				// evicts the package along with the nested hash
+				assertEquals("myprogram", store.getValue(FILE_URI, SpdxConstantsV3.PROP_NAME).get());
+				assertEquals(1, store.getInflatedCount());
+				// reading the nested hash inflates the package again with the same nested object URIs
+				assertTrue(store.exists(hash.getObjectUri()));
+				assertEquals(hashValue, store.getValue(hash.getObjectUri(), SpdxConstantsV3.PROP_HASH_VALUE).get());
+				assertEquals(hash, store.listValues(PACKAGE_URI, SpdxConstantsV3.PROP_VERIFIED_USING).next());
+				assertEquals(1, store.getInflatedCount());
+			}
+		} finally {
+			Files.delete(sbomFile);
+		}
+	}
+
+	@Test
+	public void testConcurrentReadsWithEviction() throws Exception {
+		try (LazyJsonLDStore store = new LazyJsonLDStore(new InMemSpdxStore(), PACKAGE_SBOM_FILE, 1)) {
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					// alternate threads read different elements so that each read evicts the other element
+					String objectUri = i % 2 == 0 ? PACKAGE_URI : FILE_URI;
+					String expectedName = i % 2 == 0 ? "my-package" : "myprogram";
+					futures.add(executor.submit(() -> {
+						for (int j = 0; j < 500; j++) {
+							assertEquals(expectedName, store.getValue(objectUri, SpdxConstantsV3.PROP_NAME).get());
+							List<Object> originators = new ArrayList<>();
+							store.listValues(objectUri, SpdxConstantsV3.PROP_ORIGINATED_BY).forEachRemaining(originators::add);
+							assertEquals(1, originators.size());
+							assertFalse(store.getPropertyValueDescriptors(objectUri).isEmpty());
+						}
+						return null;
+					}));
+				}
+				for (Future<?> future:futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+			assertEquals(1, store.getInflatedCount());
+		}
+	}
+
+	@Test
+	public void testReadOnly() throws Exception {
+		try (LazyJsonLDStore store = new LazyJsonLDStore(new InMemSpdxStore(), PACKAGE_SBOM_FILE)) {
+			try {
+				store.setValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME, "new name");
+				fail("Lazy store should be read only");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+		}
+	}
+}
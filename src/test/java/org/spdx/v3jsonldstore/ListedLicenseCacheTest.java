@@ -0,0 +1,91 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ListedLicenseCacheTest {
+
+	static final String APACHE_URI = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + "Apache-2.0";
+	static final String NOT_LISTED_URI = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + "Not-A-Listed-License";
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+	}
+
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.ListedLicenseCache#isListedLicenseOrException(java.lang.String)}.
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	@Test
+	public void testIsListedLicenseOrException() throws InvalidSPDXAnalysisException {
+		ListedLicenseCache cache = new ListedLicenseCache();
+		assertTrue(cache.isListedLicenseOrException(APACHE_URI));
+		assertTrue(cache.isListedLicenseOrException(APACHE_URI));
+		assertFalse(cache.isListedLicenseOrException(NOT_LISTED_URI));
+		assertFalse(cache.isListedLicenseOrException(NOT_LISTED_URI));
+	}
+
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.ListedLicenseCache#getOrCopy(org.spdx.storage.IModelStore, java.lang.String, java.lang.String, org.spdx.library.ModelCopyManager)}.
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	@Test
+	public void testGetOrCopy() throws InvalidSPDXAnalysisException {
+		ListedLicenseCache cache = new ListedLicenseCache();
+		IModelStore store = new InMemSpdxStore();
+		IModelStore otherStore = new InMemSpdxStore();
+		ModelCopyManager copyManager = new ModelCopyManager();
+		TypedValue result = cache.getOrCopy(store, APACHE_URI, "3.0.1", copyManager);
+		assertEquals(APACHE_URI, result.getObjectUri());
+		assertTrue(store.exists(APACHE_URI));
+		assertSame(result, cache.getOrCopy(store, APACHE_URI, "3.0.1", copyManager));
+		assertFalse(otherStore.exists(APACHE_URI));
+		cache.getOrCopy(otherStore, APACHE_URI, "3.0.1", copyManager);
+		assertTrue(otherStore.exists(APACHE_URI));
+		cache.clear();
+		assertNotSame(result, cache.getOrCopy(store, APACHE_URI, "3.0.1", copyManager));
+	}
+
+	@Test
+	public void testGetOrCopyDeleted() throws InvalidSPDXAnalysisException {
+		ListedLicenseCache cache = new ListedLicenseCache();
+		IModelStore store = new InMemSpdxStore();
+		ModelCopyManager copyManager = new ModelCopyManager();
+		TypedValue result = cache.getOrCopy(store, APACHE_URI, "3.0.1", copyManager);
+		assertTrue(store.exists(APACHE_URI));
+		store.delete(APACHE_URI);
+		assertFalse(store.exists(APACHE_URI));
+		// the cached copy no longer exists in the store, so a later deserialization copies it again
+		ModelCopyManager nextCopyManager = new ModelCopyManager();
+		TypedValue recopied = cache.getOrCopy(store, APACHE_URI, "3.0.1", nextCopyManager);
+		assertNotSame(result, recopied);
+		assertTrue(store.exists(APACHE_URI));
+		assertSame(recopied, cache.getOrCopy(store, APACHE_URI, "3.0.1", nextCopyManager));
+	}
+
+	@Test
+	public void testGetSharedCache() {
+		assertSame(ListedLicenseCache.getSharedCache(), ListedLicenseCache.getSharedCache());
+	}
+}
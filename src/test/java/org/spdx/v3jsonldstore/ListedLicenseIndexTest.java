@@ -0,0 +1,120 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.IndividualUriValue;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ListedLicenseIndexTest {
+
+	ListedLicenseIndex index;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+		Map<String, String> licenses = new HashMap<>();
+		licenses.put("Apache-2.0", "Apache License 2.0");
+		licenses.put("MIT", "MIT License");
+		Map<String, String> exceptions = new HashMap<>();
+		exceptions.put("Classpath-exception-2.0", "Classpath exception 2.0");
+		index = new ListedLicenseIndex("3.24", licenses, exceptions);
+	}
+
+	@Test
+	public void testLookups() {
+		assertEquals("3.24", index.getLicenseListVersion());
+		assertTrue(index.isListedLicenseId("MIT"));
+		assertFalse(index.isListedExceptionId("MIT"));
+		assertTrue(index.isListedExceptionId("Classpath-exception-2.0"));
+		assertFalse(index.isListedLicenseId("Classpath-exception-2.0"));
+		assertFalse(index.isListedLicenseId("Not-A-License"));
+		assertEquals(Optional.of("Apache License 2.0"), index.getName("Apache-2.0"));
+		assertEquals(Optional.of("Classpath exception 2.0"), index.getName("Classpath-exception-2.0"));
+		assertFalse(index.getName("Not-A-License").isPresent());
+	}
+
+	/**
+	 * Test method for {@link org.spdx.v3jsonldstore.ListedLicenseIndex#write(java.io.OutputStream)}.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWriteLoad() throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		index.write(bos);
+		ListedLicenseIndex result = ListedLicenseIndex.load(new ByteArrayInputStream(bos.toByteArray()));
+		assertEquals("3.24", result.getLicenseListVersion());
+		assertTrue(result.isListedLicenseId("Apache-2.0"));
+		assertTrue(result.isListedLicenseId("MIT"));
+		assertTrue(result.isListedExceptionId("Classpath-exception-2.0"));
+		assertEquals(Optional.of("MIT License"), result.getName("MIT"));
+	}
+
+	@Test
+	public void testLoadInvalid() {
+		try {
+			ListedLicenseIndex.load(new ByteArrayInputStream("{\"licenses\":{}}".getBytes(StandardCharsets.UTF_8)));
+			fail("Missing license list version should fail");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testGetBundledIndex() throws IOException {
+		Optional<ListedLicenseIndex> bundled = ListedLicenseIndex.getBundledIndex();
+		assertTrue(bundled.isPresent());
+		assertSame(bundled.get(), ListedLicenseIndex.getBundledIndex().get());
+		assertFalse(bundled.get().getLicenseListVersion().isEmpty());
+		assertTrue(bundled.get().isListedLicenseId("Apache-2.0"));
+		assertTrue(bundled.get().isListedExceptionId("Classpath-exception-2.0"));
+	}
+
+	@Test
+	public void testPinnedCache() throws InvalidSPDXAnalysisException {
+		ListedLicenseCache cache = new ListedLicenseCache(index);
+		assertSame(index, cache.getIndex().get());
+		String mitUri = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + "MIT";
+		String exceptionUri = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + "Classpath-exception-2.0";
+		assertTrue(cache.isListedLicenseOrException(mitUri));
+		assertTrue(cache.isListedLicenseOrException(exceptionUri));
+		assertFalse(cache.isListedLicenseOrException(SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + "GPL-2.0-only"));
+		IModelStore store = new InMemSpdxStore();
+		// pinned caches store external references rather than incomplete copies
+		Object stored = cache.getStoredValue(store, mitUri, "3.0.1", new ModelCopyManager());
+		assertTrue(stored instanceof IndividualUriValue);
+		assertEquals(mitUri, ((IndividualUriValue)stored).getIndividualURI());
+		assertFalse(store.exists(mitUri));
+		try {
+			cache.getOrCopy(store, exceptionUri, "3.0.1", new ModelCopyManager());
+			fail("A pinned cache should not copy listed licenses");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+	}
+}
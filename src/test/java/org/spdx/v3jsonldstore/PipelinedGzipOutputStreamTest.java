@@ -0,0 +1,99 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class PipelinedGzipOutputStreamTest {
+
+	private static byte[] decompress(byte[] compressed) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = is.read(buffer)) >= 0) {
+				result.write(buffer, 0, count);
+			}
+		}
+		return result.toByteArray();
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		// larger than several chunks so that the writer waits on the compression thread
+		byte[] data = new byte[PipelinedGzipOutputStream.CHUNK_SIZE * (PipelinedGzipOutputStream.MAX_PENDING_CHUNKS + 3) + 17];
+		new Random(42).nextBytes(data);
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (OutputStream os = new PipelinedGzipOutputStream(compressed)) {
+			os.write(data[0]);
+			os.write(data, 1, 1000);
+			os.flush();
+			os.write(data, 1001, data.length - 1001);
+		}
+		assertArrayEquals(data, decompress(compressed.toByteArray()));
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		new PipelinedGzipOutputStream(compressed).close();
+		assertEquals(0, decompress(compressed.toByteArray()).length);
+	}
+
+	@Test
+	public void testFailure() {
+		OutputStream failing = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Test failure");
+			}
+		};
+		byte[] data = new byte[PipelinedGzipOutputStream.CHUNK_SIZE * (PipelinedGzipOutputStream.MAX_PENDING_CHUNKS + 3)];
+		boolean reported = false;
+		// the failure is reported by either a write or the close
+		try (OutputStream os = new PipelinedGzipOutputStream(failing)) {
+			os.write(data);
+		} catch (IOException e) {
+			reported = true;
+		}
+		assertTrue("Compression failure should be reported", reported);
+	}
+
+	@Test(timeout = 10000)
+	public void testFailureOnFinish() {
+		// accepts the gzip header but fails when the compressed data is written as the stream is finished
+		OutputStream failing = new OutputStream() {
+			private int written = 0;
+
+			@Override
+			public void write(int b) throws IOException {
+				if (++written > 10) {
+					throw new IOException("Test failure");
+				}
+			}
+		};
+		boolean reported = false;
+		try (OutputStream os = new PipelinedGzipOutputStream(failing)) {
+			os.write(new byte[1000]);
+		} catch (IOException e) {
+			reported = true;
+		}
+		assertTrue("Compression failure should be reported", reported);
+	}
+}
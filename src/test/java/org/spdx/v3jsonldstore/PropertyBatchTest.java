@@ -0,0 +1,66 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.v3jsonldstore;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.TypedValue;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxConstantsV3;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class PropertyBatchTest {
+
+	private static final String PACKAGE_URI = "http://spdx.example.com/Package1";
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxModelFactory.init();
+	}
+
+	@Test
+	public void testBatch() {
+		PropertyBatch batch = new PropertyBatch(PACKAGE_URI);
+		assertEquals(PACKAGE_URI, batch.getObjectUri());
+		assertTrue(batch.isEmpty());
+		batch.setValue(SpdxConstantsV3.PROP_NAME, "first");
+		batch.setValue(SpdxConstantsV3.PROP_NAME, "second");
+		batch.addValueToCollection(SpdxConstantsV3.PROP_ATTRIBUTION_TEXT, "first");
+		batch.addValueToCollection(SpdxConstantsV3.PROP_ATTRIBUTION_TEXT, "second");
+		assertFalse(batch.isEmpty());
+		// set values replace, collection values accumulate
+		assertEquals("second", batch.getValues().get(SpdxConstantsV3.PROP_NAME));
+		assertEquals(Arrays.asList("first", "second"), batch.getCollectionValues().get(SpdxConstantsV3.PROP_ATTRIBUTION_TEXT));
+	}
+
+	@Test
+	public void testWriteTo() throws Exception {
+		IModelStore store = new InMemSpdxStore();
+		store.create(new TypedValue(PACKAGE_URI, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, "3.0.1"));
+		PropertyBatch batch = new PropertyBatch(PACKAGE_URI);
+		batch.setValue(SpdxConstantsV3.PROP_NAME, "my-package");
+		batch.addValueToCollection(SpdxConstantsV3.PROP_ATTRIBUTION_TEXT, "first");
+		batch.addValueToCollection(SpdxConstantsV3.PROP_ATTRIBUTION_TEXT, "second");
+		batch.writeTo(store);
+		assertEquals("my-package", store.getValue(PACKAGE_URI, SpdxConstantsV3.PROP_NAME).get());
+		List<Object> attributions = new ArrayList<>();
+		store.listValues(PACKAGE_URI, SpdxConstantsV3.PROP_ATTRIBUTION_TEXT).forEachRemaining(attributions::add);
+		assertEquals(Arrays.asList("first", "second"), attributions);
+	}
+}